@@ -2,9 +2,11 @@ package com.catalin.tennis;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @SpringBootApplication
+@EnableScheduling
 public class TennisMatchApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,73 @@
+package com.catalin.tennis;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs request handling, MVC async work (the streamed CSV exports) and scheduled jobs (notification outbox
+ * and retention, live score heartbeats, refresh token purge, JWT key reload) on virtual threads when {@code execution.virtual-threads=true}. Without it the
+ * platform thread pools of Tomcat and Spring's task auto-configuration are used.
+ * <p>
+ * A virtual thread blocked on JDBC costs no platform thread, so the connection pool rather than the thread
+ * count bounds concurrent database work. Connector/J 8.0 blocks on the socket inside {@code synchronized}
+ * code, which pins the carrier thread for the length of each statement: when the pool is as large as the
+ * carrier count, a burst of queries can pin every carrier and stall all other requests until one returns.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "execution.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return handler -> handler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-", 0).factory()));
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setThreadFactory(Thread.ofVirtual().name("task-", 0).factory());
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:5}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        // sized like the platform scheduler: a thread per @Scheduled job, so a long retention run
+        // never delays the outbox writer, the SSE heartbeats or the key reload
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 0).factory());
+        return scheduler;
+    }
+
+    @Bean
+    public ApplicationRunner connectionPoolCarrierCheck(DataSource dataSource) {
+        return args -> {
+            int carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                    Runtime.getRuntime().availableProcessors());
+            if (dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() >= carriers) {
+                logger.warn("The connection pool ({} connections) can pin all {} carrier threads; lower "
+                                + "spring.datasource.hikari.maximum-pool-size or raise -Djdk.virtualThreadScheduler.parallelism",
+                        hikari.getMaximumPoolSize(), carriers);
+            }
+        };
+    }
+}
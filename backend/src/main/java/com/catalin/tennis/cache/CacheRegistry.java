@@ -0,0 +1,53 @@
+package com.catalin.tennis.cache;
+
+import com.catalin.tennis.dto.response.CacheStatsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The in-process Caffeine caches of the application, by name, so their hit rate, load time and size can be
+ * reported in one place. Caches must be built with {@code recordStats()}. As a {@link MeterBinder} it also
+ * publishes them as {@code cache.*} meters, including caches registered after the meter registry is bound.
+ */
+@Component
+public class CacheRegistry implements MeterBinder {
+
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentSkipListMap<>();
+    private MeterRegistry meterRegistry;
+
+    public synchronized void register(String name, Cache<?, ?> cache) {
+        caches.put(name, cache);
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        }
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        meterRegistry = registry;
+        caches.forEach((name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    }
+
+    public Map<String, Cache<?, ?>> getCaches() {
+        return Map.copyOf(caches);
+    }
+
+    public List<CacheStatsDTO> snapshot() {
+        List<CacheStatsDTO> stats = new ArrayList<>(caches.size());
+        caches.forEach((name, cache) -> {
+            CacheStats s = cache.stats();
+            stats.add(new CacheStatsDTO(name, cache.estimatedSize(), s.hitCount(), s.missCount(), s.hitRate(),
+                    s.loadCount(), s.averageLoadPenalty() / 1_000_000.0, s.evictionCount()));
+        });
+        return stats;
+    }
+}
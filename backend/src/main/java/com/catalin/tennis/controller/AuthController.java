@@ -1,8 +1,10 @@
 package com.catalin.tennis.controller;
 
 import com.catalin.tennis.dto.request.LoginDTO;
+import com.catalin.tennis.dto.request.RefreshTokenDTO;
 import com.catalin.tennis.dto.request.RegisterUserDTO;
 import com.catalin.tennis.dto.response.UserResponseDTO;
+import com.catalin.tennis.service.RefreshTokenService;
 import com.catalin.tennis.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,10 +22,12 @@ import java.util.Map;
 @RequestMapping("/api/auth")
 public class AuthController {
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     @Autowired
-    public AuthController(UserService userService){
+    public AuthController(UserService userService, RefreshTokenService refreshTokenService){
         this.userService=userService;
+        this.refreshTokenService=refreshTokenService;
     }
 
     @PostMapping("/register")
@@ -37,4 +41,15 @@ public class AuthController {
         Map<String,String> token = userService.login(loginDTO);
         return ResponseEntity.ok(token);
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String,String>> refresh(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO) {
+        return ResponseEntity.ok(refreshTokenService.refresh(refreshTokenDTO.getRefreshToken()));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenDTO refreshTokenDTO) {
+        refreshTokenService.revoke(refreshTokenDTO.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,25 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.response.CacheStatsDTO;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheStatsController {
+    private final CacheRegistry cacheRegistry;
+
+    public CacheStatsController(CacheRegistry cacheRegistry) {
+        this.cacheRegistry = cacheRegistry;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(cacheRegistry.snapshot());
+    }
+}
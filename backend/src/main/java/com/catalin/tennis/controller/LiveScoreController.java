@@ -0,0 +1,29 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.live.LiveScoreBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+public class LiveScoreController {
+    private final LiveScoreBroadcaster broadcaster;
+
+    public LiveScoreController(LiveScoreBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(value = "/tournaments/{tournamentId}/scores", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToTournament(@PathVariable Long tournamentId) {
+        return broadcaster.subscribeToTournament(tournamentId);
+    }
+
+    @GetMapping(value = "/matches/{matchId}/scores", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToMatch(@PathVariable Long matchId) {
+        return broadcaster.subscribeToMatch(matchId);
+    }
+}
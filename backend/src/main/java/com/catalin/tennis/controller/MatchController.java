@@ -1,47 +1,58 @@
 package com.catalin.tennis.controller;
 
 import com.catalin.tennis.dto.request.CreateMatchDTO;
+import com.catalin.tennis.dto.request.PlayerMatchFilterDTO;
 import com.catalin.tennis.dto.request.UpdateScoreDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.MatchImportResultDTO;
 import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.service.MatchImportService;
 import com.catalin.tennis.service.MatchService;
-import com.catalin.tennis.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.MediaType;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/matches")
 public class MatchController {
 
     private final MatchService matchService;
-    private final UserService userService;
+    private final MatchImportService matchImportService;
 
-    public MatchController(MatchService matchService, UserService userService) {
+    public MatchController(MatchService matchService, MatchImportService matchImportService) {
         this.matchService = matchService;
-        this.userService = userService;
+        this.matchImportService = matchImportService;
     }
 
     @PostMapping
     public ResponseEntity<MatchResponseDTO> createMatch(@Valid @RequestBody CreateMatchDTO dto) {
-        Long player1Id = userService.getUserIdByUsername(dto.getPlayer1Username());
-        Long player2Id = userService.getUserIdByUsername(dto.getPlayer2Username());
-        Long refereeId = userService.getUserIdByUsername(dto.getRefereeUsername());
-
-        dto.setPlayer1Id(player1Id);
-        dto.setPlayer2Id(player2Id);
-        dto.setRefereeId(refereeId);
-
         MatchResponseDTO response = matchService.createMatch(dto);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<MatchImportResultDTO> importMatchesCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(matchImportService.importCsv(bodyReader(request)));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<MatchImportResultDTO> importMatchesNdjson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(matchImportService.importNdjson(bodyReader(request)));
+    }
+
     @PutMapping("/score")
     public ResponseEntity<MatchResponseDTO> updateScore(@Valid @RequestBody UpdateScoreDTO dto) {
         MatchResponseDTO response = matchService.updateScore(dto);
@@ -65,6 +76,12 @@ public class MatchController {
         return ResponseEntity.ok(matches);
     }
 
+    @GetMapping(value = "/tournament/{tournamentId}", params = "size")
+    public ResponseEntity<KeysetPageDTO<MatchResponseDTO>> getMatchesByTournamentPage(
+            @PathVariable Long tournamentId, @RequestParam int size, @RequestParam(required = false) String pageToken) {
+        return ResponseEntity.ok(matchService.getMatchesByTournamentPage(tournamentId, pageToken, size));
+    }
+
     @GetMapping("/referee/username/{refereeUsername}")
     public ResponseEntity<List<MatchResponseDTO>> getMatchesByRefereeUsername(@PathVariable String refereeUsername) {
         List<MatchResponseDTO> matches = matchService.getMatchesByRefereeUsername(refereeUsername);
@@ -76,18 +93,38 @@ public class MatchController {
         List<MatchResponseDTO> matches = matchService.getMatchesByPlayer(username);
         return ResponseEntity.ok(matches);
     }
+
+    @GetMapping(value = "/player/{username}", params = "size")
+    public ResponseEntity<KeysetPageDTO<MatchResponseDTO>> getMatchesByPlayerPage(
+            @PathVariable String username, PlayerMatchFilterDTO filters, @RequestParam int size,
+            @RequestParam(required = false) String pageToken) {
+        return ResponseEntity.ok(matchService.getMatchesByPlayerPage(username, filters, pageToken, size));
+    }
     @GetMapping("/export/tournament/{tournamentId}")
-    public ResponseEntity<Resource> exportMatchesToCsvByTournament(@PathVariable Long tournamentId) {
-        byte[] csvData = matchService.exportMatchesToCsvByTournament(tournamentId);
-        ByteArrayResource resource = new ByteArrayResource(csvData);
+    public ResponseEntity<StreamingResponseBody> exportMatchesToCsvByTournament(
+            @PathVariable Long tournamentId,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        String filename = "matches_tournament_" + tournamentId + (gzip ? ".csv.gz" : ".csv");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                matchService.exportMatchesToCsvByTournament(tournamentId, gzipOut);
+                gzipOut.finish();
+            } else {
+                matchService.exportMatchesToCsvByTournament(tournamentId, out);
+            }
+        };
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=matches_tournament_" + tournamentId + ".csv")
-                .contentType(MediaType.parseMediaType("text/csv"))
-                .contentLength(csvData.length)
-                .body(resource);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv"))
+                .body(body);
     }
 
-
-
+    private static Reader bodyReader(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8 : Charset.forName(request.getCharacterEncoding());
+        return new InputStreamReader(request.getInputStream(), charset);
+    }
 }
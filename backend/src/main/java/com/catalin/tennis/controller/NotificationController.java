@@ -1,12 +1,17 @@
 package com.catalin.tennis.controller;
 
+import com.catalin.tennis.dto.request.MarkNotificationsReadDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.NotificationReadResultDTO;
 import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.dto.response.NotificationSyncDTO;
 import com.catalin.tennis.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -24,6 +29,37 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getUserNotifications(username));
     }
 
+    // "after" selects the delta sync below, which takes a size of its own
+    @GetMapping(value = "/user/{username}", params = {"size", "!after"})
+    public ResponseEntity<KeysetPageDTO<NotificationResponseDTO>> getUserNotificationsPage(
+            @PathVariable String username, @RequestParam int size, @RequestParam(required = false) String pageToken) {
+        return ResponseEntity.ok(notificationService.getUserNotificationsPage(username, pageToken, size));
+    }
+
+    @GetMapping(value = "/user/{username}", params = "after")
+    public ResponseEntity<NotificationSyncDTO> getUserNotificationsSince(
+            @PathVariable String username, @RequestParam long after, @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getUserNotificationsSince(username, after, size));
+    }
+
+    @GetMapping("/user/{username}/archive")
+    public ResponseEntity<KeysetPageDTO<NotificationResponseDTO>> searchArchivedNotifications(
+            @PathVariable String username, @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "20") int size, @RequestParam(required = false) String pageToken) {
+        return ResponseEntity.ok(notificationService.searchArchivedNotifications(username, q, pageToken, size));
+    }
+
+    @GetMapping("/user/{username}/unread-count")
+    public ResponseEntity<Map<String, Integer>> getUnreadCount(@PathVariable String username) {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(username)));
+    }
+
+    @PostMapping("/user/{username}/mark-as-read")
+    public ResponseEntity<NotificationReadResultDTO> markAsRead(@PathVariable String username,
+                                                                @RequestBody MarkNotificationsReadDTO dto) {
+        return ResponseEntity.ok(notificationService.markAsRead(username, dto));
+    }
+
     @PostMapping("/mark-as-read/{id}")
     public ResponseEntity<String> markAsRead(@PathVariable Long id) {
         notificationService.markAsRead(id);
@@ -0,0 +1,25 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.notification.NotificationRetentionJob;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/notifications")
+public class NotificationRetentionController {
+    private final NotificationRetentionJob retentionJob;
+
+    public NotificationRetentionController(NotificationRetentionJob retentionJob) {
+        this.retentionJob = retentionJob;
+    }
+
+    /** Runs the retention job now instead of waiting for its schedule. */
+    @PostMapping("/archive")
+    public ResponseEntity<Map<String, Integer>> archive() {
+        return ResponseEntity.ok(Map.of("archived", retentionJob.archiveReadNotifications()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.dto.response.PlayerRatingDTO;
+import com.catalin.tennis.service.RatingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/ratings")
+public class RatingController {
+    private final RatingService ratingService;
+
+    public RatingController(RatingService ratingService) {
+        this.ratingService = ratingService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PlayerRatingDTO>> getTopRated(@RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ratingService.getTopRated(size));
+    }
+
+    @GetMapping("/player/{username}")
+    public ResponseEntity<PlayerRatingDTO> getPlayerRating(@PathVariable String username) {
+        return ResponseEntity.ok(ratingService.getPlayerRating(username));
+    }
+}
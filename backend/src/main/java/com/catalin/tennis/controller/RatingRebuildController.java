@@ -0,0 +1,23 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.dto.response.RatingRebuildResultDTO;
+import com.catalin.tennis.service.RatingService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/ratings")
+public class RatingRebuildController {
+    private final RatingService ratingService;
+
+    public RatingRebuildController(RatingService ratingService) {
+        this.ratingService = ratingService;
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<RatingRebuildResultDTO> rebuild() {
+        return ResponseEntity.ok(ratingService.rebuild());
+    }
+}
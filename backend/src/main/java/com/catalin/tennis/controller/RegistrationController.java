@@ -1,9 +1,12 @@
 package com.catalin.tennis.controller;
 
+import com.catalin.tennis.dto.request.BulkRegistrationDecisionDTO;
 import com.catalin.tennis.dto.request.RegistrationRequestDTO;
+import com.catalin.tennis.dto.response.BulkRegistrationResultDTO;
 import com.catalin.tennis.dto.response.RegistrationResponseDTO;
 import com.catalin.tennis.dto.response.RegistrationStatusDTO;
 import com.catalin.tennis.exception.RegistrationAlreadyExistsException;
+import com.catalin.tennis.model.enums.RegistrationStatus;
 import com.catalin.tennis.service.RegistrationService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -63,6 +66,16 @@ public class RegistrationController {
         registrationService.denyRegistration(id);
         return ResponseEntity.ok("Registration denied");
     }
+
+    @PostMapping("/bulk/approve")
+    public ResponseEntity<BulkRegistrationResultDTO> approveRegistrations(@RequestBody BulkRegistrationDecisionDTO dto) {
+        return ResponseEntity.ok(registrationService.decideRegistrations(dto, RegistrationStatus.APPROVED));
+    }
+
+    @PostMapping("/bulk/deny")
+    public ResponseEntity<BulkRegistrationResultDTO> denyRegistrations(@RequestBody BulkRegistrationDecisionDTO dto) {
+        return ResponseEntity.ok(registrationService.decideRegistrations(dto, RegistrationStatus.DENIED));
+    }
     @GetMapping("/tournament/{tournamentId}/pending")
     public ResponseEntity<List<RegistrationResponseDTO>> getPendingRegistrations(@PathVariable Long tournamentId) {
         List<RegistrationResponseDTO> regs = registrationService.getPendingRegistrationsByTournament(tournamentId);
@@ -0,0 +1,31 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.dto.response.PlayerStandingDTO;
+import com.catalin.tennis.service.StandingsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/standings")
+public class StandingsController {
+    private final StandingsService standingsService;
+
+    public StandingsController(StandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    @GetMapping("/tournament/{tournamentId}")
+    public ResponseEntity<List<PlayerStandingDTO>> getTournamentStandings(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(standingsService.getTournamentStandings(tournamentId));
+    }
+
+    @GetMapping("/player/{username}")
+    public ResponseEntity<List<PlayerStandingDTO>> getPlayerStandings(@PathVariable String username) {
+        return ResponseEntity.ok(standingsService.getPlayerStandings(username));
+    }
+}
@@ -0,0 +1,29 @@
+package com.catalin.tennis.controller;
+
+import com.catalin.tennis.dto.response.StandingsRebuildResultDTO;
+import com.catalin.tennis.service.StandingsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/standings")
+public class StandingsRebuildController {
+    private final StandingsService standingsService;
+
+    public StandingsRebuildController(StandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<StandingsRebuildResultDTO> rebuildAll() {
+        return ResponseEntity.ok(standingsService.rebuildAll());
+    }
+
+    @PostMapping("/rebuild/{tournamentId}")
+    public ResponseEntity<StandingsRebuildResultDTO> rebuildTournament(@PathVariable Long tournamentId) {
+        return ResponseEntity.ok(standingsService.rebuildTournament(tournamentId));
+    }
+}
@@ -1,7 +1,16 @@
 package com.catalin.tennis.controller;
 
 import com.catalin.tennis.dto.request.CreateTournamentDTO;
+import com.catalin.tennis.dto.request.GenerateDrawDTO;
+import com.catalin.tennis.dto.request.ScheduleRequestDTO;
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import com.catalin.tennis.dto.response.DrawResponseDTO;
+import com.catalin.tennis.dto.response.DrawSlotDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.ScheduleResultDTO;
 import com.catalin.tennis.dto.response.TournamentResponseDTO;
+import com.catalin.tennis.service.DrawService;
+import com.catalin.tennis.service.SchedulingService;
 import com.catalin.tennis.service.TournamentService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -14,9 +23,13 @@ import java.util.List;
 @RequestMapping("/api/tournaments")
 public class TournamentController {
     private final TournamentService tournamentService;
+    private final DrawService drawService;
+    private final SchedulingService schedulingService;
 
-    public TournamentController(TournamentService tournamentService){
+    public TournamentController(TournamentService tournamentService, DrawService drawService, SchedulingService schedulingService){
         this.tournamentService=tournamentService;
+        this.drawService=drawService;
+        this.schedulingService=schedulingService;
     }
     @PostMapping
     public ResponseEntity<TournamentResponseDTO> createTournament(@Valid @RequestBody CreateTournamentDTO dto){
@@ -30,12 +43,40 @@ public class TournamentController {
         return ResponseEntity.ok(tournaments);
     }
 
+    @GetMapping(params = "size")
+    public ResponseEntity<KeysetPageDTO<TournamentResponseDTO>> getTournamentsPage(
+            @RequestParam int size, @RequestParam(required = false) String pageToken){
+        return ResponseEntity.ok(tournamentService.getTournamentsPage(pageToken, size));
+    }
+
     @GetMapping("/starting-after/{date}")
     public ResponseEntity<List<TournamentResponseDTO>> getTournamentsStartingAfter(@PathVariable String date) {
         List<TournamentResponseDTO> tournaments = tournamentService.getTournamentsStartingAfter(date);
         return ResponseEntity.ok(tournaments);
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<KeysetPageDTO<TournamentResponseDTO>> searchTournaments(
+            TournamentSearchDTO filters, @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String pageToken) {
+        return ResponseEntity.ok(tournamentService.searchTournaments(filters, pageToken, size));
+    }
+
+    @PostMapping("/{id}/draw")
+    public ResponseEntity<DrawResponseDTO> generateDraw(@PathVariable Long id, @RequestBody(required = false) GenerateDrawDTO dto){
+        return new ResponseEntity<>(drawService.generateDraw(id, dto), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}/draw")
+    public ResponseEntity<List<DrawSlotDTO>> getDraw(@PathVariable Long id){
+        return ResponseEntity.ok(drawService.getDraw(id));
+    }
+
+    @PostMapping("/{id}/schedule")
+    public ResponseEntity<ScheduleResultDTO> scheduleMatches(@PathVariable Long id, @RequestBody(required = false) ScheduleRequestDTO dto){
+        return ResponseEntity.ok(schedulingService.scheduleTournament(id, dto));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteTournament(@PathVariable Long id){
         tournamentService.deleteTournament(id);
@@ -2,6 +2,7 @@ package com.catalin.tennis.controller;
 
 import com.catalin.tennis.dto.request.CreateUserDTO;
 import com.catalin.tennis.dto.request.UpdateUserDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.UserResponseDTO;
 import com.catalin.tennis.model.enums.UserRoles;
 import com.catalin.tennis.service.UserService;
@@ -27,6 +28,12 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping(params = "size")
+    public ResponseEntity<KeysetPageDTO<UserResponseDTO>> getUsersPage(
+            @RequestParam int size, @RequestParam(required = false) String pageToken){
+        return ResponseEntity.ok(userService.getUsersPage(pageToken, size));
+    }
+
     @GetMapping("/{username}")
     public ResponseEntity<UserResponseDTO> getUserByUsername(@PathVariable String username){
         UserResponseDTO user = userService.getUserByUsername(username);
@@ -0,0 +1,23 @@
+package com.catalin.tennis.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the CSV export query: a match joined with at most one of its sets.
+ * A match with several sets spans several consecutive rows.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchExportRow {
+    private Long matchId;
+    private String player1Username;
+    private String player2Username;
+    private String refereeUsername;
+    private Integer courtNumber;
+    private LocalDateTime startDate;
+    private Integer player1Games;
+    private Integer player2Games;
+}
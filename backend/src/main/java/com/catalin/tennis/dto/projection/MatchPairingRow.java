@@ -0,0 +1,12 @@
+package com.catalin.tennis.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MatchPairingRow {
+    private Long matchId;
+    private Long player1Id;
+    private Long player2Id;
+}
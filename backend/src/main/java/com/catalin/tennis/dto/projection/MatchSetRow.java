@@ -0,0 +1,12 @@
+package com.catalin.tennis.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MatchSetRow {
+    private Long matchId;
+    private Integer player1Games;
+    private Integer player2Games;
+}
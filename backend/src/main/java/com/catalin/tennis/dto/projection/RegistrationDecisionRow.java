@@ -0,0 +1,14 @@
+package com.catalin.tennis.dto.projection;
+
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RegistrationDecisionRow {
+    private Long registrationId;
+    private RegistrationStatus status;
+    private Long playerId;
+    private String tournamentName;
+}
@@ -0,0 +1,17 @@
+package com.catalin.tennis.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ScheduledMatchRow {
+    private Long tournamentId;
+    private Long player1Id;
+    private Long player2Id;
+    private Long refereeId;
+    private Integer courtNumber;
+    private LocalDateTime startDate;
+}
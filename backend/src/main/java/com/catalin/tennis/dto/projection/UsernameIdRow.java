@@ -0,0 +1,11 @@
+package com.catalin.tennis.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UsernameIdRow {
+    private String username;
+    private Long id;
+}
@@ -0,0 +1,18 @@
+package com.catalin.tennis.dto.request;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Either an explicit list of registration ids or a tournament whose pending registrations should all be decided.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegistrationDecisionDTO {
+    private List<Long> registrationIds;
+
+    private Long tournamentId;
+}
@@ -1,6 +1,7 @@
 package com.catalin.tennis.dto.request;
 
 import com.catalin.tennis.model.SetScore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -38,4 +39,9 @@ public class CreateMatchDTO {
     private transient Long player1Id;
     private transient Long player2Id;
     private transient Long refereeId;
+
+    @AssertTrue(message = "A player cannot be against themselves")
+    public boolean isPlayersDistinct() {
+        return player1Username == null || !player1Username.equals(player2Username);
+    }
 }
@@ -0,0 +1,17 @@
+package com.catalin.tennis.dto.request;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerateDrawDTO {
+    /** Player ids in seed order (first is seed 1); every other approved player is drawn at random. */
+    private List<Long> seededPlayerIds;
+
+    /** Makes the placement of unseeded players reproducible. */
+    private Long randomSeed;
+}
@@ -0,0 +1,19 @@
+package com.catalin.tennis.dto.request;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Either an explicit list of notification ids, or every notification up to and including {@code upToId}
+ * (the newest one the client has shown); without either, all of the user's notifications.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkNotificationsReadDTO {
+    private List<Long> notificationIds;
+
+    private Long upToId;
+}
@@ -0,0 +1,24 @@
+package com.catalin.tennis.dto.request;
+
+import com.catalin.tennis.model.SetScore;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchImportRowDTO {
+    private String player1Username;
+    private String player2Username;
+
+    /** Optional, like court and start date; the scheduler can fill them in later. */
+    private String refereeUsername;
+
+    private Long tournamentId;
+    private Integer courtNumber;
+    private LocalDateTime startDate;
+    private List<SetScore> sets;
+}
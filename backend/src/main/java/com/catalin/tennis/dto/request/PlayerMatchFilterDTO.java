@@ -0,0 +1,22 @@
+package com.catalin.tennis.dto.request;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/** Filters for a player's match history; the window is [from, to) and both ends are optional. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerMatchFilterDTO {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    /** Matches starting now or later, soonest first; otherwise matches already started, latest first. */
+    private boolean upcoming;
+}
@@ -0,0 +1,17 @@
+package com.catalin.tennis.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** The refresh token returned by login or by the previous refresh. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenDTO {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
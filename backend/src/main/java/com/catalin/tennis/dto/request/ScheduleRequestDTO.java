@@ -0,0 +1,28 @@
+package com.catalin.tennis.dto.request;
+
+import lombok.*;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRequestDTO {
+    private int courts = 8;
+
+    /** First match of each tournament day. */
+    private LocalTime dayStart = LocalTime.of(10, 0);
+
+    private int slotsPerDay = 6;
+
+    /** Length of a match slot; one slot starts every {@code matchMinutes}. */
+    private int matchMinutes = 120;
+
+    /** Minimum break between the end of a player's match and the start of their next one. */
+    private int minRestMinutes = 60;
+
+    /** Referees to draw from; every user with the referee role when empty. */
+    private List<Long> refereeIds;
+}
@@ -0,0 +1,38 @@
+package com.catalin.tennis.dto.request;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/** Search filters; every field is optional and bounds are inclusive. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentSearchDTO {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endTo;
+
+    /** Tournaments running on at least one day of [overlapsFrom, overlapsTo]. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate overlapsFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate overlapsTo;
+
+    /** Registration deadline not yet passed (or, without a deadline, not yet started). */
+    private Boolean openForRegistration;
+
+    /** At least this many places left after approved registrations; tournaments with no limit always match. */
+    private Integer minFreePlaces;
+}
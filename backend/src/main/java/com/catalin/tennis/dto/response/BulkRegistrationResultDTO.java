@@ -0,0 +1,15 @@
+package com.catalin.tennis.dto.response;
+
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BulkRegistrationResultDTO {
+    private RegistrationStatus status;
+    private int updated;
+    private List<RegistrationOutcomeDTO> outcomes;
+}
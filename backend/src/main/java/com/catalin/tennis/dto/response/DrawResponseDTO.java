@@ -0,0 +1,15 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DrawResponseDTO {
+    private Long tournamentId;
+    private int bracketSize;
+    private int rounds;
+    private int entrants;
+    private int byes;
+    private int matchesCreated;
+}
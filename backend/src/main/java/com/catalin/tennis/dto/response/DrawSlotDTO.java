@@ -0,0 +1,14 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DrawSlotDTO {
+    private int round;
+    private int position;
+    private String playerUsername;
+    private Integer seed;
+    private Long matchId;
+}
@@ -0,0 +1,16 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class KeysetPageDTO<T> {
+    private List<T> items;
+    // Opaque cursor for the next page; null when this is the last page.
+    private String nextPageToken;
+}
@@ -0,0 +1,15 @@
+package com.catalin.tennis.dto.response;
+
+import com.catalin.tennis.model.SetScore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class LiveScoreUpdateDTO {
+    private Long matchId;
+    private Long tournamentId;
+    private List<SetScore> sets;
+}
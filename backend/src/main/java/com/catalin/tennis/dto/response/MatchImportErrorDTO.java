@@ -0,0 +1,11 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class MatchImportErrorDTO {
+    private int line;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class MatchImportResultDTO {
+    private int imported;
+    private int rejected;
+
+    /** The first rejected rows with the reason; {@code rejected} counts all of them. */
+    private List<MatchImportErrorDTO> errors;
+}
@@ -1,13 +1,15 @@
 package com.catalin.tennis.dto.response;
 
 import com.catalin.tennis.model.SetScore;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
-@AllArgsConstructor
+@NoArgsConstructor
 public class MatchResponseDTO {
     private Long matchId;
     private String player1Name;
@@ -17,4 +19,35 @@ public class MatchResponseDTO {
     private Integer courtNumber;
     private LocalDateTime startDate;
     private List<SetScore> sets;
+    private Integer player1Rating;
+    private Integer player2Rating;
+    @JsonIgnore
+    private Long player1Id;
+    @JsonIgnore
+    private Long player2Id;
+
+    public MatchResponseDTO(Long matchId, String player1Name, String player2Name, String refereeName,
+                            String tournamentName, Integer courtNumber, LocalDateTime startDate, List<SetScore> sets) {
+        this.matchId = matchId;
+        this.player1Name = player1Name;
+        this.player2Name = player2Name;
+        this.refereeName = refereeName;
+        this.tournamentName = tournamentName;
+        this.courtNumber = courtNumber;
+        this.startDate = startDate;
+        this.sets = sets;
+    }
+
+    public MatchResponseDTO(Long matchId, String player1Name, String player2Name, String refereeName,
+                            String tournamentName, Integer courtNumber, LocalDateTime startDate) {
+        this(matchId, player1Name, player2Name, refereeName, tournamentName, courtNumber, startDate, new ArrayList<>());
+    }
+
+    /** Used by the repository projections; the player ids let the service add ratings without another query. */
+    public MatchResponseDTO(Long matchId, Long player1Id, String player1Name, Long player2Id, String player2Name,
+                            String refereeName, String tournamentName, Integer courtNumber, LocalDateTime startDate) {
+        this(matchId, player1Name, player2Name, refereeName, tournamentName, courtNumber, startDate);
+        this.player1Id = player1Id;
+        this.player2Id = player2Id;
+    }
 }
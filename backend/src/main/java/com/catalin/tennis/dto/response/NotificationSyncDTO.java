@@ -0,0 +1,21 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Notifications newer than the client's cursor, oldest first, and the cursor to send next time.
+ * {@code hasMore} means the page was full and the client should ask again straight away.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationSyncDTO {
+    private List<NotificationResponseDTO> notifications;
+    private long cursor;
+    private int unreadCount;
+    private boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package com.catalin.tennis.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlayerRatingDTO {
+    @JsonIgnore
+    private Long playerId;
+    private String username;
+    private int rating;
+    private int rank;
+    private int ratedMatches;
+
+    public PlayerRatingDTO(Long playerId, String username, double rating, int ratedMatches) {
+        this(playerId, username, (int) Math.round(rating), 0, ratedMatches);
+    }
+}
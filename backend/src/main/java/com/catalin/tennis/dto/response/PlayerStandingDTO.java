@@ -0,0 +1,18 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PlayerStandingDTO {
+    private Long tournamentId;
+    private String username;
+    private int matchesPlayed;
+    private int wins;
+    private int losses;
+    private int setsWon;
+    private int setsLost;
+    private int gamesWon;
+    private int gamesLost;
+}
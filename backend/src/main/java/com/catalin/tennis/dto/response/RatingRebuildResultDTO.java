@@ -0,0 +1,13 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RatingRebuildResultDTO {
+    private int players;
+    private int matches;
+    private int independentGroups;
+    private long elapsedMs;
+}
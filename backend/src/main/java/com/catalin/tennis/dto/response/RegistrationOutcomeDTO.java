@@ -0,0 +1,13 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RegistrationOutcomeDTO {
+    public enum Outcome { UPDATED, NOT_FOUND, NOT_PENDING }
+
+    private Long registrationId;
+    private Outcome outcome;
+}
@@ -0,0 +1,16 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ScheduleResultDTO {
+    private Long tournamentId;
+    private int scheduled;
+    private List<Long> unscheduledMatchIds;
+    private LocalDateTime lastStart;
+}
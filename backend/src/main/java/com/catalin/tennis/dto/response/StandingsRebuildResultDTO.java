@@ -0,0 +1,12 @@
+package com.catalin.tennis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StandingsRebuildResultDTO {
+    private int tournaments;
+    private int standings;
+    private long elapsedMs;
+}
@@ -11,4 +11,10 @@ public class UserResponseDTO {
     private String username;
     private String name;
     private UserRoles role;
+    private Integer rating;
+    private Integer rank;
+
+    public UserResponseDTO(String username, String name, UserRoles role) {
+        this(username, name, role, null, null);
+    }
 }
@@ -0,0 +1,62 @@
+package com.catalin.tennis.engine;
+
+/**
+ * First-round layout of a single-elimination bracket. Position {@code p} of round {@code r} meets
+ * position {@code p ^ 1}, and the winner moves to position {@code p / 2} of round {@code r + 1}.
+ * An empty position is a bye.
+ */
+public class Bracket {
+
+    public static final long BYE = 0L;
+
+    private final long[] players;
+    private final int[] seeds;
+    private final int entrants;
+
+    Bracket(long[] players, int[] seeds, int entrants) {
+        this.players = players;
+        this.seeds = seeds;
+        this.entrants = entrants;
+    }
+
+    public int getSize() {
+        return players.length;
+    }
+
+    public int getRounds() {
+        return Integer.numberOfTrailingZeros(players.length);
+    }
+
+    public int getEntrants() {
+        return entrants;
+    }
+
+    public int getByes() {
+        return players.length - entrants;
+    }
+
+    /** The player id at a first-round position, or {@link #BYE}. */
+    public long playerAt(int position) {
+        return players[position];
+    }
+
+    /** The seed number of the player at a first-round position, or 0 when unseeded. */
+    public int seedAt(int position) {
+        return seeds[position];
+    }
+
+    /** Whether first-round pair {@code pair} (positions {@code 2 * pair} and {@code 2 * pair + 1}) is a real match. */
+    public boolean isMatch(int pair) {
+        return players[2 * pair] != BYE && players[2 * pair + 1] != BYE;
+    }
+
+    /** The player a first-round bye sends straight to round two, or {@link #BYE} when the pair is a real match. */
+    public long advancesWithBye(int pair) {
+        long top = players[2 * pair];
+        long bottom = players[2 * pair + 1];
+        if (top != BYE && bottom != BYE) {
+            return BYE;
+        }
+        return top != BYE ? top : bottom;
+    }
+}
@@ -0,0 +1,64 @@
+package com.catalin.tennis.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Lays out a seeded single-elimination draw. Entrants are ranked (explicit seeds first, then the
+ * rest in shuffled order) and placed using the standard seeding order, so seed 1 and 2 can only meet
+ * in the final and the byes of a non-power-of-two field all go to the top of the ranking.
+ */
+public final class BracketGenerator {
+
+    private BracketGenerator() {
+    }
+
+    public static Bracket generate(List<Long> seededPlayerIds, List<Long> unseededPlayerIds, long randomSeed) {
+        int entrants = seededPlayerIds.size() + unseededPlayerIds.size();
+        if (entrants < 2) {
+            throw new IllegalArgumentException("A draw needs at least two players");
+        }
+        int size = Integer.highestOneBit(entrants);
+        if (size < entrants) {
+            size <<= 1;
+        }
+
+        List<Long> ranking = new ArrayList<>(entrants);
+        ranking.addAll(seededPlayerIds);
+        List<Long> unseeded = new ArrayList<>(unseededPlayerIds);
+        Collections.shuffle(unseeded, new Random(randomSeed));
+        ranking.addAll(unseeded);
+
+        int[] order = seedingOrder(size);
+        long[] players = new long[size];
+        int[] seeds = new int[size];
+        for (int position = 0; position < size; position++) {
+            int rank = order[position];
+            if (rank <= entrants) {
+                players[position] = ranking.get(rank - 1);
+                seeds[position] = rank <= seededPlayerIds.size() ? rank : 0;
+            }
+        }
+        return new Bracket(players, seeds, entrants);
+    }
+
+    /**
+     * The ranking placed at each position of a bracket of {@code size} (a power of two): 1, 16, 8, 9, 4, 13, 5, 12, ...
+     * Every first-round pair adds up to {@code size + 1}, and the same holds recursively for later rounds.
+     */
+    static int[] seedingOrder(int size) {
+        int[] order = {1};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] next = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = length + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+}
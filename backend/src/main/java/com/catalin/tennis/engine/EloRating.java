@@ -0,0 +1,18 @@
+package com.catalin.tennis.engine;
+
+/** The Elo formulas: a win is worth 1, a loss 0, and what one player gains the other loses. */
+public final class EloRating {
+
+    private EloRating() {
+    }
+
+    /** The score {@code rating} is expected to take from a match against {@code opponentRating}, between 0 and 1. */
+    public static double expectedScore(double rating, double opponentRating) {
+        return 1.0 / (1.0 + Math.pow(10.0, (opponentRating - rating) / 400.0));
+    }
+
+    /** The points player 1 gains from the result; player 2 loses the same amount. */
+    public static double change(double rating1, double rating2, boolean player1Won, double kFactor) {
+        return kFactor * ((player1Won ? 1.0 : 0.0) - expectedScore(rating1, rating2));
+    }
+}
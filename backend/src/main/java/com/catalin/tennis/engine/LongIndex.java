@@ -0,0 +1,84 @@
+package com.catalin.tennis.engine;
+
+import java.util.Arrays;
+
+/**
+ * Assigns dense indices {@code 0..size-1} to long ids in the order they are first added, so per-player data can
+ * live in primitive arrays. Open addressing with linear probing; nothing is boxed. Not thread-safe.
+ */
+public class LongIndex {
+
+    private long[] keys;
+    private int[] slots;
+    private long[] ids;
+    private int size;
+
+    public LongIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, -1);
+        ids = new long[Math.max(16, expectedSize)];
+    }
+
+    /** The index of {@code id}, or -1 when it was never added. */
+    public int indexOf(long id) {
+        int mask = keys.length - 1;
+        for (int slot = hash(id) & mask; slots[slot] != -1; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                return slots[slot];
+            }
+        }
+        return -1;
+    }
+
+    /** The index of {@code id}, adding it with the next free index when it is new. */
+    public int add(long id) {
+        int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        for (; slots[slot] != -1; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                return slots[slot];
+            }
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        keys[slot] = id;
+        slots[slot] = size;
+        ids[size] = id;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return size - 1;
+    }
+
+    public long idAt(int index) {
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        keys = new long[capacity];
+        slots = new int[capacity];
+        Arrays.fill(slots, -1);
+        int mask = capacity - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = hash(ids[index]) & mask;
+            while (slots[slot] != -1) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = ids[index];
+            slots[slot] = index;
+        }
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
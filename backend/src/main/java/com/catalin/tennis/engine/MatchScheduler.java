@@ -0,0 +1,250 @@
+package com.catalin.tennis.engine;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Assigns a time slot, court and referee to every match of a {@link SchedulingProblem} without double-booking
+ * a player, referee or court and keeping at least the minimum rest between a player's matches.
+ * <p>
+ * The search is a portfolio of greedy runs: each variant places matches earliest-slot-first in its own order
+ * (most constrained players first, with variant-specific random tie-breaks) and the variants run in parallel
+ * across the common fork-join pool. The best schedule wins; ties go to the lowest variant, so a given problem
+ * and variant count always produce the same schedule.
+ */
+public class MatchScheduler {
+
+    private final int variants;
+
+    public MatchScheduler(int variants) {
+        if (variants < 1) {
+            throw new IllegalArgumentException("At least one variant is needed");
+        }
+        this.variants = variants;
+    }
+
+    public Schedule solve(SchedulingProblem problem) {
+        Prepared prepared = new Prepared(problem);
+        return IntStream.range(0, variants)
+                .parallel()
+                .mapToObj(prepared::run)
+                .reduce((first, second) -> second.isBetterThan(first) ? second : first)
+                .orElseThrow();
+    }
+
+    /** The problem in array form, shared read-only by all variants. */
+    private static final class Prepared {
+        private final List<LocalDateTime> slotStarts;
+        private final long[] slotMinute;
+        private final long matchMinutes;
+        private final long restMinutes;
+        private final int slots;
+        private final int courts;
+        private final long[] refereeIds;
+        private final long[][] matches;
+        private final int[][] matchPlayers;
+        private final int[] playerDegree;
+        private final boolean[] fixedCourtBusy;
+        private final boolean[] fixedRefereeBusy;
+        private final long[][] fixedPlayerStarts;
+
+        Prepared(SchedulingProblem problem) {
+            slotStarts = problem.getSlotStarts();
+            slots = slotStarts.size();
+            courts = problem.getCourts();
+            matchMinutes = problem.getMatchLength().toMinutes();
+            restMinutes = problem.getMinRest().toMinutes();
+            LocalDateTime origin = slotStarts.get(0);
+            slotMinute = new long[slots];
+            for (int t = 0; t < slots; t++) {
+                slotMinute[t] = Duration.between(origin, slotStarts.get(t)).toMinutes();
+            }
+
+            Map<Long, Integer> refereeIndex = new HashMap<>();
+            refereeIds = new long[problem.getRefereeIds().size()];
+            for (int r = 0; r < refereeIds.length; r++) {
+                refereeIds[r] = problem.getRefereeIds().get(r);
+                refereeIndex.put(refereeIds[r], r);
+            }
+
+            Map<Long, Integer> playerIndex = new HashMap<>();
+            List<long[]> input = problem.getMatches();
+            matches = input.toArray(new long[0][]);
+            matchPlayers = new int[matches.length][2];
+            for (int m = 0; m < matches.length; m++) {
+                matchPlayers[m][0] = playerIndex.computeIfAbsent(matches[m][1], id -> playerIndex.size());
+                matchPlayers[m][1] = playerIndex.computeIfAbsent(matches[m][2], id -> playerIndex.size());
+            }
+            playerDegree = new int[playerIndex.size()];
+            for (int[] players : matchPlayers) {
+                playerDegree[players[0]]++;
+                playerDegree[players[1]]++;
+            }
+
+            fixedCourtBusy = new boolean[slots * courts];
+            fixedRefereeBusy = new boolean[refereeIds.length * slots];
+            List<List<Long>> starts = new ArrayList<>(playerIndex.size());
+            for (int p = 0; p < playerIndex.size(); p++) {
+                starts.add(new ArrayList<>(0));
+            }
+            for (SchedulingProblem.FixedMatch fixed : problem.getFixedMatches()) {
+                long start = Duration.between(origin, fixed.getStart()).toMinutes();
+                Integer court = fixed.getCourt();
+                if (court != null && court >= 1 && court <= courts) {
+                    markCourt(fixedCourtBusy, court - 1, start);
+                }
+                Integer referee = fixed.getRefereeId() == null ? null : refereeIndex.get(fixed.getRefereeId());
+                if (referee != null) {
+                    markReferee(fixedRefereeBusy, referee, start);
+                }
+                Integer p1 = playerIndex.get(fixed.getPlayer1Id());
+                if (p1 != null) {
+                    starts.get(p1).add(start);
+                }
+                Integer p2 = playerIndex.get(fixed.getPlayer2Id());
+                if (p2 != null) {
+                    starts.get(p2).add(start);
+                }
+            }
+            fixedPlayerStarts = new long[starts.size()][];
+            for (int p = 0; p < starts.size(); p++) {
+                fixedPlayerStarts[p] = starts.get(p).stream().mapToLong(Long::longValue).toArray();
+            }
+        }
+
+        Schedule run(int variant) {
+            SplittableRandom random = new SplittableRandom(0x5DEECE66DL * (variant + 1));
+            Integer[] order = order(variant, random);
+
+            boolean[] courtBusy = fixedCourtBusy.clone();
+            boolean[] refereeBusy = fixedRefereeBusy.clone();
+            int[] refereeLoad = new int[refereeIds.length];
+            long[][] playerStarts = new long[fixedPlayerStarts.length][];
+            int[] playerStartCount = new int[fixedPlayerStarts.length];
+            for (int p = 0; p < playerStarts.length; p++) {
+                playerStarts[p] = Arrays.copyOf(fixedPlayerStarts[p], fixedPlayerStarts[p].length + playerDegree[p]);
+                playerStartCount[p] = fixedPlayerStarts[p].length;
+            }
+
+            List<Schedule.Assignment> assignments = new ArrayList<>(matches.length);
+            List<Long> unscheduled = new ArrayList<>();
+            int lastSlot = -1;
+            long slotIndexSum = 0;
+            for (int m : order) {
+                int p1 = matchPlayers[m][0];
+                int p2 = matchPlayers[m][1];
+                boolean placed = false;
+                for (int t = 0; t < slots && !placed; t++) {
+                    long start = slotMinute[t];
+                    if (!playerFree(playerStarts[p1], playerStartCount[p1], start)
+                            || !playerFree(playerStarts[p2], playerStartCount[p2], start)) {
+                        continue;
+                    }
+                    int court = freeCourt(courtBusy, t);
+                    if (court < 0) {
+                        continue;
+                    }
+                    int referee = freeReferee(refereeBusy, refereeLoad, t, variant == 0 ? null : random);
+                    if (referee < 0) {
+                        continue;
+                    }
+                    markCourt(courtBusy, court, start);
+                    markReferee(refereeBusy, referee, start);
+                    refereeLoad[referee]++;
+                    playerStarts[p1][playerStartCount[p1]++] = start;
+                    playerStarts[p2][playerStartCount[p2]++] = start;
+                    assignments.add(new Schedule.Assignment(matches[m][0], t, slotStarts.get(t), court + 1, refereeIds[referee]));
+                    lastSlot = Math.max(lastSlot, t);
+                    slotIndexSum += t;
+                    placed = true;
+                }
+                if (!placed) {
+                    unscheduled.add(matches[m][0]);
+                }
+            }
+            assignments.sort(Comparator.comparingInt(Schedule.Assignment::getSlot)
+                    .thenComparingInt(Schedule.Assignment::getCourt));
+            return new Schedule(assignments, unscheduled, lastSlot, slotIndexSum);
+        }
+
+        /** Matches whose players have the most matches to play go first; variants shuffle within and across ties. */
+        private Integer[] order(int variant, SplittableRandom random) {
+            double[] priority = new double[matches.length];
+            for (int m = 0; m < matches.length; m++) {
+                int degree = playerDegree[matchPlayers[m][0]] + playerDegree[matchPlayers[m][1]];
+                priority[m] = variant == 0 ? degree : degree + random.nextDouble() * 2;
+            }
+            Integer[] order = new Integer[matches.length];
+            for (int m = 0; m < order.length; m++) {
+                order[m] = m;
+            }
+            Arrays.sort(order, (a, b) -> {
+                int byPriority = Double.compare(priority[b], priority[a]);
+                return byPriority != 0 ? byPriority : Long.compare(matches[a][0], matches[b][0]);
+            });
+            return order;
+        }
+
+        private boolean playerFree(long[] starts, int count, long start) {
+            for (int i = 0; i < count; i++) {
+                if (Math.abs(starts[i] - start) < matchMinutes + restMinutes) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int freeCourt(boolean[] courtBusy, int slot) {
+            int offset = slot * courts;
+            for (int c = 0; c < courts; c++) {
+                if (!courtBusy[offset + c]) {
+                    return c;
+                }
+            }
+            return -1;
+        }
+
+        private int freeReferee(boolean[] refereeBusy, int[] refereeLoad, int slot, SplittableRandom random) {
+            int best = -1;
+            int ties = 0;
+            for (int r = 0; r < refereeIds.length; r++) {
+                if (refereeBusy[r * slots + slot]) {
+                    continue;
+                }
+                if (best < 0 || refereeLoad[r] < refereeLoad[best]) {
+                    best = r;
+                    ties = 1;
+                } else if (random != null && refereeLoad[r] == refereeLoad[best] && random.nextInt(++ties) == 0) {
+                    best = r;
+                }
+            }
+            return best;
+        }
+
+        /** Marks every slot whose match would overlap one starting at {@code start}. */
+        private void markCourt(boolean[] courtBusy, int court, long start) {
+            for (int t = firstOverlapping(start); t < slots && slotMinute[t] < start + matchMinutes; t++) {
+                courtBusy[t * courts + court] = true;
+            }
+        }
+
+        private void markReferee(boolean[] refereeBusy, int referee, long start) {
+            for (int t = firstOverlapping(start); t < slots && slotMinute[t] < start + matchMinutes; t++) {
+                refereeBusy[referee * slots + t] = true;
+            }
+        }
+
+        private int firstOverlapping(long start) {
+            int index = Arrays.binarySearch(slotMinute, start - matchMinutes + 1);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.catalin.tennis.engine;
+
+import com.catalin.tennis.model.SetScore;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * What one match adds to a player's standing, or the sum or difference of such contributions.
+ * A set is won by whoever has more games in it; a level set (still in play) only counts its games.
+ * The match itself counts as played, won and lost only once one side has won {@code setsToWin} sets.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class MatchTally {
+
+    public static final MatchTally ZERO = new MatchTally(0, 0, 0, 0, 0, 0, 0);
+
+    private final int matchesPlayed;
+    private final int wins;
+    private final int losses;
+    private final int setsWon;
+    private final int setsLost;
+    private final int gamesWon;
+    private final int gamesLost;
+
+    /** The contribution of a score to player 1; {@link #mirror()} gives player 2's. */
+    public static MatchTally forPlayer1(List<SetScore> sets, int setsToWin) {
+        if (sets == null || sets.isEmpty()) {
+            return ZERO;
+        }
+        int setsWon = 0, setsLost = 0, gamesWon = 0, gamesLost = 0;
+        for (SetScore set : sets) {
+            int won = set.getPlayer1Games() == null ? 0 : set.getPlayer1Games();
+            int lost = set.getPlayer2Games() == null ? 0 : set.getPlayer2Games();
+            gamesWon += won;
+            gamesLost += lost;
+            if (won > lost) {
+                setsWon++;
+            } else if (lost > won) {
+                setsLost++;
+            }
+        }
+        boolean won = setsWon >= setsToWin && setsWon > setsLost;
+        boolean lost = setsLost >= setsToWin && setsLost > setsWon;
+        return new MatchTally(won || lost ? 1 : 0, won ? 1 : 0, lost ? 1 : 0, setsWon, setsLost, gamesWon, gamesLost);
+    }
+
+    public MatchTally mirror() {
+        return new MatchTally(matchesPlayed, losses, wins, setsLost, setsWon, gamesLost, gamesWon);
+    }
+
+    public MatchTally plus(MatchTally other) {
+        return new MatchTally(matchesPlayed + other.matchesPlayed, wins + other.wins, losses + other.losses,
+                setsWon + other.setsWon, setsLost + other.setsLost, gamesWon + other.gamesWon, gamesLost + other.gamesLost);
+    }
+
+    public MatchTally minus(MatchTally other) {
+        return new MatchTally(matchesPlayed - other.matchesPlayed, wins - other.wins, losses - other.losses,
+                setsWon - other.setsWon, setsLost - other.setsLost, gamesWon - other.gamesWon, gamesLost - other.gamesLost);
+    }
+
+    public boolean isZero() {
+        return equals(ZERO);
+    }
+}
@@ -0,0 +1,137 @@
+package com.catalin.tennis.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Recomputes every rating from the full match history. Matches only affect each other through shared players,
+ * so the players are split into groups that never met anyone outside the group (union-find over the pairings)
+ * and the groups are replayed in parallel across the common fork-join pool, each in chronological order.
+ * The result is the same as replaying everything on one thread.
+ */
+public class RatingReplay {
+
+    private final double initialRating;
+    private final double kFactor;
+    private final LongIndex players = new LongIndex(1024);
+    private long[] matchIds = new long[1024];
+    private int[] player1 = new int[1024];
+    private int[] player2 = new int[1024];
+    private boolean[] player1Won = new boolean[1024];
+    private int matches;
+
+    public RatingReplay(double initialRating, double kFactor) {
+        this.initialRating = initialRating;
+        this.kFactor = kFactor;
+    }
+
+    /** Adds the next finished match; matches must be added in the order they were played. */
+    public void addMatch(long matchId, long player1Id, long player2Id, boolean player1Won) {
+        if (matches == matchIds.length) {
+            int capacity = matches * 2;
+            matchIds = Arrays.copyOf(matchIds, capacity);
+            player1 = Arrays.copyOf(player1, capacity);
+            player2 = Arrays.copyOf(player2, capacity);
+            this.player1Won = Arrays.copyOf(this.player1Won, capacity);
+        }
+        matchIds[matches] = matchId;
+        player1[matches] = players.add(player1Id);
+        player2[matches] = players.add(player2Id);
+        this.player1Won[matches] = player1Won;
+        matches++;
+    }
+
+    public Result run() {
+        int playerCount = players.size();
+        int[] parent = new int[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            parent[p] = p;
+        }
+        for (int m = 0; m < matches; m++) {
+            int a = find(parent, player1[m]);
+            int b = find(parent, player2[m]);
+            if (a != b) {
+                parent[Math.max(a, b)] = Math.min(a, b);
+            }
+        }
+
+        // number the groups, then lay the matches out group by group, keeping their order within a group
+        int[] groupOf = new int[playerCount];
+        Arrays.fill(groupOf, -1);
+        int groups = 0;
+        for (int p = 0; p < playerCount; p++) {
+            int root = find(parent, p);
+            if (groupOf[root] == -1) {
+                groupOf[root] = groups++;
+            }
+            groupOf[p] = groupOf[root];
+        }
+        int[] groupStart = new int[groups + 1];
+        for (int m = 0; m < matches; m++) {
+            groupStart[groupOf[player1[m]] + 1]++;
+        }
+        for (int g = 0; g < groups; g++) {
+            groupStart[g + 1] += groupStart[g];
+        }
+        int[] next = Arrays.copyOf(groupStart, groups);
+        int[] ordered = new int[matches];
+        for (int m = 0; m < matches; m++) {
+            ordered[next[groupOf[player1[m]]]++] = m;
+        }
+
+        double[] ratings = new double[playerCount];
+        Arrays.fill(ratings, initialRating);
+        int[] ratedMatches = new int[playerCount];
+        double[] changes = new double[matches];
+        // groups share no player, so each task writes to its own entries only
+        IntStream.range(0, groups).parallel().forEach(g -> {
+            for (int i = groupStart[g]; i < groupStart[g + 1]; i++) {
+                int m = ordered[i];
+                double change = EloRating.change(ratings[player1[m]], ratings[player2[m]], player1Won[m], kFactor);
+                ratings[player1[m]] += change;
+                ratings[player2[m]] -= change;
+                ratedMatches[player1[m]]++;
+                ratedMatches[player2[m]]++;
+                changes[m] = change;
+            }
+        });
+
+        long[] playerIds = new long[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            playerIds[p] = players.idAt(p);
+        }
+        long[] player1Ids = new long[matches];
+        long[] player2Ids = new long[matches];
+        for (int m = 0; m < matches; m++) {
+            player1Ids[m] = playerIds[player1[m]];
+            player2Ids[m] = playerIds[player2[m]];
+        }
+        return new Result(playerIds, ratings, ratedMatches, Arrays.copyOf(matchIds, matches),
+                player1Ids, player2Ids, changes, groups);
+    }
+
+    private static int find(int[] parent, int p) {
+        while (parent[p] != p) {
+            parent[p] = parent[parent[p]];
+            p = parent[p];
+        }
+        return p;
+    }
+
+    /** Final ratings per player, and what each match changed, in the order the matches were added. */
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final long[] playerIds;
+        private final double[] ratings;
+        private final int[] ratedMatches;
+        private final long[] matchIds;
+        private final long[] player1Ids;
+        private final long[] player2Ids;
+        private final double[] changes;
+        private final int groups;
+    }
+}
@@ -0,0 +1,146 @@
+package com.catalin.tennis.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The current rating of every rated player, kept in memory so listings can show ratings and ranks without a query.
+ * A rating is an array read by player index (O(1) with the id lookup); the rank comes from a Fenwick tree that
+ * counts players per whole rating point, so it is O(log {@value #RATING_BUCKETS}). Players on the same whole
+ * point share a rank.
+ */
+public class RatingTable {
+
+    public static final int RATING_BUCKETS = 4096;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final double initialRating;
+    private final LongIndex index;
+    private double[] ratings;
+    private int[] ratedMatches;
+    private final int[] bucketCounts = new int[RATING_BUCKETS + 1];
+
+    public RatingTable(double initialRating, int expectedPlayers) {
+        this.initialRating = initialRating;
+        this.index = new LongIndex(expectedPlayers);
+        this.ratings = new double[Math.max(16, expectedPlayers)];
+        this.ratedMatches = new int[ratings.length];
+    }
+
+    public double getInitialRating() {
+        return initialRating;
+    }
+
+    /** The player's rating, or {@code NaN} when they have not been rated yet. */
+    public double ratingOf(long playerId) {
+        lock.readLock().lock();
+        try {
+            int i = index.indexOf(playerId);
+            return i < 0 ? Double.NaN : ratings[i];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The rating used to compute a new result: the stored one, or the initial rating for a new player. */
+    public double ratingOrInitial(long playerId) {
+        double rating = ratingOf(playerId);
+        return Double.isNaN(rating) ? initialRating : rating;
+    }
+
+    /** 1 for the best rated players, or 0 when the player has not been rated yet. */
+    public int rankOf(long playerId) {
+        lock.readLock().lock();
+        try {
+            int i = index.indexOf(playerId);
+            if (i < 0) {
+                return 0;
+            }
+            return 1 + index.size() - countAtOrBelow(bucket(ratings[i]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int ratedMatchesOf(long playerId) {
+        lock.readLock().lock();
+        try {
+            int i = index.indexOf(playerId);
+            return i < 0 ? 0 : ratedMatches[i];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Stores a rating as loaded or rebuilt, replacing whatever the player had. */
+    public void put(long playerId, double rating, int matches) {
+        lock.writeLock().lock();
+        try {
+            boolean known = index.indexOf(playerId) >= 0;
+            int i = indexFor(playerId);
+            if (known) {
+                updateBucket(ratings[i], -1);
+            }
+            ratings[i] = rating;
+            ratedMatches[i] = matches;
+            updateBucket(rating, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Adds a committed change; a player seen for the first time starts from the initial rating. */
+    public void add(long playerId, double ratingChange, int matchesChange) {
+        lock.writeLock().lock();
+        try {
+            boolean known = index.indexOf(playerId) >= 0;
+            int i = indexFor(playerId);
+            if (known) {
+                updateBucket(ratings[i], -1);
+            } else {
+                ratings[i] = initialRating;
+            }
+            ratings[i] += ratingChange;
+            ratedMatches[i] += matchesChange;
+            updateBucket(ratings[i], 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int indexFor(long playerId) {
+        int i = index.add(playerId);
+        if (i == ratings.length) {
+            ratings = Arrays.copyOf(ratings, i * 2);
+            ratedMatches = Arrays.copyOf(ratedMatches, i * 2);
+        }
+        return i;
+    }
+
+    private static int bucket(double rating) {
+        return (int) Math.max(0, Math.min(RATING_BUCKETS - 1, Math.floor(rating))) + 1;
+    }
+
+    private void updateBucket(double rating, int delta) {
+        for (int i = bucket(rating); i <= RATING_BUCKETS; i += i & -i) {
+            bucketCounts[i] += delta;
+        }
+    }
+
+    private int countAtOrBelow(int bucket) {
+        int count = 0;
+        for (int i = bucket; i > 0; i -= i & -i) {
+            count += bucketCounts[i];
+        }
+        return count;
+    }
+}
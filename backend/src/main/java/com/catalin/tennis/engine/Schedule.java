@@ -0,0 +1,40 @@
+package com.catalin.tennis.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** The outcome of one scheduling run: where each match goes, and which ones did not fit. */
+@Getter
+@AllArgsConstructor
+public class Schedule {
+
+    private final List<Assignment> assignments;
+    private final List<Long> unscheduledMatchIds;
+    /** Index of the last slot in use, or -1 when nothing was scheduled. */
+    private final int lastSlot;
+    private final long slotIndexSum;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Assignment {
+        private final long matchId;
+        private final int slot;
+        private final LocalDateTime start;
+        private final int court;
+        private final long refereeId;
+    }
+
+    /** Fewer unscheduled matches first, then the earlier finish, then the earlier matches overall. */
+    boolean isBetterThan(Schedule other) {
+        if (unscheduledMatchIds.size() != other.unscheduledMatchIds.size()) {
+            return unscheduledMatchIds.size() < other.unscheduledMatchIds.size();
+        }
+        if (lastSlot != other.lastSlot) {
+            return lastSlot < other.lastSlot;
+        }
+        return slotIndexSum < other.slotIndexSum;
+    }
+}
@@ -0,0 +1,91 @@
+package com.catalin.tennis.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Input for {@link MatchScheduler}: the available time slots, courts and referees, the matches to place
+ * and the already scheduled matches whose players, referee and court are taken at a given time.
+ */
+public class SchedulingProblem {
+
+    private final List<LocalDateTime> slotStarts;
+    private final Duration matchLength;
+    private final Duration minRest;
+    private final int courts;
+    private final List<Long> refereeIds;
+    private final List<long[]> matches = new ArrayList<>();
+    private final List<FixedMatch> fixedMatches = new ArrayList<>();
+
+    public SchedulingProblem(List<LocalDateTime> slotStarts, Duration matchLength, Duration minRest,
+                             int courts, List<Long> refereeIds) {
+        if (slotStarts.isEmpty() || courts < 1 || refereeIds.isEmpty()) {
+            throw new IllegalArgumentException("Scheduling needs at least one slot, one court and one referee");
+        }
+        for (int i = 1; i < slotStarts.size(); i++) {
+            if (!slotStarts.get(i).isAfter(slotStarts.get(i - 1))) {
+                throw new IllegalArgumentException("Slot starts must be strictly increasing");
+            }
+        }
+        this.slotStarts = List.copyOf(slotStarts);
+        this.matchLength = matchLength;
+        this.minRest = minRest;
+        this.courts = courts;
+        this.refereeIds = List.copyOf(refereeIds);
+    }
+
+    public void addMatch(long matchId, long player1Id, long player2Id) {
+        matches.add(new long[]{matchId, player1Id, player2Id});
+    }
+
+    /**
+     * A match that already has a time. {@code court} is only given for matches sharing this problem's courts;
+     * {@code refereeId} may be null.
+     */
+    public void addFixedMatch(long player1Id, long player2Id, Long refereeId, Integer court, LocalDateTime start) {
+        fixedMatches.add(new FixedMatch(player1Id, player2Id, refereeId, court, start));
+    }
+
+    List<LocalDateTime> getSlotStarts() {
+        return slotStarts;
+    }
+
+    Duration getMatchLength() {
+        return matchLength;
+    }
+
+    Duration getMinRest() {
+        return minRest;
+    }
+
+    int getCourts() {
+        return courts;
+    }
+
+    List<Long> getRefereeIds() {
+        return refereeIds;
+    }
+
+    List<long[]> getMatches() {
+        return matches;
+    }
+
+    List<FixedMatch> getFixedMatches() {
+        return fixedMatches;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class FixedMatch {
+        private final long player1Id;
+        private final long player2Id;
+        private final Long refereeId;
+        private final Integer court;
+        private final LocalDateTime start;
+    }
+}
@@ -0,0 +1,75 @@
+package com.catalin.tennis.engine;
+
+import com.catalin.tennis.model.SetScore;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the change in standings caused by a set of score changes, one entry per tournament and player.
+ * Only the difference between the old and the new score is kept, so re-sending a score is a no-op.
+ */
+public class StandingsDelta {
+
+    private final int setsToWin;
+    // sorted, so concurrent writers touch the standing rows in the same order
+    private final Map<Key, MatchTally> changes = new TreeMap<>(
+            Comparator.comparingLong(Key::getTournamentId).thenComparingLong(Key::getPlayerId));
+
+    public StandingsDelta(int setsToWin) {
+        this.setsToWin = setsToWin;
+    }
+
+    /** Records a match going from {@code before} to {@code after}; an empty list stands for no result. */
+    public void record(long tournamentId, long player1Id, long player2Id, List<SetScore> before, List<SetScore> after) {
+        MatchTally delta = MatchTally.forPlayer1(after, setsToWin).minus(MatchTally.forPlayer1(before, setsToWin));
+        if (delta.isZero()) {
+            return;
+        }
+        add(new Key(tournamentId, player1Id), delta);
+        add(new Key(tournamentId, player2Id), delta.mirror());
+    }
+
+    private void add(Key key, MatchTally tally) {
+        MatchTally total = changes.merge(key, tally, MatchTally::plus);
+        if (total.isZero()) {
+            changes.remove(key);
+        }
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public int size() {
+        return changes.size();
+    }
+
+    public List<Change> getChanges() {
+        List<Change> result = new ArrayList<>(changes.size());
+        changes.forEach((key, tally) -> result.add(new Change(key.getTournamentId(), key.getPlayerId(), tally)));
+        return result;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final long tournamentId;
+        private final long playerId;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Change {
+        private final long tournamentId;
+        private final long playerId;
+        private final MatchTally tally;
+    }
+}
@@ -0,0 +1,11 @@
+package com.catalin.tennis.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DrawAlreadyExistsException extends RuntimeException {
+    public DrawAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -25,6 +25,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body,HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<Map<String,String>> handleInvalidRefreshToken(InvalidRefreshTokenException ex){
+        Map<String,String> body = new HashMap<>();
+        body.put("message", ex.getMessage());
+        return new ResponseEntity<>(body,HttpStatus.UNAUTHORIZED);
+    }
+
     @ExceptionHandler(UsernameAlreadyExistsException.class)
     public ResponseEntity<String> handleUsernameTaken(UsernameAlreadyExistsException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
@@ -39,6 +46,38 @@ public class GlobalExceptionHandler {
         RegistrationStatusDTO status = new RegistrationStatusDTO("You are already registered for this tournament");
         return new ResponseEntity<>(status, HttpStatus.OK);
     }
+    @ExceptionHandler(InvalidPageTokenException.class)
+    public ResponseEntity<String> handleInvalidPageToken(InvalidPageTokenException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<String> handleInvalidBulkRequest(InvalidBulkRequestException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(DrawAlreadyExistsException.class)
+    public ResponseEntity<String> handleDrawAlreadyExists(DrawAlreadyExistsException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+    @ExceptionHandler(InvalidDrawException.class)
+    public ResponseEntity<String> handleInvalidDraw(InvalidDrawException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(InvalidScheduleException.class)
+    public ResponseEntity<String> handleInvalidSchedule(InvalidScheduleException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(InvalidMatchException.class)
+    public ResponseEntity<String> handleInvalidMatch(InvalidMatchException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<String> handleInvalidImport(InvalidImportException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+    @ExceptionHandler(LiveChannelFullException.class)
+    public ResponseEntity<String> handleLiveChannelFull(LiveChannelFullException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleGeneric(Exception ex) {
         return new ResponseEntity<>("Internal error: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,11 @@
+package com.catalin.tennis.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidDrawException extends RuntimeException {
+    public InvalidDrawException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.catalin.tennis.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidMatchException extends RuntimeException {
+    public InvalidMatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,160 @@
+package com.catalin.tennis.importer;
+
+import com.catalin.tennis.dto.request.MatchImportRowDTO;
+import com.catalin.tennis.exception.InvalidImportException;
+import com.catalin.tennis.model.SetScore;
+
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV with a header line naming the columns in any order: {@code player1,player2,tournamentId} are required,
+ * {@code referee,court,startDate,sets} optional. Column names ignore case and spaces, and {@code Set Scores} is
+ * read as {@code sets}, so a tournament export only needs a {@code tournamentId} column to be imported again.
+ * Sets use the export format, e.g. {@code 6-4 | 3-6}. Fields are quoted as in RFC 4180, but cannot span lines.
+ */
+public class CsvMatchRowReader extends MatchRowReader {
+
+    private static final String[] COLUMNS = {"player1", "player2", "referee", "tournamentid", "court", "startdate", "sets"};
+    private static final int PLAYER1 = 0, PLAYER2 = 1, REFEREE = 2, TOURNAMENT = 3, COURT = 4, START_DATE = 5, SETS = 6;
+
+    // input column of each known column, -1 when absent; null until the header is read
+    private int[] positions;
+    private int width;
+
+    public CsvMatchRowReader(Reader reader) {
+        super(reader);
+    }
+
+    @Override
+    protected ImportLine parse(int lineNumber, String line) {
+        String[] fields;
+        try {
+            fields = split(line);
+        } catch (IllegalArgumentException e) {
+            if (positions == null) {
+                throw new InvalidImportException("Malformed CSV header: " + e.getMessage());
+            }
+            return ImportLine.rejected(lineNumber, "Malformed CSV: " + e.getMessage());
+        }
+        if (positions == null) {
+            readHeader(fields);
+            return null;
+        }
+        if (fields.length != width) {
+            return ImportLine.rejected(lineNumber, "Expected " + width + " columns but found " + fields.length);
+        }
+        try {
+            MatchImportRowDTO row = new MatchImportRowDTO(
+                    field(fields, PLAYER1),
+                    field(fields, PLAYER2),
+                    field(fields, REFEREE),
+                    Long.valueOf(field(fields, TOURNAMENT)),
+                    field(fields, COURT) == null ? null : Integer.valueOf(field(fields, COURT)),
+                    field(fields, START_DATE) == null ? null : LocalDateTime.parse(field(fields, START_DATE)),
+                    parseSets(field(fields, SETS)));
+            return ImportLine.parsed(lineNumber, row);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return ImportLine.rejected(lineNumber, "Malformed value: " + e.getMessage());
+        }
+    }
+
+    private void readHeader(String[] header) {
+        positions = new int[COLUMNS.length];
+        Arrays.fill(positions, -1);
+        width = header.length;
+        for (int i = 0; i < header.length; i++) {
+            String name = header[i].replace(" ", "").toLowerCase(Locale.ROOT);
+            if (name.equals("setscores")) {
+                name = "sets";
+            }
+            for (int c = 0; c < COLUMNS.length; c++) {
+                if (COLUMNS[c].equals(name)) {
+                    positions[c] = i;
+                }
+            }
+        }
+        if (positions[PLAYER1] < 0 || positions[PLAYER2] < 0 || positions[TOURNAMENT] < 0) {
+            throw new InvalidImportException("The CSV header must name the player1, player2 and tournamentId columns");
+        }
+    }
+
+    private String field(String[] fields, int column) {
+        int position = positions[column];
+        if (position < 0 || fields[position].isEmpty()) {
+            return null;
+        }
+        return fields[position];
+    }
+
+    /**
+     * Splits a line on the commas outside quotes. A quoted field keeps its content as written, with each doubled
+     * quote read as one; an unquoted field is trimmed.
+     *
+     * @throws IllegalArgumentException for an unterminated quote or text after a closing quote
+     */
+    private static String[] split(String line) {
+        List<String> fields = new ArrayList<>();
+        int i = 0;
+        while (true) {
+            while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+            if (i < line.length() && line.charAt(i) == '"') {
+                StringBuilder field = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i == line.length()) {
+                        throw new IllegalArgumentException("unterminated quote in column " + (fields.size() + 1));
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                while (i < line.length() && Character.isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new IllegalArgumentException("text after the closing quote in column " + (fields.size() + 1));
+                }
+                fields.add(field.toString());
+            } else {
+                int comma = line.indexOf(',', i);
+                int end = comma < 0 ? line.length() : comma;
+                fields.add(line.substring(i, end).trim());
+                i = end;
+            }
+            if (i == line.length()) {
+                return fields.toArray(String[]::new);
+            }
+            // skip the comma
+            i++;
+        }
+    }
+
+    private static List<SetScore> parseSets(String sets) {
+        List<SetScore> scores = new ArrayList<>();
+        if (sets == null) {
+            return scores;
+        }
+        for (String set : sets.split("\\|")) {
+            String[] games = set.trim().split("-");
+            if (games.length != 2) {
+                throw new NumberFormatException("set '" + set.trim() + "'");
+            }
+            scores.add(new SetScore(Integer.valueOf(games[0].trim()), Integer.valueOf(games[1].trim())));
+        }
+        return scores;
+    }
+}
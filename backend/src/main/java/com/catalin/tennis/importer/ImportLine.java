@@ -0,0 +1,26 @@
+package com.catalin.tennis.importer;
+
+import com.catalin.tennis.dto.request.MatchImportRowDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** One input line: the parsed row, or the reason it could not be parsed. */
+@Getter
+@AllArgsConstructor
+public class ImportLine {
+    private final int lineNumber;
+    private final MatchImportRowDTO row;
+    private final String error;
+
+    public static ImportLine parsed(int lineNumber, MatchImportRowDTO row) {
+        return new ImportLine(lineNumber, row, null);
+    }
+
+    public static ImportLine rejected(int lineNumber, String error) {
+        return new ImportLine(lineNumber, null, error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
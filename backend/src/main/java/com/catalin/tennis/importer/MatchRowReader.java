@@ -0,0 +1,35 @@
+package com.catalin.tennis.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads an import body one line at a time, so a large schedule never has to be held in memory.
+ * Blank lines are skipped; a line that cannot be parsed becomes a rejected {@link ImportLine}.
+ */
+public abstract class MatchRowReader {
+
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    protected MatchRowReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    /** Returns the next row, or {@code null} at the end of the input. */
+    public ImportLine next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            ImportLine parsed = line.isBlank() ? null : parse(lineNumber, line);
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+        return null;
+    }
+
+    /** Returns {@code null} for a line that holds no row, such as a header. */
+    protected abstract ImportLine parse(int lineNumber, String line);
+}
@@ -0,0 +1,27 @@
+package com.catalin.tennis.importer;
+
+import com.catalin.tennis.dto.request.MatchImportRowDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Reader;
+
+/** One JSON object per line, with the fields of {@link MatchImportRowDTO}. */
+public class NdjsonMatchRowReader extends MatchRowReader {
+
+    private final ObjectReader rowReader;
+
+    public NdjsonMatchRowReader(Reader reader, ObjectReader rowReader) {
+        super(reader);
+        this.rowReader = rowReader;
+    }
+
+    @Override
+    protected ImportLine parse(int lineNumber, String line) {
+        try {
+            return ImportLine.parsed(lineNumber, rowReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ImportLine.rejected(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.catalin.tennis.live;
+
+import com.catalin.tennis.dto.response.LiveScoreUpdateDTO;
+import com.catalin.tennis.exception.LiveChannelFullException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes score changes to spectators over Server-Sent Events, per tournament and per match.
+ * Every subscriber gets a small bounded buffer drained by its own virtual thread; a subscriber
+ * whose buffer is full is too slow to keep up and is disconnected instead of holding memory.
+ */
+@Component
+public class LiveScoreBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveScoreBroadcaster.class);
+
+    private final LiveSubscriberRegistry<LiveScoreSubscriber> tournamentSubscribers = new LiveSubscriberRegistry<>();
+    private final LiveSubscriberRegistry<LiveScoreSubscriber> matchSubscribers = new LiveSubscriberRegistry<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long emitterTimeoutMs;
+
+    public LiveScoreBroadcaster(@Value("${live.max-subscribers:20000}") int maxSubscribers,
+                                @Value("${live.subscriber-buffer-size:16}") int bufferSize,
+                                @Value("${live.emitter-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    public SseEmitter subscribeToTournament(Long tournamentId) {
+        return subscribe(tournamentSubscribers, tournamentId);
+    }
+
+    public SseEmitter subscribeToMatch(Long matchId) {
+        return subscribe(matchSubscribers, matchId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoreUpdated(MatchScoreUpdatedEvent event) {
+        LiveScoreUpdateDTO update = new LiveScoreUpdateDTO(event.getMatchId(), event.getTournamentId(), event.getSets());
+        publish(tournamentSubscribers.get(event.getTournamentId()), update);
+        publish(matchSubscribers.get(event.getMatchId()), update);
+    }
+
+    @Scheduled(fixedRateString = "${live.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        tournamentSubscribers.all().forEach(subscribers -> publish(subscribers, LiveScoreSubscriber.HEARTBEAT));
+        matchSubscribers.all().forEach(subscribers -> publish(subscribers, LiveScoreSubscriber.HEARTBEAT));
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    private SseEmitter subscribe(LiveSubscriberRegistry<LiveScoreSubscriber> registry, Long key) {
+        if (connections.incrementAndGet() > maxSubscribers) {
+            connections.decrementAndGet();
+            throw new LiveChannelFullException("Too many live score subscribers, try again later");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        LiveScoreSubscriber subscriber = new LiveScoreSubscriber(emitter, bufferSize);
+        registry.add(key, subscriber);
+
+        Runnable unsubscribe = () -> {
+            if (registry.remove(key, subscriber)) {
+                connections.decrementAndGet();
+                subscriber.close();
+            }
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe.run());
+        subscriber.start(senders, unsubscribe);
+        return emitter;
+    }
+
+    private void publish(Set<LiveScoreSubscriber> subscribers, Object payload) {
+        if (subscribers == null) {
+            return;
+        }
+        for (LiveScoreSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(payload)) {
+                logger.debug("Dropping slow live score subscriber");
+                subscriber.drop();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.catalin.tennis.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * One SSE connection: a bounded buffer of pending payloads and the virtual thread that writes them.
+ */
+class LiveScoreSubscriber {
+
+    static final Object HEARTBEAT = new Object();
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Object> buffer;
+    private volatile Future<?> sender;
+    private volatile Runnable unsubscribe = () -> { };
+
+    LiveScoreSubscriber(SseEmitter emitter, int bufferSize) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    void start(ExecutorService executor, Runnable unsubscribe) {
+        this.unsubscribe = unsubscribe;
+        sender = executor.submit(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    send(buffer.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe.run();
+            }
+        });
+    }
+
+    boolean offer(Object payload) {
+        return buffer.offer(payload);
+    }
+
+    /** Disconnects a subscriber that fell behind. */
+    void drop() {
+        emitter.complete();
+        unsubscribe.run();
+    }
+
+    void close() {
+        Future<?> current = sender;
+        if (current != null) {
+            current.cancel(true);
+        }
+        buffer.clear();
+    }
+
+    private void send(Object payload) throws IOException {
+        if (payload == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else {
+            emitter.send(SseEmitter.event().name("score").data(payload));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.catalin.tennis.live;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Subscribers per tournament or match. Adding to a key's set and removing the last subscriber together with
+ * the set both happen inside {@code compute}, so a subscriber is never added to a set that a concurrent
+ * unsubscribe has just dropped from the map.
+ */
+public class LiveSubscriberRegistry<S> {
+
+    private final Map<Long, Set<S>> subscribers = new ConcurrentHashMap<>();
+
+    public void add(Long key, S subscriber) {
+        subscribers.compute(key, (k, current) -> {
+            Set<S> set = current == null ? ConcurrentHashMap.newKeySet() : current;
+            set.add(subscriber);
+            return set;
+        });
+    }
+
+    /** Returns whether the subscriber was registered, so a second unsubscribe is a no-op. */
+    public boolean remove(Long key, S subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(key, (k, current) -> {
+            removed.set(current.remove(subscriber));
+            return current.isEmpty() ? null : current;
+        });
+        return removed.get();
+    }
+
+    /** The live set for the key, or null when nobody is subscribed; safe to iterate while it changes. */
+    public Set<S> get(Long key) {
+        return subscribers.get(key);
+    }
+
+    public Collection<Set<S>> all() {
+        return subscribers.values();
+    }
+}
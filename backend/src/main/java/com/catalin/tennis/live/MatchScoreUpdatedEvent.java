@@ -0,0 +1,19 @@
+package com.catalin.tennis.live;
+
+import com.catalin.tennis.model.SetScore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published by {@code MatchServiceImpl.updateScore}; delivered to spectators once the
+ * score change has committed.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchScoreUpdatedEvent {
+    private final Long matchId;
+    private final Long tournamentId;
+    private final List<SetScore> sets;
+}
@@ -0,0 +1,31 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/** A read notification moved out of {@code notifications} by the retention job; written only by that job. */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "notifications_archive")
+public class ArchivedNotification {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime timestamp;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(nullable = false)
+    private String message;
+}
@@ -0,0 +1,48 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * One position of a tournament bracket. Every round has its slots created up front; later-round slots
+ * stay empty until a winner (or a first-round bye) moves into them.
+ */
+@Entity
+@Setter
+@Getter
+@NoArgsConstructor
+@Table(name = "draw_slots",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tournament_id", "round_number", "position"}))
+public class DrawSlot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Tournament tournament;
+
+    @Column(name = "round_number", nullable = false)
+    private int round;
+
+    @Column(nullable = false)
+    private int position;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private User player;
+
+    private Integer seed;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Match match;
+}
@@ -28,7 +28,7 @@ public class Match {
     private User player2;
 
     @ManyToOne
-    @JoinColumn(name = "referee_id", nullable = false)
+    @JoinColumn(name = "referee_id")
     private User referee;
 
     @ManyToOne
@@ -38,12 +38,13 @@ public class Match {
 
     @ElementCollection
     @CollectionTable(name = "match_sets", joinColumns = @JoinColumn(name = "match_id"))
+    @OrderColumn(name = "set_number")
     private List<SetScore> sets;
 
-    @Column(name = "court_number", nullable = false)
+    @Column(name = "court_number")
     private Integer courtNumber;
 
-    @Column(name = "start_date", nullable = false)
+    @Column(name = "start_date")
     private LocalDateTime startDate;
 
     public static MatchBuilder builder() {
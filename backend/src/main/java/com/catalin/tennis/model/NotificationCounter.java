@@ -0,0 +1,32 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A user's unread count and newest notification id. Read-only here: {@code NotificationCounters}
+ * updates the row with every write to the user's notifications.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "notification_counters")
+public class NotificationCounter {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(nullable = false)
+    private int unread;
+
+    @Column(name = "last_notification_id", nullable = false)
+    private long lastNotificationId;
+}
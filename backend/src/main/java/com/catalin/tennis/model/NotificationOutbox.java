@@ -0,0 +1,38 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification waiting to be written to {@code notifications}. Rows are inserted in the same
+ * transaction as the change that caused them and removed once the background writer has copied them.
+ */
+@Entity
+@Setter
+@Getter
+@NoArgsConstructor
+@Table(name = "notification_outbox")
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public NotificationOutbox(Long userId, String message, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.message = message;
+        this.createdAt = createdAt;
+    }
+}
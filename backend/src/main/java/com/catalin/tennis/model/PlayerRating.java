@@ -0,0 +1,32 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A player's Elo rating. Read-only here: {@code RatingServiceImpl} writes the rows and keeps the
+ * same values in memory for listings.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "player_ratings")
+public class PlayerRating {
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    private User player;
+
+    @Column(nullable = false)
+    private double rating;
+
+    @Column(name = "rated_matches", nullable = false)
+    private int ratedMatches;
+}
@@ -0,0 +1,46 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A player's accumulated results in one tournament. Read-only here: rows are written by
+ * {@code StandingsServiceImpl}, which applies each score change as a delta.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "player_standings")
+public class PlayerStanding {
+    @EmbeddedId
+    private PlayerStandingId id;
+
+    @MapsId("playerId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    private User player;
+
+    @Column(name = "matches_played", nullable = false)
+    private int matchesPlayed;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(name = "sets_won", nullable = false)
+    private int setsWon;
+
+    @Column(name = "sets_lost", nullable = false)
+    private int setsLost;
+
+    @Column(name = "games_won", nullable = false)
+    private int gamesWon;
+
+    @Column(name = "games_lost", nullable = false)
+    private int gamesLost;
+}
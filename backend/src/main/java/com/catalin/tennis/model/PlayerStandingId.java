@@ -0,0 +1,23 @@
+package com.catalin.tennis.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PlayerStandingId implements Serializable {
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "player_id")
+    private Long playerId;
+}
@@ -3,6 +3,8 @@ package com.catalin.tennis.model;
 import com.catalin.tennis.model.enums.RegistrationStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -32,5 +34,7 @@ public class Registration {
     private LocalDateTime registrationDate;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 32)
     private RegistrationStatus status;
 }
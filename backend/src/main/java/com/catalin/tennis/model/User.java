@@ -3,6 +3,8 @@ package com.catalin.tennis.model;
 import com.catalin.tennis.model.enums.UserRoles;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,7 +29,8 @@ public class User {
     private String passwordHash;
 
     @Enumerated(EnumType.STRING)
-    @Column(name = "user_role",nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "user_role",nullable = false, length = 32)
     private UserRoles role;
 
     @Column(name ="name",nullable = false)
@@ -48,8 +51,7 @@ public class User {
     @OneToMany(mappedBy = "referee", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Match> matchesAsReferee = new ArrayList<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Notification> notifications = new ArrayList<>();
+    // notifications, live and archived, are removed by the foreign keys' on delete cascade
 
 
     public static UserBuilder builder() {
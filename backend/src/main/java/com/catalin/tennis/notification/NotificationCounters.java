@@ -0,0 +1,51 @@
+package com.catalin.tennis.notification;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@code notification_counters} in step with {@code notifications}. Every change is an additive
+ * update in the caller's transaction, so concurrent writers never overwrite each other's counts.
+ */
+@Component
+public class NotificationCounters {
+
+    // the newest id comes from the (user_id, id) index; a user deleted in the meantime gets no row
+    private static final String ADD_UNREAD =
+            "insert into notification_counters (user_id, unread, last_notification_id) " +
+            "select u.user_id, ?, (select max(n.id) from notifications n where n.user_id = u.user_id) " +
+            "from users u where u.user_id = ? " +
+            "on duplicate key update unread = unread + values(unread), last_notification_id = values(last_notification_id)";
+    private static final String SUBTRACT_UNREAD =
+            "update notification_counters set unread = unread - ? where user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Records notifications just inserted, as unread notifications per user id. */
+    public void added(Map<Long, Integer> unreadByUser) {
+        if (unreadByUser.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(unreadByUser.size());
+        // sorted, so concurrent writers lock the counter rows in the same order
+        unreadByUser.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> rows.add(new Object[]{e.getValue(), e.getKey()}));
+        jdbcTemplate.batchUpdate(ADD_UNREAD, rows, new int[]{Types.INTEGER, Types.BIGINT});
+    }
+
+    public void read(long userId, int count) {
+        if (count > 0) {
+            jdbcTemplate.update(SUBTRACT_UNREAD, count, userId);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.catalin.tennis.notification;
+
+import com.catalin.tennis.model.NotificationOutbox;
+import com.catalin.tennis.repository.NotificationOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains {@code notification_outbox} into {@code notifications} in JDBC batches. Users are resolved
+ * by id inside the insert itself, so a notification for a user deleted in the meantime is dropped
+ * instead of failing the whole batch. Rows leave the outbox in the same transaction they are written,
+ * so queued notifications survive restarts and are written exactly once. The unread counters are
+ * updated in that transaction too.
+ */
+@Component
+public class NotificationOutboxWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationOutboxWriter.class);
+
+    private static final String INSERT_NOTIFICATION =
+            "insert into notifications (user_id, message, timestamp, is_read) " +
+            "select u.user_id, ?, ?, false from users u where u.user_id = ?";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationCounters counters;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public NotificationOutboxWriter(NotificationOutboxRepository outboxRepository,
+                                    NotificationCounters counters,
+                                    JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${notifications.outbox.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.counters = counters;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.poll-interval-ms:500}")
+    public void drain() {
+        int written;
+        do {
+            Integer result = transactionTemplate.execute(status -> writeBatch());
+            written = result == null ? 0 : result;
+        } while (written == batchSize);
+    }
+
+    private int writeBatch() {
+        List<NotificationOutbox> batch = outboxRepository.lockNextBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, batch, batch.size(), (ps, entry) -> {
+            ps.setString(1, entry.getMessage());
+            ps.setTimestamp(2, Timestamp.valueOf(entry.getCreatedAt()));
+            ps.setLong(3, entry.getUserId());
+        });
+        Map<Long, Integer> unreadByUser = new HashMap<>();
+        for (NotificationOutbox entry : batch) {
+            unreadByUser.merge(entry.getUserId(), 1, Integer::sum);
+        }
+        counters.added(unreadByUser);
+        outboxRepository.deleteAllInBatch(batch);
+        logger.debug("Wrote {} queued notifications", batch.size());
+        return batch.size();
+    }
+}
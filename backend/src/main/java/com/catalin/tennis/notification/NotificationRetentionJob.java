@@ -0,0 +1,86 @@
+package com.catalin.tennis.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves read notifications older than the retention period into {@code notifications_archive}. Each chunk
+ * is its own short transaction: it locks the oldest read rows, copies them and deletes them, so at most
+ * one chunk of rows is ever locked and a failed run simply resumes with the next one. Unread notifications
+ * are never archived, so the unread counters do not change.
+ */
+@Component
+public class NotificationRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionJob.class);
+
+    private static final String LOCK_CHUNK =
+            "select id from notifications where is_read = true and timestamp < ? order by timestamp, id limit ? for update";
+    // rows without a user (left from before the foreign key cascaded) are dropped rather than archived
+    private static final String ARCHIVE =
+            "insert into notifications_archive (id, user_id, timestamp, archived_at, message) " +
+            "select id, user_id, timestamp, ?, message from notifications where id = ? and user_id is not null";
+    private static final String DELETE = "delete from notifications where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public NotificationRetentionJob(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${notifications.retention.days:90}") int retentionDays,
+                                    @Value("${notifications.retention.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${notifications.retention.cron:0 30 3 * * *}")
+    public void run() {
+        archiveReadNotifications();
+    }
+
+    /** Archives everything past the retention period and returns how many notifications were moved. */
+    public int archiveReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int moved;
+        do {
+            Integer result = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            moved = result == null ? 0 : result;
+            total += moved;
+        } while (moved == chunkSize);
+        logger.info("Archived {} read notifications older than {}", total, cutoff);
+        return total;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(LOCK_CHUNK, Long.class, Timestamp.valueOf(cutoff), chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> archiveRows = new ArrayList<>(ids.size());
+        List<Object[]> deleteRows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            archiveRows.add(new Object[]{archivedAt, id});
+            deleteRows.add(new Object[]{id});
+        }
+        jdbcTemplate.batchUpdate(ARCHIVE, archiveRows, new int[]{Types.TIMESTAMP, Types.BIGINT});
+        jdbcTemplate.batchUpdate(DELETE, deleteRows, new int[]{Types.BIGINT});
+        return ids.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.model.ArchivedNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedNotificationRepository extends JpaRepository<ArchivedNotification, Long> {
+
+    // the message filter is applied to the rows of the user's index range, newest first
+    @Query("select new com.catalin.tennis.dto.response.NotificationResponseDTO(a.id, a.message, a.timestamp, true) " +
+            "from ArchivedNotification a where a.userId = :userId " +
+            "and (a.timestamp < :timestamp or (a.timestamp = :timestamp and a.id < :id)) " +
+            "and lower(a.message) like :pattern escape '!' " +
+            "order by a.timestamp desc, a.id desc")
+    List<NotificationResponseDTO> searchByUserIdBefore(@Param("userId") Long userId,
+                                                       @Param("timestamp") LocalDateTime timestamp,
+                                                       @Param("id") Long id,
+                                                       @Param("pattern") String pattern,
+                                                       Pageable pageable);
+}
@@ -0,0 +1,20 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.dto.response.DrawSlotDTO;
+import com.catalin.tennis.model.DrawSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DrawSlotRepository extends JpaRepository<DrawSlot, Long> {
+    boolean existsByTournament_Id(Long tournamentId);
+
+    @Query("select new com.catalin.tennis.dto.response.DrawSlotDTO(s.round, s.position, p.username, s.seed, m.id) " +
+           "from DrawSlot s left join s.player p left join s.match m " +
+           "where s.tournament.id = :tournamentId order by s.round, s.position")
+    List<DrawSlotDTO> findSlotDTOsByTournamentId(@Param("tournamentId") Long tournamentId);
+}
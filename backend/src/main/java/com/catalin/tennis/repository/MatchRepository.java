@@ -1,13 +1,29 @@
 package com.catalin.tennis.repository;
 
+import com.catalin.tennis.dto.projection.MatchExportRow;
+import com.catalin.tennis.dto.projection.MatchPairingRow;
+import com.catalin.tennis.dto.projection.MatchSetRow;
+import com.catalin.tennis.dto.projection.ScheduledMatchRow;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
 import com.catalin.tennis.model.Match;
 import com.catalin.tennis.model.Tournament;
 import com.catalin.tennis.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
@@ -16,8 +32,111 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     List<Match> findByTournament_Id(Long tournamentId);
     List<Match> findByReferee_Id(Long refereeId);
     List<Match> findAllByReferee(User referee);
-    List<Match> findByPlayer1OrPlayer2(User player1, User player2);
     boolean existsByPlayer1_IdAndPlayer2_IdAndReferee_IdAndTournament_IdAndStartDate(
             Long p1, Long p2, Long ref, Long tourId, LocalDateTime date);
 
+    String MATCH_DTO_SELECT = "select new com.catalin.tennis.dto.response.MatchResponseDTO(" +
+            "m.id, p1.id, p1.username, p2.id, p2.username, r.username, t.name, m.courtNumber, m.startDate) " +
+            "from Match m join m.player1 p1 join m.player2 p2 left join m.referee r join m.tournament t ";
+    String MATCH_SET_SELECT = "select new com.catalin.tennis.dto.projection.MatchSetRow(" +
+            "m.id, s.player1Games, s.player2Games) from Match m join m.sets s ";
+    // callers group the rows by match, and the set order decides who won each match
+    String MATCH_SET_ORDER = "order by m.id, index(s)";
+
+    @Query(MATCH_DTO_SELECT + "where t.id = :tournamentId order by m.id")
+    List<MatchResponseDTO> findMatchDTOsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query(MATCH_SET_SELECT + "where m.tournament.id = :tournamentId " + MATCH_SET_ORDER)
+    List<MatchSetRow> findSetRowsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query(MATCH_DTO_SELECT + "where t.id = :tournamentId and m.id > :afterId order by m.id")
+    List<MatchResponseDTO> findMatchDTOPageByTournamentId(@Param("tournamentId") Long tournamentId,
+                                                          @Param("afterId") Long afterId,
+                                                          Pageable pageable);
+
+    @Query(MATCH_SET_SELECT + "where m.id in :matchIds " + MATCH_SET_ORDER)
+    List<MatchSetRow> findSetRowsByMatchIds(@Param("matchIds") Collection<Long> matchIds);
+
+    @Query(MATCH_DTO_SELECT + "where m.referee.id = :refereeId order by m.id")
+    List<MatchResponseDTO> findMatchDTOsByRefereeId(@Param("refereeId") Long refereeId);
+
+    @Query(MATCH_SET_SELECT + "where m.referee.id = :refereeId " + MATCH_SET_ORDER)
+    List<MatchSetRow> findSetRowsByRefereeId(@Param("refereeId") Long refereeId);
+
+    // A player's matches are read one side of the pairing at a time and merged by the caller: each lookup is a
+    // range on (playerN_id, start_date, match_id), where "player1_id = ? or player2_id = ?" needs an index merge.
+    String PLAYER1_UPCOMING = "where p1.id = :playerId and m.startDate < :to " +
+            "and (m.startDate > :afterDate or (m.startDate = :afterDate and m.id > :afterId)) ";
+    String PLAYER2_UPCOMING = "where p2.id = :playerId and m.startDate < :to " +
+            "and (m.startDate > :afterDate or (m.startDate = :afterDate and m.id > :afterId)) ";
+    String PLAYER1_PAST = "where p1.id = :playerId and m.startDate >= :from " +
+            "and (m.startDate < :beforeDate or (m.startDate = :beforeDate and m.id < :beforeId)) ";
+    String PLAYER2_PAST = "where p2.id = :playerId and m.startDate >= :from " +
+            "and (m.startDate < :beforeDate or (m.startDate = :beforeDate and m.id < :beforeId)) ";
+
+    @Query(MATCH_DTO_SELECT + "where p1.id = :playerId order by m.id")
+    List<MatchResponseDTO> findMatchDTOsByPlayer1Id(@Param("playerId") Long playerId);
+
+    @Query(MATCH_DTO_SELECT + "where p2.id = :playerId order by m.id")
+    List<MatchResponseDTO> findMatchDTOsByPlayer2Id(@Param("playerId") Long playerId);
+
+    @Query(MATCH_DTO_SELECT + PLAYER1_UPCOMING + "order by m.startDate, m.id")
+    List<MatchResponseDTO> findUpcomingMatchDTOsByPlayer1Id(@Param("playerId") Long playerId,
+                                                            @Param("afterDate") LocalDateTime afterDate,
+                                                            @Param("afterId") Long afterId,
+                                                            @Param("to") LocalDateTime to,
+                                                            Pageable pageable);
+
+    @Query(MATCH_DTO_SELECT + PLAYER2_UPCOMING + "order by m.startDate, m.id")
+    List<MatchResponseDTO> findUpcomingMatchDTOsByPlayer2Id(@Param("playerId") Long playerId,
+                                                            @Param("afterDate") LocalDateTime afterDate,
+                                                            @Param("afterId") Long afterId,
+                                                            @Param("to") LocalDateTime to,
+                                                            Pageable pageable);
+
+    @Query(MATCH_DTO_SELECT + PLAYER1_PAST + "order by m.startDate desc, m.id desc")
+    List<MatchResponseDTO> findPastMatchDTOsByPlayer1Id(@Param("playerId") Long playerId,
+                                                        @Param("beforeDate") LocalDateTime beforeDate,
+                                                        @Param("beforeId") Long beforeId,
+                                                        @Param("from") LocalDateTime from,
+                                                        Pageable pageable);
+
+    @Query(MATCH_DTO_SELECT + PLAYER2_PAST + "order by m.startDate desc, m.id desc")
+    List<MatchResponseDTO> findPastMatchDTOsByPlayer2Id(@Param("playerId") Long playerId,
+                                                        @Param("beforeDate") LocalDateTime beforeDate,
+                                                        @Param("beforeId") Long beforeId,
+                                                        @Param("from") LocalDateTime from,
+                                                        Pageable pageable);
+
+    @Query("select new com.catalin.tennis.dto.projection.MatchPairingRow(m.id, m.player1.id, m.player2.id) " +
+            "from Match m where m.tournament.id = :tournamentId " +
+            "and (m.startDate is null or m.courtNumber is null or m.referee is null) order by m.id")
+    List<MatchPairingRow> findUnscheduledPairingsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    // score changes lock the match so concurrent updates apply their standings deltas one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Match m where m.id = :id")
+    Optional<Match> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.catalin.tennis.dto.projection.MatchPairingRow(m.id, m.player1.id, m.player2.id) " +
+            "from Match m where m.tournament.id = :tournamentId")
+    List<MatchPairingRow> lockPairingsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query("select new com.catalin.tennis.dto.projection.ScheduledMatchRow(" +
+            "m.tournament.id, m.player1.id, m.player2.id, r.id, m.courtNumber, m.startDate) " +
+            "from Match m join m.referee r " +
+            "where m.startDate >= :from and m.startDate < :to and m.courtNumber is not null")
+    List<ScheduledMatchRow> findScheduledBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new com.catalin.tennis.dto.projection.MatchExportRow(" +
+            "m.id, p1.username, p2.username, r.username, m.courtNumber, m.startDate, s.player1Games, s.player2Games) " +
+            "from Match m join m.player1 p1 join m.player2 p2 left join m.referee r left join m.sets s " +
+            "where m.tournament.id = :tournamentId order by m.id, index(s)")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MatchExportRow> streamExportRowsByTournamentId(@Param("tournamentId") Long tournamentId);
+
 }
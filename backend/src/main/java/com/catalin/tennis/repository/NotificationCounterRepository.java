@@ -0,0 +1,16 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.model.NotificationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationCounterRepository extends JpaRepository<NotificationCounter, Long> {
+
+    @Query("select c from NotificationCounter c join c.user u where u.username = :username")
+    Optional<NotificationCounter> findByUsername(@Param("username") String username);
+}
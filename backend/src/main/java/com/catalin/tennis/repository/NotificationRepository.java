@@ -1,12 +1,51 @@
 package com.catalin.tennis.repository;
 
+import com.catalin.tennis.dto.response.NotificationResponseDTO;
 import com.catalin.tennis.model.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserUsernameOrderByTimestampDesc(String username);
+    @Query("select n from Notification n join n.user u where u.username = :username order by n.timestamp desc")
+    List<Notification> findByUserUsernameOrderByTimestampDesc(@Param("username") String username);
+
+    String NOTIFICATION_DTO_SELECT = "select new com.catalin.tennis.dto.response.NotificationResponseDTO(" +
+            "n.id, n.message, n.timestamp, n.read) from Notification n ";
+
+    @Query(NOTIFICATION_DTO_SELECT + "where n.user.id = :userId order by n.timestamp desc, n.id desc")
+    List<NotificationResponseDTO> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(NOTIFICATION_DTO_SELECT + "where n.user.id = :userId " +
+            "and (n.timestamp < :timestamp or (n.timestamp = :timestamp and n.id < :id)) " +
+            "order by n.timestamp desc, n.id desc")
+    List<NotificationResponseDTO> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                         @Param("timestamp") LocalDateTime timestamp,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    @Query(NOTIFICATION_DTO_SELECT + "where n.user.id = :userId and n.id > :afterId order by n.id")
+    List<NotificationResponseDTO> findByUserIdAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    @Query("select n.user.id from Notification n where n.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    // only unread rows count, so the caller can take exactly the changed rows off the unread counter
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.read = true where n.user.id = :userId and n.id in :ids and n.read = false")
+    int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.read = true where n.user.id = :userId and n.id <= :upToId and n.read = false")
+    int markReadUpTo(@Param("userId") Long userId, @Param("upToId") Long upToId);
 }
@@ -0,0 +1,18 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.dto.response.PlayerRatingDTO;
+import com.catalin.tennis.model.PlayerRating;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlayerRatingRepository extends JpaRepository<PlayerRating, Long> {
+
+    @Query("select new com.catalin.tennis.dto.response.PlayerRatingDTO(p.id, p.username, r.rating, r.ratedMatches) " +
+           "from PlayerRating r join r.player p order by r.rating desc, r.playerId desc")
+    List<PlayerRatingDTO> findTopRated(Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.dto.response.PlayerStandingDTO;
+import com.catalin.tennis.model.PlayerStanding;
+import com.catalin.tennis.model.PlayerStandingId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlayerStandingRepository extends JpaRepository<PlayerStanding, PlayerStandingId> {
+
+    String STANDING_DTO_SELECT = "select new com.catalin.tennis.dto.response.PlayerStandingDTO(" +
+            "s.id.tournamentId, p.username, s.matchesPlayed, s.wins, s.losses, s.setsWon, s.setsLost, s.gamesWon, s.gamesLost) " +
+            "from PlayerStanding s join s.player p ";
+
+    @Query(STANDING_DTO_SELECT + "where s.id.tournamentId = :tournamentId " +
+            "order by s.wins desc, s.setsWon - s.setsLost desc, s.gamesWon - s.gamesLost desc, p.username")
+    List<PlayerStandingDTO> findStandingDTOsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    @Query(STANDING_DTO_SELECT + "where p.username = :username order by s.id.tournamentId")
+    List<PlayerStandingDTO> findStandingDTOsByUsername(@Param("username") String username);
+}
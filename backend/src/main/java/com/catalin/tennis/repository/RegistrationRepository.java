@@ -1,19 +1,48 @@
 package com.catalin.tennis.repository;
 
+import com.catalin.tennis.dto.projection.RegistrationDecisionRow;
 import com.catalin.tennis.model.Registration;
 import com.catalin.tennis.model.Tournament;
 import com.catalin.tennis.model.User;
 import com.catalin.tennis.model.enums.RegistrationStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RegistrationRepository extends JpaRepository<Registration, Long> {
+    String DECISION_ROW_SELECT = "select new com.catalin.tennis.dto.projection.RegistrationDecisionRow(" +
+            "r.id, r.status, p.id, t.name) from Registration r join r.player p join r.tournament t ";
+
     boolean existsByPlayerAndTournament(User player, Tournament tournament);
     List<Registration> findByPlayer(User player);
     List<Registration> findByTournament(Tournament tournament);
     List<Registration> findByTournamentAndStatus(Tournament tournament, RegistrationStatus status);
 
+    @Query("select r.player.id from Registration r " +
+           "where r.tournament.id = :tournamentId and r.status = :status order by r.registrationDate, r.id")
+    List<Long> findPlayerIdsByTournamentIdAndStatus(@Param("tournamentId") Long tournamentId,
+                                                    @Param("status") RegistrationStatus status);
+
+    // rows are locked so the outcome reported for each id matches what the update below does
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(DECISION_ROW_SELECT + "where r.id in :ids order by r.id")
+    List<RegistrationDecisionRow> lockDecisionRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(DECISION_ROW_SELECT + "where t.id = :tournamentId and r.status = :status order by r.id")
+    List<RegistrationDecisionRow> lockDecisionRowsByTournamentAndStatus(@Param("tournamentId") Long tournamentId,
+                                                                        @Param("status") RegistrationStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Registration r set r.status = :status " +
+           "where r.id in :ids and r.status = com.catalin.tennis.model.enums.RegistrationStatus.PENDING")
+    int decidePending(@Param("ids") Collection<Long> ids, @Param("status") RegistrationStatus status);
 }
@@ -1,19 +1,40 @@
 package com.catalin.tennis.repository;
 
 import com.catalin.tennis.model.Tournament;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+public interface TournamentRepository extends JpaRepository<Tournament, Long>, TournamentSearchRepository {
     Optional<Tournament> findByName(String name);
     boolean existsByName(String name);
     List<Tournament> findAllByStartDate(LocalDate startDate);
     List<Tournament> findAllByEndDate(LocalDate endDate);
-    List<Tournament> findAllByStartDateAfter(LocalDate date);
+    List<Tournament> findAllByStartDateAfterOrderByStartDateAscIdAsc(LocalDate date);
     List<Tournament> findAllByEndDateBefore(LocalDate date);
+
+    @Query("select t from Tournament t where t.id > :afterId order by t.id")
+    List<Tournament> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select t.id from Tournament t order by t.id")
+    List<Long> findAllIds();
+
+    @Query("select t.id from Tournament t where t.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // draws and scheduling runs lock their tournament so two concurrent requests cannot both find it undrawn,
+    // or both find the same matches unscheduled
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Tournament t where t.id = :id")
+    Optional<Tournament> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,17 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import com.catalin.tennis.dto.response.TournamentResponseDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TournamentSearchRepository {
+
+    /**
+     * Tournaments matching {@code filters}, ordered by start date then id, starting after the
+     * ({@code afterStartDate}, {@code afterId}) keyset position; {@code afterStartDate} is null for the first page.
+     */
+    List<TournamentResponseDTO> search(TournamentSearchDTO filters, LocalDate afterStartDate, long afterId,
+                                       LocalDate today, int limit);
+}
@@ -0,0 +1,85 @@
+package com.catalin.tennis.repository;
+
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import com.catalin.tennis.dto.response.TournamentResponseDTO;
+import com.catalin.tennis.model.Registration;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Only the filters that are set become predicates, so the database can range-scan the start/end/deadline
+ * indexes instead of evaluating "(:x is null or ...)" for every row.
+ */
+public class TournamentSearchRepositoryImpl implements TournamentSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TournamentResponseDTO> search(TournamentSearchDTO filters, LocalDate afterStartDate, long afterId,
+                                              LocalDate today, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TournamentResponseDTO> query = cb.createQuery(TournamentResponseDTO.class);
+        Root<Tournament> t = query.from(Tournament.class);
+        Path<LocalDate> startDate = t.get("startDate");
+        Path<LocalDate> endDate = t.get("endDate");
+        Path<LocalDate> deadline = t.get("registrationDeadline");
+        Path<Long> id = t.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filters.getStartFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(startDate, filters.getStartFrom()));
+        }
+        if (filters.getStartTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(startDate, filters.getStartTo()));
+        }
+        if (filters.getEndFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(endDate, filters.getEndFrom()));
+        }
+        if (filters.getEndTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(endDate, filters.getEndTo()));
+        }
+        if (filters.getOverlapsTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(startDate, filters.getOverlapsTo()));
+        }
+        if (filters.getOverlapsFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(endDate, filters.getOverlapsFrom()));
+        }
+        if (Boolean.TRUE.equals(filters.getOpenForRegistration())) {
+            predicates.add(cb.or(
+                    cb.greaterThanOrEqualTo(deadline, today),
+                    cb.and(cb.isNull(deadline), cb.greaterThan(startDate, today))));
+        }
+        if (filters.getMinFreePlaces() != null) {
+            // counted through the (tournament_id, status) index, only for rows that pass the other filters
+            Subquery<Long> approved = query.subquery(Long.class);
+            Root<Registration> r = approved.from(Registration.class);
+            approved.select(cb.count(r)).where(
+                    cb.equal(r.get("tournament"), t),
+                    cb.equal(r.get("status"), RegistrationStatus.APPROVED));
+            Path<Integer> maxParticipants = t.get("maxParticipants");
+            predicates.add(cb.or(
+                    cb.lessThanOrEqualTo(maxParticipants, 0),
+                    cb.greaterThanOrEqualTo(cb.diff(maxParticipants.as(Long.class), approved),
+                            filters.getMinFreePlaces().longValue())));
+        }
+        if (afterStartDate != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(startDate, afterStartDate),
+                    cb.and(cb.equal(startDate, afterStartDate), cb.greaterThan(id, afterId))));
+        }
+
+        query.select(cb.construct(TournamentResponseDTO.class,
+                        id, t.get("name"), startDate, endDate, deadline, t.get("maxParticipants")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(startDate), cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+}
@@ -1,11 +1,16 @@
 package com.catalin.tennis.repository;
 
+import com.catalin.tennis.dto.projection.UsernameIdRow;
 import com.catalin.tennis.model.User;
 import com.catalin.tennis.model.enums.UserRoles;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,10 +18,22 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User,Long>{
     Optional<User> findByUsername(String username);
     List<User> findAllByName(String name);
-    List<User> findAllByCreatedAt(LocalDateTime createdAt);
     List<User> findAllByRole(UserRoles role);
     boolean existsUserByUsername(String username);
     List<User> findAllByRoleAndNameContainingIgnoreCase(UserRoles role, String name);
     List<User> findAllByRoleAndCreatedAtBetween(UserRoles role, LocalDateTime start, LocalDateTime end);
 
+    @Query("select new com.catalin.tennis.dto.projection.UsernameIdRow(u.username, u.id) " +
+           "from User u where u.username in :usernames")
+    List<UsernameIdRow> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("select u.id from User u where u.role = :role order by u.id")
+    List<Long> findIdsByRole(@Param("role") UserRoles role);
+
+    @Query("select u.id from User u where u.role = :role and u.id in :ids order by u.id")
+    List<Long> findIdsByRoleAndIdIn(@Param("role") UserRoles role, @Param("ids") Collection<Long> ids);
+
+    @Query("select u from User u where u.id > :afterId order by u.id")
+    List<User> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
 }
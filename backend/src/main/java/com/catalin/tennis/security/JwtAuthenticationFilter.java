@@ -24,19 +24,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String header = request.getHeader("Authorization");
         if(header != null && header.startsWith("Bearer ")){
             String token = header.substring(7);
-            if(jwtUtil.validateToken(token)){
-                String username = jwtUtil.getUsernameFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
-
+            jwtUtil.verify(token).ifPresent(verified -> {
                 UsernamePasswordAuthenticationToken authenticationToken=
                         new UsernamePasswordAuthenticationToken(
-                                username,
+                                verified.getUsername(),
                                 null,
-                                Collections.singletonList(new SimpleGrantedAuthority(role))
+                                Collections.singletonList(new SimpleGrantedAuthority(verified.getRole()))
                         );
 
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
+            });
         }
         filterChain.doFilter(request,response);
     }
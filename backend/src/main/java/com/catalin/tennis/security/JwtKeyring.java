@@ -0,0 +1,189 @@
+package com.catalin.tennis.security;
+
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The HS256 keys tokens are signed and verified with, identified by the {@code kid} in each token's header.
+ * Every node loads the same keys, from {@code jwt.keys} or from the {@code jwt.key-file} they share, so any node
+ * verifies any other node's tokens without talking to it. A key is written as {@code id=base64-secret}, optionally
+ * followed by {@code @activation-instant}; tokens are signed with the most recently activated key and verified
+ * with any key in the ring.
+ * <p>
+ * Rotation needs no coordination: add the next key with a future activation time, and every node starts signing
+ * with it at that instant while still accepting the old one. Once the old key's last tokens have expired it can
+ * be removed. The key file is re-read every {@code jwt.key-file.reload-interval-ms}.
+ * <p>
+ * Without any configured key a random one is generated, so tokens do not survive a restart and only work on
+ * this node; fine for development and tests only.
+ */
+@Component
+public class JwtKeyring {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyring.class);
+
+    public record SigningKey(String id, SecretKey key, Instant activeFrom) {
+    }
+
+    private final Path keyFile;
+    private final List<Runnable> removalListeners = new CopyOnWriteArrayList<>();
+    // sorted by activation, replaced as a whole on reload
+    private volatile List<SigningKey> keys;
+    private volatile Map<String, SigningKey> keysById;
+
+    private JwtKeyring(Path keyFile, List<SigningKey> keys) {
+        this.keyFile = keyFile;
+        install(keys);
+    }
+
+    @Autowired
+    public JwtKeyring(@Value("${jwt.keys:}") String inlineKeys, @Value("${jwt.key-file:}") String keyFile) {
+        this(keyFile.isBlank() ? null : Path.of(keyFile), List.of());
+        if (this.keyFile != null) {
+            install(readKeyFile(this.keyFile));
+        } else if (!inlineKeys.isBlank()) {
+            List<SigningKey> parsed = new ArrayList<>();
+            for (String entry : inlineKeys.split(",")) {
+                String[] idAndValue = entry.trim().split("=", 2);
+                if (idAndValue.length != 2) {
+                    throw new IllegalStateException("jwt.keys entries must be written as id=base64-secret[@instant]");
+                }
+                parsed.add(parse(idAndValue[0].trim(), idAndValue[1].trim()));
+            }
+            install(parsed);
+        } else {
+            logger.warn("No jwt.keys or jwt.key-file configured; signing with a random key that only this node "
+                    + "knows and that is lost on restart");
+            install(List.of(randomKey()));
+        }
+        logger.info("JWT keyring loaded with keys {}, signing with '{}'", keysById.keySet(), signingKey().id());
+    }
+
+    /** A ring holding one random key, for code that creates a {@link JwtUtil} outside Spring. */
+    public static JwtKeyring ephemeral() {
+        return new JwtKeyring(null, List.of(randomKey()));
+    }
+
+    /** The most recently activated key; keys whose activation lies in the future are only used to verify. */
+    public SigningKey signingKey() {
+        Instant now = Instant.now();
+        List<SigningKey> current = keys;
+        for (int i = current.size() - 1; i >= 0; i--) {
+            if (!current.get(i).activeFrom().isAfter(now)) {
+                return current.get(i);
+            }
+        }
+        throw new IllegalStateException("No JWT signing key is active yet");
+    }
+
+    public Optional<SecretKey> verificationKey(String keyId) {
+        SigningKey key = keyId == null ? null : keysById.get(keyId);
+        return key == null ? Optional.empty() : Optional.of(key.key());
+    }
+
+    /** Called after a reload dropped a key, so anything verified with it can be forgotten. */
+    public void onKeyRemoved(Runnable listener) {
+        removalListeners.add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.key-file.reload-interval-ms:60000}")
+    public void reload() {
+        if (keyFile == null) {
+            return;
+        }
+        List<SigningKey> reloaded;
+        try {
+            reloaded = byActivation(readKeyFile(keyFile));
+        } catch (IllegalStateException ex) {
+            // keep serving with the keys we have; a half-written file must not lock everyone out
+            logger.error("Could not reload the JWT key file, keeping the current keys", ex);
+            return;
+        }
+        Map<String, SigningKey> previous = keysById;
+        if (reloaded.equals(keys)) {
+            return;
+        }
+        install(reloaded);
+        logger.info("JWT keyring reloaded with keys {}, signing with '{}'", keysById.keySet(), signingKey().id());
+        if (previous.values().stream().anyMatch(key -> !key.equals(keysById.get(key.id())))) {
+            removalListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void install(List<SigningKey> newKeys) {
+        List<SigningKey> sorted = byActivation(newKeys);
+        this.keysById = sorted.stream().collect(Collectors.toMap(SigningKey::id, Function.identity()));
+        this.keys = sorted;
+    }
+
+    private static List<SigningKey> byActivation(List<SigningKey> keys) {
+        return keys.stream()
+                .sorted(Comparator.comparing(SigningKey::activeFrom).thenComparing(SigningKey::id))
+                .toList();
+    }
+
+    private static List<SigningKey> readKeyFile(Path file) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Cannot read JWT key file " + file, ex);
+        }
+        if (properties.isEmpty()) {
+            throw new IllegalStateException("JWT key file " + file + " holds no keys");
+        }
+        List<SigningKey> keys = new ArrayList<>();
+        for (String id : properties.stringPropertyNames()) {
+            keys.add(parse(id, properties.getProperty(id).trim()));
+        }
+        return keys;
+    }
+
+    private static SigningKey parse(String id, String value) {
+        int at = value.indexOf('@');
+        String secret = at < 0 ? value : value.substring(0, at);
+        try {
+            Instant activeFrom = at < 0 ? Instant.EPOCH : Instant.parse(value.substring(at + 1).trim());
+            return new SigningKey(id, Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret.trim())), activeFrom);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalStateException("JWT key '" + id + "' is not base64-secret[@ISO-8601 instant]", ex);
+        } catch (WeakKeyException ex) {
+            throw new IllegalStateException("JWT key '" + id + "' must be at least 256 bits", ex);
+        }
+    }
+
+    private static SigningKey randomKey() {
+        byte[] secret = new byte[32];
+        SecureRandom random = new SecureRandom();
+        random.nextBytes(secret);
+        byte[] id = new byte[4];
+        random.nextBytes(id);
+        return new SigningKey("local-" + HexFormat.of().formatHex(id), Keys.hmacShaKeyFor(secret), Instant.EPOCH);
+    }
+}
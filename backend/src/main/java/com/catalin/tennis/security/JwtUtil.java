@@ -1,58 +1,179 @@
 package com.catalin.tennis.security;
 
+import com.catalin.tennis.cache.CacheRegistry;
 import com.catalin.tennis.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private static final long DEFAULT_VERIFIED_CACHE_SIZE = 10_000;
+
+    private final JwtKeyring keyring;
 
     private final long jwtExpirationInMs = 3600000;
 
+    private final JwtParser parser;
+
+    // Tokens whose signature has already been checked, keyed by a SHA-256 digest of the token
+    // and dropped at the token's own exp, so repeat requests skip the HMAC verification.
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil() {
+        this(DEFAULT_VERIFIED_CACHE_SIZE);
+    }
+
+    public JwtUtil(long verifiedCacheMaxSize) {
+        this(JwtKeyring.ephemeral(), verifiedCacheMaxSize);
+    }
+
+    @Autowired
+    public JwtUtil(JwtKeyring keyring, @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        this.keyring = keyring;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyringResolver(keyring))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .recordStats()
+                .build();
+        // a token verified with a key that was since retired or replaced must be checked again
+        keyring.onKeyRemoved(verifiedTokens::invalidateAll);
+    }
+
+    @Autowired(required = false)
+    void registerCaches(CacheRegistry cacheRegistry) {
+        cacheRegistry.register("jwt.verified-tokens", verifiedTokens);
+    }
+
     public String generateToken(User user) {
+        JwtKeyring.SigningKey signingKey = keyring.signingKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.id())
                 .setSubject(user.getUsername())
                 .claim("role", user.getRole().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationInMs))
-                .signWith(key)
+                .signWith(signingKey.key())
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns everything the authentication filter needs,
+     * or empty when the token is malformed, tampered with or expired.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.getExpiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant()
+            );
+            verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
     public String getUsernameFromToken(String token){
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token)
+                .map(VerifiedToken::getUsername)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT token"));
     }
 
     public String getRoleFromToken(String token){
-        return (String) Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role");
+        return verify(token)
+                .map(VerifiedToken::getRole)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT token"));
     }
 
     public boolean validateToken(String token){
-        try{
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        }catch (Exception ex){
-            return false;
+        return verify(token).isPresent();
+    }
+
+    public CacheStats getVerifiedTokenCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    public long getVerifiedTokenCacheSize() {
+        return verifiedTokens.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static class KeyringResolver extends SigningKeyResolverAdapter {
+        private final JwtKeyring keyring;
+
+        KeyringResolver(JwtKeyring keyring) {
+            this.keyring = keyring;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            return keyring.verificationKey(header.getKeyId())
+                    .orElseThrow(() -> new UnsupportedJwtException("Unknown signing key: " + header.getKeyId()));
+        }
+    }
+
+    private static class ExpireAtTokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            long remainingMillis = token.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, remainingMillis) * 1_000_000;
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
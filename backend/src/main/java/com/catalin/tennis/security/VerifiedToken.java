@@ -0,0 +1,14 @@
+package com.catalin.tennis.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String username;
+    private final String role;
+    private final Instant expiresAt;
+}
@@ -0,0 +1,12 @@
+package com.catalin.tennis.service;
+
+import com.catalin.tennis.dto.request.GenerateDrawDTO;
+import com.catalin.tennis.dto.response.DrawResponseDTO;
+import com.catalin.tennis.dto.response.DrawSlotDTO;
+
+import java.util.List;
+
+public interface DrawService {
+    DrawResponseDTO generateDraw(Long tournamentId, GenerateDrawDTO dto);
+    List<DrawSlotDTO> getDraw(Long tournamentId);
+}
@@ -0,0 +1,10 @@
+package com.catalin.tennis.service;
+
+import com.catalin.tennis.dto.response.MatchImportResultDTO;
+
+import java.io.Reader;
+
+public interface MatchImportService {
+    MatchImportResultDTO importCsv(Reader input);
+    MatchImportResultDTO importNdjson(Reader input);
+}
@@ -1,18 +1,25 @@
 package com.catalin.tennis.service;
 
 import com.catalin.tennis.dto.request.CreateMatchDTO;
+import com.catalin.tennis.dto.request.PlayerMatchFilterDTO;
 import com.catalin.tennis.dto.request.UpdateScoreDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.MatchResponseDTO;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface MatchService {
     MatchResponseDTO createMatch(CreateMatchDTO dto);
     MatchResponseDTO updateScore(UpdateScoreDTO dto);
     List<MatchResponseDTO> getMatchesByTournament(Long tournamentId);
+    KeysetPageDTO<MatchResponseDTO> getMatchesByTournamentPage(Long tournamentId, String pageToken, int size);
     List<MatchResponseDTO> getMatchesByPlayer(String username);
+    KeysetPageDTO<MatchResponseDTO> getMatchesByPlayerPage(String username, PlayerMatchFilterDTO filters, String pageToken, int size);
     void deleteMatchById(Long id);
     List<MatchResponseDTO> getMatchesByRefereeUsername(String username);
     byte[] exportMatchesToCsvByTournament(Long tournamentId);
+    void exportMatchesToCsvByTournament(Long tournamentId, OutputStream out) throws IOException;
 
 }
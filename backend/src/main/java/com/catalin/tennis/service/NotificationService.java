@@ -1,11 +1,23 @@
 package com.catalin.tennis.service;
 
+import com.catalin.tennis.dto.request.MarkNotificationsReadDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.NotificationReadResultDTO;
 import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.dto.response.NotificationSyncDTO;
+import com.catalin.tennis.model.NotificationOutbox;
 
 import java.util.List;
 
 public interface NotificationService {
     List<NotificationResponseDTO> getUserNotifications(String username);
+    KeysetPageDTO<NotificationResponseDTO> getUserNotificationsPage(String username, String pageToken, int size);
+    KeysetPageDTO<NotificationResponseDTO> searchArchivedNotifications(String username, String query, String pageToken, int size);
+    NotificationSyncDTO getUserNotificationsSince(String username, long afterId, int size);
+    int getUnreadCount(String username);
     void createNotification(String username, String message);
+    void enqueueNotification(Long userId, String message);
+    void enqueueNotifications(List<NotificationOutbox> entries);
     void markAsRead(Long notificationId);
+    NotificationReadResultDTO markAsRead(String username, MarkNotificationsReadDTO dto);
 }
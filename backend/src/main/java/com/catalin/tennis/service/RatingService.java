@@ -0,0 +1,16 @@
+package com.catalin.tennis.service;
+
+import com.catalin.tennis.dto.response.PlayerRatingDTO;
+import com.catalin.tennis.dto.response.RatingRebuildResultDTO;
+import com.catalin.tennis.model.SetScore;
+
+import java.util.List;
+
+public interface RatingService {
+    void recordResult(long matchId, long player1Id, long player2Id, List<SetScore> before, List<SetScore> after);
+    Integer getRating(long playerId);
+    int getRank(long playerId);
+    PlayerRatingDTO getPlayerRating(String username);
+    List<PlayerRatingDTO> getTopRated(int size);
+    RatingRebuildResultDTO rebuild();
+}
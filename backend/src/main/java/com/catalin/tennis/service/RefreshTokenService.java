@@ -0,0 +1,12 @@
+package com.catalin.tennis.service;
+
+import com.catalin.tennis.model.User;
+
+import java.util.Map;
+
+public interface RefreshTokenService {
+    String issue(User user);
+    Map<String, String> refresh(String refreshToken);
+    void revoke(String refreshToken);
+    int purgeExpired();
+}
@@ -1,7 +1,10 @@
 package com.catalin.tennis.service;
 
+import com.catalin.tennis.dto.request.BulkRegistrationDecisionDTO;
 import com.catalin.tennis.dto.request.RegistrationRequestDTO;
+import com.catalin.tennis.dto.response.BulkRegistrationResultDTO;
 import com.catalin.tennis.dto.response.RegistrationResponseDTO;
+import com.catalin.tennis.model.enums.RegistrationStatus;
 
 import java.util.List;
 
@@ -11,6 +14,7 @@ public interface RegistrationService {
     List<RegistrationResponseDTO> getRegistrationsByTournament(Long tournamentId);
     void approveRegistration(Long id);
     void denyRegistration(Long id);
+    BulkRegistrationResultDTO decideRegistrations(BulkRegistrationDecisionDTO dto, RegistrationStatus decision);
 
     List<RegistrationResponseDTO> getPendingRegistrationsByTournament(Long tournamentId);
 }
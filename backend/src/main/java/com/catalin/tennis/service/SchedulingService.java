@@ -0,0 +1,8 @@
+package com.catalin.tennis.service;
+
+import com.catalin.tennis.dto.request.ScheduleRequestDTO;
+import com.catalin.tennis.dto.response.ScheduleResultDTO;
+
+public interface SchedulingService {
+    ScheduleResultDTO scheduleTournament(Long tournamentId, ScheduleRequestDTO dto);
+}
@@ -0,0 +1,16 @@
+package com.catalin.tennis.service;
+
+import com.catalin.tennis.dto.response.PlayerStandingDTO;
+import com.catalin.tennis.dto.response.StandingsRebuildResultDTO;
+import com.catalin.tennis.engine.StandingsDelta;
+
+import java.util.List;
+
+public interface StandingsService {
+    StandingsDelta newDelta();
+    void apply(StandingsDelta delta);
+    List<PlayerStandingDTO> getTournamentStandings(Long tournamentId);
+    List<PlayerStandingDTO> getPlayerStandings(String username);
+    StandingsRebuildResultDTO rebuildTournament(Long tournamentId);
+    StandingsRebuildResultDTO rebuildAll();
+}
@@ -1,6 +1,8 @@
 package com.catalin.tennis.service;
 
 import com.catalin.tennis.dto.request.CreateTournamentDTO;
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.TournamentResponseDTO;
 
 import java.util.List;
@@ -8,8 +10,11 @@ import java.util.List;
 public interface TournamentService {
     TournamentResponseDTO createTournament(CreateTournamentDTO dto);
     List<TournamentResponseDTO> getAllTournaments();
+    KeysetPageDTO<TournamentResponseDTO> getTournamentsPage(String pageToken, int size);
     TournamentResponseDTO getTournamentByName(String name);
+    TournamentResponseDTO getTournamentById(Long tournamentId);
     List<TournamentResponseDTO> getTournamentsStartingAfter(String date);
+    KeysetPageDTO<TournamentResponseDTO> searchTournaments(TournamentSearchDTO filters, String pageToken, int size);
     void deleteTournament(Long tournamentId);
 
 }
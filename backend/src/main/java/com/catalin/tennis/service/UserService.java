@@ -5,6 +5,7 @@ import com.catalin.tennis.dto.request.CreateUserDTO;
 import com.catalin.tennis.dto.request.LoginDTO;
 import com.catalin.tennis.dto.request.RegisterUserDTO;
 import com.catalin.tennis.dto.request.UpdateUserDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.UserResponseDTO;
 import com.catalin.tennis.model.enums.UserRoles;
 
@@ -20,6 +21,7 @@ public interface UserService {
     List<UserResponseDTO> getUsersByRole(UserRoles role);
     List<UserResponseDTO> getUsersByName(String name);
     List<UserResponseDTO> getAllUsers();
+    KeysetPageDTO<UserResponseDTO> getUsersPage(String pageToken, int size);
     Map<String,String> login(LoginDTO loginDTO);
     List<UserResponseDTO> getPlayersByName(String name);
     List<UserResponseDTO> getPlayersByRegistrationPeriod(LocalDateTime start, LocalDateTime end);
@@ -0,0 +1,166 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.request.GenerateDrawDTO;
+import com.catalin.tennis.dto.response.DrawResponseDTO;
+import com.catalin.tennis.dto.response.DrawSlotDTO;
+import com.catalin.tennis.engine.Bracket;
+import com.catalin.tennis.engine.BracketGenerator;
+import com.catalin.tennis.exception.DrawAlreadyExistsException;
+import com.catalin.tennis.exception.InvalidDrawException;
+import com.catalin.tennis.exception.TournamentNotFoundException;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import com.catalin.tennis.repository.DrawSlotRepository;
+import com.catalin.tennis.repository.RegistrationRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.service.DrawService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class DrawServiceImpl implements DrawService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DrawServiceImpl.class);
+
+    private static final String INSERT_MATCH =
+            "insert into matches (player1_id, player2_id, tournament_id) values (?, ?, ?)";
+    private static final String INSERT_SLOT =
+            "insert into draw_slots (tournament_id, round_number, position, player_id, seed, match_id) values (?, ?, ?, ?, ?, ?)";
+
+    private final TournamentRepository tournamentRepository;
+    private final RegistrationRepository registrationRepository;
+    private final DrawSlotRepository drawSlotRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public DrawServiceImpl(TournamentRepository tournamentRepository, RegistrationRepository registrationRepository,
+                           DrawSlotRepository drawSlotRepository, JdbcTemplate jdbcTemplate) {
+        this.tournamentRepository = tournamentRepository;
+        this.registrationRepository = registrationRepository;
+        this.drawSlotRepository = drawSlotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Draws every approved player into a seeded single-elimination bracket. First-round matches are inserted
+     * in one JDBC batch (referee, court and start time are left for scheduling) and every slot of every round
+     * in a second batch, with first-round byes already moved into round two.
+     */
+    @Override
+    @Transactional
+    public DrawResponseDTO generateDraw(Long tournamentId, GenerateDrawDTO dto) {
+        // held until commit, so a concurrent draw of the same tournament waits and then sees these slots
+        Tournament tournament = tournamentRepository.findByIdForUpdate(tournamentId)
+                .orElseThrow(() -> new TournamentNotFoundException("Tournament not found"));
+        if (drawSlotRepository.existsByTournament_Id(tournamentId)) {
+            throw new DrawAlreadyExistsException("The draw for this tournament has already been made");
+        }
+
+        List<Long> playerIds = registrationRepository.findPlayerIdsByTournamentIdAndStatus(tournamentId, RegistrationStatus.APPROVED);
+        if (playerIds.size() < 2) {
+            throw new InvalidDrawException("At least two approved players are needed for a draw");
+        }
+        if (tournament.getMaxParticipants() > 0 && playerIds.size() > tournament.getMaxParticipants()) {
+            throw new InvalidDrawException("The tournament has " + playerIds.size()
+                    + " approved players but allows at most " + tournament.getMaxParticipants());
+        }
+
+        Set<Long> unseeded = new LinkedHashSet<>(playerIds);
+        List<Long> seeded = new ArrayList<>();
+        if (dto != null && dto.getSeededPlayerIds() != null) {
+            for (Long playerId : dto.getSeededPlayerIds()) {
+                if (!unseeded.remove(playerId)) {
+                    throw new InvalidDrawException("Seeded player " + playerId + " is not an approved entrant or is seeded twice");
+                }
+                seeded.add(playerId);
+            }
+        }
+        long randomSeed = dto != null && dto.getRandomSeed() != null ? dto.getRandomSeed() : System.nanoTime();
+        Bracket bracket = BracketGenerator.generate(seeded, new ArrayList<>(unseeded), randomSeed);
+
+        long[] matchIds = insertFirstRoundMatches(tournamentId, bracket);
+        insertSlots(tournamentId, bracket, matchIds);
+
+        int matchesCreated = bracket.getSize() / 2 - bracket.getByes();
+        logger.info("Drew {} players into a {}-slot bracket for tournament {}", bracket.getEntrants(), bracket.getSize(), tournamentId);
+        return new DrawResponseDTO(tournamentId, bracket.getSize(), bracket.getRounds(),
+                bracket.getEntrants(), bracket.getByes(), matchesCreated);
+    }
+
+    @Override
+    public List<DrawSlotDTO> getDraw(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException("Tournament not found");
+        }
+        return drawSlotRepository.findSlotDTOsByTournamentId(tournamentId);
+    }
+
+    /** Returns the generated match id of each first-round pair, 0 for pairs decided by a bye. */
+    private long[] insertFirstRoundMatches(Long tournamentId, Bracket bracket) {
+        int pairs = bracket.getSize() / 2;
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            long[] matchIds = new long[pairs];
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_MATCH, Statement.RETURN_GENERATED_KEYS)) {
+                for (int pair = 0; pair < pairs; pair++) {
+                    if (bracket.isMatch(pair)) {
+                        ps.setLong(1, bracket.playerAt(2 * pair));
+                        ps.setLong(2, bracket.playerAt(2 * pair + 1));
+                        ps.setLong(3, tournamentId);
+                        ps.addBatch();
+                    }
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int pair = 0; pair < pairs; pair++) {
+                        if (bracket.isMatch(pair)) {
+                            if (!keys.next()) {
+                                throw new IllegalStateException("The driver returned fewer generated keys than inserted matches");
+                            }
+                            matchIds[pair] = keys.getLong(1);
+                        }
+                    }
+                }
+            }
+            return matchIds;
+        });
+    }
+
+    private void insertSlots(Long tournamentId, Bracket bracket, long[] matchIds) {
+        List<Object[]> slots = new ArrayList<>(2 * bracket.getSize());
+        for (int position = 0; position < bracket.getSize(); position++) {
+            long playerId = bracket.playerAt(position);
+            int seed = bracket.seedAt(position);
+            long matchId = matchIds[position / 2];
+            slots.add(new Object[]{tournamentId, 1, position,
+                    playerId == Bracket.BYE ? null : playerId,
+                    seed == 0 ? null : seed,
+                    matchId == 0 ? null : matchId});
+        }
+        // round two receives the bye winners; the remaining rounds (up to the champion's slot) start empty
+        for (int position = 0; position < bracket.getSize() / 2; position++) {
+            long playerId = bracket.advancesWithBye(position);
+            slots.add(new Object[]{tournamentId, 2, position, playerId == Bracket.BYE ? null : playerId, null, null});
+        }
+        for (int round = 3, width = bracket.getSize() / 4; width >= 1; round++, width /= 2) {
+            for (int position = 0; position < width; position++) {
+                slots.add(new Object[]{tournamentId, round, position, null, null, null});
+            }
+        }
+        int[] types = {Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.BIGINT, Types.INTEGER, Types.BIGINT};
+        jdbcTemplate.batchUpdate(INSERT_SLOT, slots, types);
+    }
+}
@@ -0,0 +1,78 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.projection.MatchExportRow;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes {@link MatchExportRow}s as CSV as they arrive, folding the consecutive rows of a
+ * match into one line. Nothing is kept besides the id of the match currently being written.
+ */
+class MatchCsvWriter {
+
+    static final String HEADER = "Match ID,Player 1,Player 2,Referee,Court,Start Date,Set Scores\n";
+
+    private final Writer out;
+    private Long currentMatchId;
+    private boolean firstSet;
+
+    MatchCsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    void writeHeader() throws IOException {
+        out.write(HEADER);
+    }
+
+    void write(MatchExportRow row) throws IOException {
+        if (!row.getMatchId().equals(currentMatchId)) {
+            if (currentMatchId != null) {
+                out.write('\n');
+            }
+            currentMatchId = row.getMatchId();
+            firstSet = true;
+            out.write(Long.toString(row.getMatchId()));
+            out.write(',');
+            writeField(row.getPlayer1Username());
+            out.write(',');
+            writeField(row.getPlayer2Username());
+            out.write(',');
+            writeField(row.getRefereeUsername());
+            out.write(',');
+            writeField(row.getCourtNumber() == null ? null : row.getCourtNumber().toString());
+            out.write(',');
+            writeField(row.getStartDate() == null ? null : row.getStartDate().toString());
+            out.write(',');
+        }
+        if (row.getPlayer1Games() != null || row.getPlayer2Games() != null) {
+            if (!firstSet) {
+                out.write(" | ");
+            }
+            out.write(String.valueOf(row.getPlayer1Games()));
+            out.write('-');
+            out.write(String.valueOf(row.getPlayer2Games()));
+            firstSet = false;
+        }
+    }
+
+    void finish() throws IOException {
+        if (currentMatchId != null) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
@@ -0,0 +1,247 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.projection.UsernameIdRow;
+import com.catalin.tennis.dto.request.MatchImportRowDTO;
+import com.catalin.tennis.dto.response.MatchImportErrorDTO;
+import com.catalin.tennis.dto.response.MatchImportResultDTO;
+import com.catalin.tennis.engine.StandingsDelta;
+import com.catalin.tennis.exception.InvalidImportException;
+import com.catalin.tennis.importer.CsvMatchRowReader;
+import com.catalin.tennis.importer.ImportLine;
+import com.catalin.tennis.importer.MatchRowReader;
+import com.catalin.tennis.importer.NdjsonMatchRowReader;
+import com.catalin.tennis.model.SetScore;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.MatchImportService;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.StandingsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class MatchImportServiceImpl implements MatchImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchImportServiceImpl.class);
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String INSERT_MATCH =
+            "insert into matches (player1_id, player2_id, referee_id, tournament_id, court_number, start_date) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SET =
+            "insert into match_sets (match_id, set_number, player1games, player2games) values (?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final TournamentRepository tournamentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StandingsService standingsService;
+    private final RatingService ratingService;
+    private final ObjectReader rowReader;
+    private final int batchSize;
+
+    @Autowired
+    public MatchImportServiceImpl(UserRepository userRepository, TournamentRepository tournamentRepository,
+                                  JdbcTemplate jdbcTemplate, StandingsService standingsService,
+                                  RatingService ratingService, ObjectMapper objectMapper,
+                                  @Value("${matches.import.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.standingsService = standingsService;
+        this.ratingService = ratingService;
+        this.rowReader = objectMapper.readerFor(MatchImportRowDTO.class);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public MatchImportResultDTO importCsv(Reader input) {
+        return importRows(new CsvMatchRowReader(input));
+    }
+
+    @Override
+    @Transactional
+    public MatchImportResultDTO importNdjson(Reader input) {
+        return importRows(new NdjsonMatchRowReader(input, rowReader));
+    }
+
+    /**
+     * Streams the input in chunks of {@code batchSize} rows. Per chunk, users and tournaments are resolved with
+     * one {@code IN} query each, then the valid matches, their sets and the standings they change go out as
+     * three JDBC batches (ratings follow as batches at commit). Invalid rows
+     * are reported and skipped; the valid ones are imported in a single transaction.
+     */
+    private MatchImportResultDTO importRows(MatchRowReader reader) {
+        MatchImportResultDTO result = new MatchImportResultDTO(0, 0, new ArrayList<>());
+        List<ImportLine> chunk = new ArrayList<>(batchSize);
+        try {
+            ImportLine line;
+            while ((line = reader.next()) != null) {
+                if (line.isRejected()) {
+                    reject(result, line.getLineNumber(), line.getError());
+                    continue;
+                }
+                chunk.add(line);
+                if (chunk.size() == batchSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidImportException("Could not read the import body: " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        result.getErrors().sort(Comparator.comparingInt(MatchImportErrorDTO::getLine));
+        logger.info("Imported {} matches, rejected {} rows", result.getImported(), result.getRejected());
+        return result;
+    }
+
+    private void importChunk(List<ImportLine> chunk, MatchImportResultDTO result) {
+        Set<String> usernames = new HashSet<>();
+        Set<Long> tournamentIds = new HashSet<>();
+        for (ImportLine line : chunk) {
+            MatchImportRowDTO row = line.getRow();
+            addIfPresent(usernames, row.getPlayer1Username());
+            addIfPresent(usernames, row.getPlayer2Username());
+            addIfPresent(usernames, row.getRefereeUsername());
+            addIfPresent(tournamentIds, row.getTournamentId());
+        }
+        Map<String, Long> userIds = new HashMap<>();
+        if (!usernames.isEmpty()) {
+            for (UsernameIdRow row : userRepository.findIdsByUsernameIn(usernames)) {
+                userIds.put(row.getUsername(), row.getId());
+            }
+        }
+        Set<Long> knownTournaments = tournamentIds.isEmpty()
+                ? Set.of() : new HashSet<>(tournamentRepository.findIdsByIdIn(tournamentIds));
+
+        List<Object[]> matches = new ArrayList<>(chunk.size());
+        List<List<SetScore>> sets = new ArrayList<>(chunk.size());
+        for (ImportLine line : chunk) {
+            MatchImportRowDTO row = line.getRow();
+            String error = validate(row, userIds, knownTournaments);
+            if (error != null) {
+                reject(result, line.getLineNumber(), error);
+                continue;
+            }
+            matches.add(new Object[]{
+                    userIds.get(row.getPlayer1Username()),
+                    userIds.get(row.getPlayer2Username()),
+                    row.getRefereeUsername() == null ? null : userIds.get(row.getRefereeUsername()),
+                    row.getTournamentId(),
+                    row.getCourtNumber(),
+                    row.getStartDate() == null ? null : Timestamp.valueOf(row.getStartDate())});
+            sets.add(row.getSets() == null ? List.of() : row.getSets());
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+        long[] matchIds = insertMatches(matches);
+        insertSets(matchIds, sets);
+        StandingsDelta delta = standingsService.newDelta();
+        for (int i = 0; i < matches.size(); i++) {
+            Object[] match = matches.get(i);
+            delta.record((Long) match[3], (Long) match[0], (Long) match[1], List.of(), sets.get(i));
+            ratingService.recordResult(matchIds[i], (Long) match[0], (Long) match[1], List.of(), sets.get(i));
+        }
+        standingsService.apply(delta);
+        result.setImported(result.getImported() + matches.size());
+    }
+
+    private static String validate(MatchImportRowDTO row, Map<String, Long> userIds, Set<Long> knownTournaments) {
+        if (row.getPlayer1Username() == null || row.getPlayer2Username() == null || row.getTournamentId() == null) {
+            return "player1, player2 and tournamentId are required";
+        }
+        for (String username : new String[]{row.getPlayer1Username(), row.getPlayer2Username(), row.getRefereeUsername()}) {
+            if (username != null && !userIds.containsKey(username)) {
+                return "Unknown user '" + username + "'";
+            }
+        }
+        if (!knownTournaments.contains(row.getTournamentId())) {
+            return "Unknown tournament " + row.getTournamentId();
+        }
+        if (row.getPlayer1Username().equals(row.getPlayer2Username())) {
+            return "A player cannot be against themselves";
+        }
+        if (row.getPlayer1Username().equals(row.getRefereeUsername()) || row.getPlayer2Username().equals(row.getRefereeUsername())) {
+            return "A player cannot be its own referee in a match";
+        }
+        return null;
+    }
+
+    private long[] insertMatches(List<Object[]> matches) {
+        int[] types = {Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.TIMESTAMP};
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            long[] matchIds = new long[matches.size()];
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_MATCH, Statement.RETURN_GENERATED_KEYS)) {
+                for (Object[] match : matches) {
+                    for (int i = 0; i < match.length; i++) {
+                        ps.setObject(i + 1, match[i], types[i]);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (int i = 0; i < matchIds.length; i++) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("The driver returned fewer generated keys than inserted matches");
+                        }
+                        matchIds[i] = keys.getLong(1);
+                    }
+                }
+            }
+            return matchIds;
+        });
+    }
+
+    private void insertSets(long[] matchIds, List<List<SetScore>> sets) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < matchIds.length; i++) {
+            List<SetScore> matchSets = sets.get(i);
+            for (int setNumber = 0; setNumber < matchSets.size(); setNumber++) {
+                SetScore set = matchSets.get(setNumber);
+                rows.add(new Object[]{matchIds[i], setNumber, set.getPlayer1Games(), set.getPlayer2Games()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SET, rows, new int[]{Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.INTEGER});
+        }
+    }
+
+    private static void reject(MatchImportResultDTO result, int lineNumber, String message) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new MatchImportErrorDTO(lineNumber, message));
+        }
+    }
+
+    private static <T> void addIfPresent(Set<T> values, T value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+}
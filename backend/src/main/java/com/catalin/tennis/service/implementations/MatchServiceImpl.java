@@ -1,30 +1,50 @@
 package com.catalin.tennis.service.implementations;
 
+import com.catalin.tennis.dto.projection.MatchExportRow;
+import com.catalin.tennis.dto.projection.MatchSetRow;
+import com.catalin.tennis.dto.projection.UsernameIdRow;
 import com.catalin.tennis.dto.request.CreateMatchDTO;
+import com.catalin.tennis.dto.request.PlayerMatchFilterDTO;
 import com.catalin.tennis.dto.request.UpdateScoreDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.dto.response.TournamentResponseDTO;
+import com.catalin.tennis.engine.StandingsDelta;
+import com.catalin.tennis.exception.InvalidMatchException;
+import com.catalin.tennis.exception.InvalidPageTokenException;
 import com.catalin.tennis.exception.MatchAlreadyExistsException;
 import com.catalin.tennis.exception.MatchNotFoundException;
-import com.catalin.tennis.exception.TournamentNotFoundException;
 import com.catalin.tennis.exception.UserNotFoundException;
 import com.catalin.tennis.factory.MatchFactory;
+import com.catalin.tennis.live.MatchScoreUpdatedEvent;
 import com.catalin.tennis.model.Match;
 import com.catalin.tennis.model.SetScore;
-import com.catalin.tennis.model.Tournament;
 import com.catalin.tennis.model.User;
 import com.catalin.tennis.repository.MatchRepository;
 import com.catalin.tennis.repository.TournamentRepository;
 import com.catalin.tennis.repository.UserRepository;
 import com.catalin.tennis.service.MatchService;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.StandingsService;
+import com.catalin.tennis.service.TournamentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class MatchServiceImpl implements MatchService {
@@ -32,18 +52,56 @@ public class MatchServiceImpl implements MatchService {
     private final MatchRepository matchRepository;
     private final UserRepository userRepository;
     private final TournamentRepository tournamentRepository;
+    private final TournamentService tournamentService;
+    private final StandingsService standingsService;
+    private final RatingService ratingService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger logger = LoggerFactory.getLogger(MatchServiceImpl.class);
+    private static final int CSV_BUFFER_SIZE = 16 * 1024;
+    // the DATETIME range, standing in for an open end of a time window
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final Comparator<MatchResponseDTO> BY_START =
+            Comparator.comparing(MatchResponseDTO::getStartDate).thenComparing(MatchResponseDTO::getMatchId);
 
     @Autowired
-    public MatchServiceImpl(MatchRepository matchRepository, UserRepository userRepository, TournamentRepository tournamentRepository) {
+    public MatchServiceImpl(MatchRepository matchRepository, UserRepository userRepository, TournamentRepository tournamentRepository, TournamentService tournamentService, StandingsService standingsService, RatingService ratingService, ApplicationEventPublisher eventPublisher) {
         this.matchRepository = matchRepository;
         this.userRepository = userRepository;
         this.tournamentRepository = tournamentRepository;
+        this.tournamentService = tournamentService;
+        this.standingsService = standingsService;
+        this.ratingService = ratingService;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Resolves the three usernames with one {@code IN} query inside the transaction, never from the username
+     * cache: a user deleted on another node (or within the cache's TTL) must be a {@code UserNotFoundException},
+     * not a foreign key violation at the insert. The tournament is checked by id the same way; both are then
+     * attached as references, so the only other statements are the duplicate check and the insert (plus the
+     * standings upsert when the match already has sets).
+     */
     @Override
+    @Transactional
     public MatchResponseDTO createMatch(CreateMatchDTO dto) {
         logger.info("Creating match with DTO: {}", dto);
+        // checked before anything is read: the per-player match queries would return such a match twice
+        if (dto.getPlayer1Username().equals(dto.getPlayer2Username())) {
+            throw new InvalidMatchException("A player cannot be against themselves");
+        }
+        if (dto.getRefereeUsername().equals(dto.getPlayer1Username()) || dto.getRefereeUsername().equals(dto.getPlayer2Username())) {
+            throw new InvalidMatchException("A player cannot be its own referee in a match");
+        }
+
+        Map<String, Long> userIds = new HashMap<>();
+        for (UsernameIdRow row : userRepository.findIdsByUsernameIn(
+                List.of(dto.getPlayer1Username(), dto.getPlayer2Username(), dto.getRefereeUsername()))) {
+            userIds.put(row.getUsername(), row.getId());
+        }
+        dto.setPlayer1Id(requireUserId(userIds, dto.getPlayer1Username()));
+        dto.setPlayer2Id(requireUserId(userIds, dto.getPlayer2Username()));
+        dto.setRefereeId(requireUserId(userIds, dto.getRefereeUsername()));
 
         if (matchRepository.existsByPlayer1_IdAndPlayer2_IdAndReferee_IdAndTournament_IdAndStartDate(
                 dto.getPlayer1Id(), dto.getPlayer2Id(), dto.getRefereeId(), dto.getTournamentId(), dto.getStartDate())) {
@@ -51,106 +109,256 @@ public class MatchServiceImpl implements MatchService {
             throw new MatchAlreadyExistsException("This match already exists in the tournament.");
         }
 
-        User player1 = userRepository.findById(dto.getPlayer1Id())
-                .orElseThrow(() -> new UserNotFoundException("Player1 not found"));
-        User player2 = userRepository.findById(dto.getPlayer2Id())
-                .orElseThrow(() -> new UserNotFoundException("Player2 not found"));
-        User referee = userRepository.findById(dto.getRefereeId())
-                .orElseThrow(() -> new UserNotFoundException("Referee not found"));
-        Tournament tournament = tournamentRepository.findById(dto.getTournamentId())
-                .orElseThrow(() -> new TournamentNotFoundException("Tournament not found"));
+        TournamentResponseDTO tournament = tournamentService.getTournamentById(dto.getTournamentId());
+        User player1 = userRepository.getReferenceById(dto.getPlayer1Id());
+        User player2 = userRepository.getReferenceById(dto.getPlayer2Id());
+        User referee = userRepository.getReferenceById(dto.getRefereeId());
 
-        Match match = MatchFactory.createMatch(player1, player2, referee, tournament, dto.getCourtNumber(), dto.getStartDate());
+        Match match = MatchFactory.createMatch(player1, player2, referee,
+                tournamentRepository.getReferenceById(tournament.getId()), dto.getCourtNumber(), dto.getStartDate());
         match.setSets(dto.getSets());
         matchRepository.save(match);
+        if (match.getSets() != null && !match.getSets().isEmpty()) {
+            recordResult(match.getId(), dto.getTournamentId(), dto.getPlayer1Id(), dto.getPlayer2Id(), List.of(), match.getSets());
+        }
         logger.info("Match saved successfully");
 
-        return convertToDTO(match);
+        MatchResponseDTO response = new MatchResponseDTO(match.getId(), dto.getPlayer1Id(), dto.getPlayer1Username(),
+                dto.getPlayer2Id(), dto.getPlayer2Username(), dto.getRefereeUsername(), tournament.getName(),
+                match.getCourtNumber(), match.getStartDate());
+        response.setSets(match.getSets());
+        attachRatings(response);
+        return response;
+    }
+
+    private static Long requireUserId(Map<String, Long> userIds, String username) {
+        Long id = userIds.get(username);
+        if (id == null) {
+            throw new UserNotFoundException("User not found with username: " + username);
+        }
+        return id;
     }
 
     @Override
+    @Transactional
     public MatchResponseDTO updateScore(UpdateScoreDTO dto) {
-        Match match = matchRepository.findById(dto.getMatchId())
+        Match match = matchRepository.findByIdForUpdate(dto.getMatchId())
                 .orElseThrow(() -> new MatchNotFoundException("Match not found"));
 
+        List<SetScore> previousSets = match.getSets() == null ? List.of() : List.copyOf(match.getSets());
         match.setSets(dto.getSets());
         matchRepository.save(match);
+        recordResult(match, previousSets, dto.getSets());
+        eventPublisher.publishEvent(new MatchScoreUpdatedEvent(match.getId(), match.getTournament().getId(), List.copyOf(dto.getSets())));
 
         return convertToDTO(match);
     }
 
     @Override
+    @Transactional
     public void deleteMatchById(Long id) {
+        matchRepository.findByIdForUpdate(id).ifPresent(match -> recordResult(match, match.getSets(), List.of()));
         matchRepository.deleteById(id);
     }
 
+    private void recordResult(Match match, List<SetScore> before, List<SetScore> after) {
+        recordResult(match.getId(), match.getTournament().getId(), match.getPlayer1().getId(), match.getPlayer2().getId(), before, after);
+    }
+
+    private void recordResult(long matchId, long tournamentId, long player1Id, long player2Id,
+                              List<SetScore> before, List<SetScore> after) {
+        StandingsDelta delta = standingsService.newDelta();
+        delta.record(tournamentId, player1Id, player2Id, before, after);
+        standingsService.apply(delta);
+        ratingService.recordResult(matchId, player1Id, player2Id, before, after);
+    }
+
     @Override
     public List<MatchResponseDTO> getMatchesByTournament(Long tournamentId) {
-        List<Match> matches = matchRepository.findByTournament_Id(tournamentId);
-        return matchListToDTOList(matches);
+        List<MatchResponseDTO> matches = matchRepository.findMatchDTOsByTournamentId(tournamentId);
+        if (matches.isEmpty()) {
+            return matches;
+        }
+        return attachSets(matches, matchRepository.findSetRowsByTournamentId(tournamentId));
+    }
+
+    @Override
+    public KeysetPageDTO<MatchResponseDTO> getMatchesByTournamentPage(Long tournamentId, String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<MatchResponseDTO> rows = matchRepository.findMatchDTOPageByTournamentId(
+                tournamentId, PageTokens.decodeId(pageToken), PageTokens.lookAhead(pageSize));
+        KeysetPageDTO<MatchResponseDTO> page = PageTokens.page(rows, pageSize, m -> PageTokens.encode(m.getMatchId()));
+        if (!page.getItems().isEmpty()) {
+            List<Long> matchIds = page.getItems().stream().map(MatchResponseDTO::getMatchId).toList();
+            attachSets(page.getItems(), matchRepository.findSetRowsByMatchIds(matchIds));
+        }
+        return page;
     }
 
     @Override
     public List<MatchResponseDTO> getMatchesByRefereeUsername(String username) {
         User referee = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("Referee not found"));
-        List<Match> matches = matchRepository.findAllByReferee(referee);
-        return matchListToDTOList(matches);
+        List<MatchResponseDTO> matches = matchRepository.findMatchDTOsByRefereeId(referee.getId());
+        if (matches.isEmpty()) {
+            return matches;
+        }
+        return attachSets(matches, matchRepository.findSetRowsByRefereeId(referee.getId()));
     }
 
     @Override
     public List<MatchResponseDTO> getMatchesByPlayer(String username) {
         User player = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("Player not found"));
-        List<Match> matches = matchRepository.findByPlayer1OrPlayer2(player, player);
-        return matchListToDTOList(matches);
+        List<MatchResponseDTO> matches = merge(matchRepository.findMatchDTOsByPlayer1Id(player.getId()),
+                matchRepository.findMatchDTOsByPlayer2Id(player.getId()),
+                Comparator.comparing(MatchResponseDTO::getMatchId), Integer.MAX_VALUE);
+        if (matches.isEmpty()) {
+            return matches;
+        }
+        List<Long> matchIds = matches.stream().map(MatchResponseDTO::getMatchId).toList();
+        return attachSets(matches, matchRepository.findSetRowsByMatchIds(matchIds));
+    }
+
+    /**
+     * One page of a player's matches, paged by (start date, id). Matches without a start date are neither
+     * upcoming nor past. Each side of the pairing is read from its own index, at most one page plus the
+     * look-ahead row, so a page costs the same however long the player's history is.
+     */
+    @Override
+    public KeysetPageDTO<MatchResponseDTO> getMatchesByPlayerPage(String username, PlayerMatchFilterDTO filters,
+                                                                  String pageToken, int size) {
+        User player = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("Player not found"));
+        int pageSize = PageTokens.clampSize(size);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = filters.getFrom() == null ? EARLIEST : filters.getFrom();
+        LocalDateTime to = filters.getTo() == null ? LATEST : filters.getTo();
+        LocalDateTime cursorDate = null;
+        long cursorId = 0L;
+        if (pageToken != null && !pageToken.isEmpty()) {
+            String[] cursor = PageTokens.decode(pageToken, 2);
+            try {
+                cursorDate = LocalDateTime.parse(cursor[0]);
+                cursorId = Long.parseLong(cursor[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidPageTokenException("Invalid page token");
+            }
+        }
+
+        List<MatchResponseDTO> rows;
+        if (filters.isUpcoming()) {
+            // the first page starts right at the window start: every id is above 0
+            LocalDateTime afterDate = cursorDate != null ? cursorDate : from.isAfter(now) ? from : now;
+            rows = merge(
+                    matchRepository.findUpcomingMatchDTOsByPlayer1Id(player.getId(), afterDate, cursorId, to, PageTokens.lookAhead(pageSize)),
+                    matchRepository.findUpcomingMatchDTOsByPlayer2Id(player.getId(), afterDate, cursorId, to, PageTokens.lookAhead(pageSize)),
+                    BY_START, pageSize + 1);
+        } else {
+            // the first page ends right before the window end: no id is below 0
+            LocalDateTime beforeDate = cursorDate != null ? cursorDate : to.isBefore(now) ? to : now;
+            rows = merge(
+                    matchRepository.findPastMatchDTOsByPlayer1Id(player.getId(), beforeDate, cursorId, from, PageTokens.lookAhead(pageSize)),
+                    matchRepository.findPastMatchDTOsByPlayer2Id(player.getId(), beforeDate, cursorId, from, PageTokens.lookAhead(pageSize)),
+                    BY_START.reversed(), pageSize + 1);
+        }
+        KeysetPageDTO<MatchResponseDTO> page = PageTokens.page(rows, pageSize,
+                m -> PageTokens.encode(m.getStartDate(), m.getMatchId()));
+        if (!page.getItems().isEmpty()) {
+            List<Long> matchIds = page.getItems().stream().map(MatchResponseDTO::getMatchId).toList();
+            attachSets(page.getItems(), matchRepository.findSetRowsByMatchIds(matchIds));
+        }
+        return page;
+    }
+
+    /**
+     * The first {@code limit} rows of two lists that are each sorted by {@code order}, in that order. A match
+     * found on both sides (a player against themselves, from before createMatch rejected that) is kept once.
+     */
+    private static List<MatchResponseDTO> merge(List<MatchResponseDTO> first, List<MatchResponseDTO> second,
+                                                Comparator<MatchResponseDTO> order, int limit) {
+        List<MatchResponseDTO> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (i < first.size() && j < second.size() && first.get(i).getMatchId().equals(second.get(j).getMatchId())) {
+                merged.add(first.get(i++));
+                j++;
+            } else if (j == second.size() || (i < first.size() && order.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
     }
 
-    private List<MatchResponseDTO> matchListToDTOList(List<Match> matches) {
-        List<MatchResponseDTO> dtos = new ArrayList<>();
-        for (Match m : matches) {
-            dtos.add(convertToDTO(m));
+    private List<MatchResponseDTO> attachSets(List<MatchResponseDTO> matches, List<MatchSetRow> setRows) {
+        Map<Long, List<SetScore>> setsByMatch = new HashMap<>();
+        for (MatchSetRow row : setRows) {
+            setsByMatch.computeIfAbsent(row.getMatchId(), id -> new ArrayList<>())
+                    .add(new SetScore(row.getPlayer1Games(), row.getPlayer2Games()));
+        }
+        for (MatchResponseDTO dto : matches) {
+            List<SetScore> sets = setsByMatch.get(dto.getMatchId());
+            if (sets != null) {
+                dto.setSets(sets);
+            }
+            attachRatings(dto);
+        }
+        return matches;
+    }
+
+    // ratings come from memory, so listings stay at the same number of statements
+    private void attachRatings(MatchResponseDTO dto) {
+        if (dto.getPlayer1Id() != null) {
+            dto.setPlayer1Rating(ratingService.getRating(dto.getPlayer1Id()));
+        }
+        if (dto.getPlayer2Id() != null) {
+            dto.setPlayer2Rating(ratingService.getRating(dto.getPlayer2Id()));
         }
-        return dtos;
     }
 
     private MatchResponseDTO convertToDTO(Match m) {
-        return new MatchResponseDTO(
+        MatchResponseDTO dto = new MatchResponseDTO(
                 m.getId(),
+                m.getPlayer1().getId(),
                 m.getPlayer1().getUsername(),
+                m.getPlayer2().getId(),
                 m.getPlayer2().getUsername(),
-                m.getReferee().getUsername(),
+                m.getReferee() == null ? null : m.getReferee().getUsername(),
                 m.getTournament().getName(),
                 m.getCourtNumber(),
-                m.getStartDate(),
-                m.getSets()
+                m.getStartDate()
         );
+        dto.setSets(m.getSets());
+        attachRatings(dto);
+        return dto;
     }
     @Override
+    @Transactional(readOnly = true)
     public byte[] exportMatchesToCsvByTournament(Long tournamentId) {
-        List<Match> matches = matchRepository.findByTournament_Id(tournamentId);
-
-        StringBuilder csvBuilder = new StringBuilder();
-        csvBuilder.append("Match ID,Player 1,Player 2,Referee,Court,Start Date,Set Scores\n");
-
-        for (Match match : matches) {
-            String sets = match.getSets().stream()
-                    .map(s -> s.getPlayer1Games() + "-" + s.getPlayer2Games())
-                    .collect(Collectors.joining(" | "));
-
-            csvBuilder.append(String.format("%d,%s,%s,%s,%d,%s,%s\n",
-                    match.getId(),
-                    match.getPlayer1().getUsername(),
-                    match.getPlayer2().getUsername(),
-                    match.getReferee().getUsername(),
-                    match.getCourtNumber(),
-                    match.getStartDate(),
-                    sets
-            ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            exportMatchesToCsvByTournament(tournamentId, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        return csvBuilder.toString().getBytes(StandardCharsets.UTF_8);
+        return out.toByteArray();
     }
 
-
+    @Override
+    @Transactional(readOnly = true)
+    public void exportMatchesToCsvByTournament(Long tournamentId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        MatchCsvWriter csv = new MatchCsvWriter(writer);
+        csv.writeHeader();
+        try (Stream<MatchExportRow> rows = matchRepository.streamExportRowsByTournamentId(tournamentId)) {
+            Iterator<MatchExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                csv.write(iterator.next());
+            }
+        }
+        csv.finish();
+    }
 }
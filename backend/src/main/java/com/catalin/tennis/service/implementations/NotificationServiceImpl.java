@@ -1,31 +1,61 @@
 package com.catalin.tennis.service.implementations;
 
+import com.catalin.tennis.dto.request.MarkNotificationsReadDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.NotificationReadResultDTO;
 import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.dto.response.NotificationSyncDTO;
+import com.catalin.tennis.exception.InvalidPageTokenException;
 import com.catalin.tennis.exception.UserNotFoundException;
 import com.catalin.tennis.model.Notification;
+import com.catalin.tennis.model.NotificationCounter;
+import com.catalin.tennis.model.NotificationOutbox;
 import com.catalin.tennis.model.User;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.repository.ArchivedNotificationRepository;
+import com.catalin.tennis.repository.NotificationCounterRepository;
+import com.catalin.tennis.repository.NotificationOutboxRepository;
 import com.catalin.tennis.repository.NotificationRepository;
 import com.catalin.tennis.repository.UserRepository;
 import com.catalin.tennis.service.NotificationService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
 
+    // the first archive page starts before a timestamp no notification can have
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
 
     private final NotificationRepository notificationRepository;
+    private final ArchivedNotificationRepository archiveRepository;
     private final UserRepository userRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationCounterRepository counterRepository;
+    private final NotificationCounters counters;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
-    public NotificationServiceImpl(NotificationRepository notificationRepository, UserRepository userRepository){
+    public NotificationServiceImpl(NotificationRepository notificationRepository, ArchivedNotificationRepository archiveRepository, UserRepository userRepository, NotificationOutboxRepository outboxRepository, NotificationCounterRepository counterRepository, NotificationCounters counters, JdbcTemplate jdbcTemplate){
         this.notificationRepository=notificationRepository;
+        this.archiveRepository=archiveRepository;
         this.userRepository=userRepository;
+        this.outboxRepository=outboxRepository;
+        this.counterRepository=counterRepository;
+        this.counters=counters;
+        this.jdbcTemplate=jdbcTemplate;
     }
 
     @Override
@@ -37,6 +67,103 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    public KeysetPageDTO<NotificationResponseDTO> getUserNotificationsPage(String username, String pageToken, int size) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        int pageSize = PageTokens.clampSize(size);
+
+        List<NotificationResponseDTO> rows;
+        if (pageToken == null || pageToken.isEmpty()) {
+            rows = notificationRepository.findFirstPageByUserId(user.getId(), PageTokens.lookAhead(pageSize));
+        } else {
+            String[] cursor = PageTokens.decode(pageToken, 2);
+            try {
+                rows = notificationRepository.findPageByUserIdBefore(user.getId(),
+                        LocalDateTime.parse(cursor[0]), Long.parseLong(cursor[1]), PageTokens.lookAhead(pageSize));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidPageTokenException("Invalid page token");
+            }
+        }
+        return PageTokens.page(rows, pageSize, n -> PageTokens.encode(n.getTimestamp(), n.getId()));
+    }
+
+    /**
+     * Read notifications moved out by the retention job, newest first. The optional {@code query} is a
+     * case-insensitive substring of the message; it filters within the user's index range, so this is the
+     * slow path and is kept apart from the live notification endpoints.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<NotificationResponseDTO> searchArchivedNotifications(String username, String query, String pageToken, int size) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        int pageSize = PageTokens.clampSize(size);
+        String pattern = "%" + escapeLike(query == null ? "" : query.toLowerCase(Locale.ROOT)) + "%";
+
+        LocalDateTime beforeTimestamp = LATEST;
+        long beforeId = 0L;
+        if (pageToken != null && !pageToken.isEmpty()) {
+            String[] cursor = PageTokens.decode(pageToken, 2);
+            try {
+                beforeTimestamp = LocalDateTime.parse(cursor[0]);
+                beforeId = Long.parseLong(cursor[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidPageTokenException("Invalid page token");
+            }
+        }
+        List<NotificationResponseDTO> rows = archiveRepository.searchByUserIdBefore(user.getId(),
+                beforeTimestamp, beforeId, pattern, PageTokens.lookAhead(pageSize));
+        return PageTokens.page(rows, pageSize, n -> PageTokens.encode(n.getTimestamp(), n.getId()));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * What arrived after {@code afterId}, the cursor from the previous call. A poll with nothing new reads
+     * only the user's counter row; new notifications are read from the (user_id, id) index, oldest first.
+     * Read flags changed elsewhere are not replayed, the unread count reflects them.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationSyncDTO getUserNotificationsSince(String username, long afterId, int size) {
+        Optional<NotificationCounter> found = counterRepository.findByUsername(username);
+        if (found.isEmpty()) {
+            requireUser(username);
+            return new NotificationSyncDTO(List.of(), afterId, 0, false);
+        }
+        NotificationCounter counter = found.get();
+        if (counter.getLastNotificationId() <= afterId) {
+            return new NotificationSyncDTO(List.of(), afterId, counter.getUnread(), false);
+        }
+        int pageSize = PageTokens.clampSize(size);
+        List<NotificationResponseDTO> rows = notificationRepository.findByUserIdAfter(
+                counter.getUserId(), afterId, PageTokens.lookAhead(pageSize));
+        boolean hasMore = rows.size() > pageSize;
+        List<NotificationResponseDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+        return new NotificationSyncDTO(items, items.get(items.size() - 1).getId(), counter.getUnread(), hasMore);
+    }
+
+    @Override
+    public int getUnreadCount(String username) {
+        Optional<NotificationCounter> counter = counterRepository.findByUsername(username);
+        if (counter.isEmpty()) {
+            requireUser(username);
+            return 0;
+        }
+        return counter.get().getUnread();
+    }
+
+    // users who were never notified have no counter row
+    private void requireUser(String username) {
+        if (!userRepository.existsUserByUsername(username)) {
+            throw new UserNotFoundException("User not found");
+        }
+    }
+
+    @Override
+    @Transactional
     public void createNotification(String username, String message) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
@@ -46,13 +173,52 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setTimestamp(LocalDateTime.now());
         notification.setRead(false);
         notificationRepository.save(notification);
+        counters.added(Map.of(user.getId(), 1));
     }
 
+    /**
+     * Queues the notification in the caller's transaction; {@code NotificationOutboxWriter} writes it later.
+     */
     @Override
+    public void enqueueNotification(Long userId, String message) {
+        outboxRepository.save(new NotificationOutbox(userId, message, LocalDateTime.now()));
+    }
+
+    @Override
+    public void enqueueNotifications(List<NotificationOutbox> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("insert into notification_outbox (user_id, message, created_at) values (?, ?, ?)",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getUserId());
+                    ps.setString(2, entry.getMessage());
+                    ps.setTimestamp(3, Timestamp.valueOf(entry.getCreatedAt()));
+                });
+    }
+
+    @Override
+    @Transactional
     public void markAsRead(Long notificationId) {
-        Notification notification = notificationRepository.findById(notificationId)
+        Long userId = notificationRepository.findUserIdById(notificationId)
                 .orElseThrow(() -> new EntityNotFoundException("Notification not found"));
-        notification.setRead(true);
-        notificationRepository.save(notification);
+        counters.read(userId, notificationRepository.markReadByIds(userId, List.of(notificationId)));
+    }
+
+    /** Marks the notifications in one UPDATE and takes exactly the rows it changed off the unread count. */
+    @Override
+    @Transactional
+    public NotificationReadResultDTO markAsRead(String username, MarkNotificationsReadDTO dto) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        int marked;
+        if (dto.getNotificationIds() != null && !dto.getNotificationIds().isEmpty()) {
+            marked = notificationRepository.markReadByIds(user.getId(), dto.getNotificationIds());
+        } else {
+            marked = notificationRepository.markReadUpTo(user.getId(), dto.getUpToId() == null ? Long.MAX_VALUE : dto.getUpToId());
+        }
+        counters.read(user.getId(), marked);
+        int unread = counterRepository.findById(user.getId()).map(NotificationCounter::getUnread).orElse(0);
+        return new NotificationReadResultDTO(marked, unread);
     }
 }
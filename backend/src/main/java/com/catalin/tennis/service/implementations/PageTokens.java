@@ -0,0 +1,83 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.exception.InvalidPageTokenException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursors: the sort key of the last row of a page, base64url-encoded.
+ * Pages are fetched with one extra row so we know whether a next page exists without a count query.
+ */
+final class PageTokens {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private PageTokens() {
+    }
+
+    static int clampSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /** Limit for a page of {@code size} rows plus the look-ahead row. */
+    static Pageable lookAhead(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    static String encode(Object... keyParts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keyParts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keyParts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decode(String token, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new InvalidPageTokenException("Invalid page token");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageTokenException("Invalid page token");
+        }
+    }
+
+    /** Decodes a single-id cursor; the first page starts after id 0. */
+    static long decodeId(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(token, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidPageTokenException("Invalid page token");
+        }
+    }
+
+    /** Trims the look-ahead row and derives the next cursor from the last row that is kept. */
+    static <T> KeysetPageDTO<T> page(List<T> rows, int size, Function<T, String> tokenOf) {
+        if (rows.size() <= size) {
+            return new KeysetPageDTO<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new KeysetPageDTO<>(items, tokenOf.apply(items.get(size - 1)));
+    }
+}
@@ -0,0 +1,342 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.response.PlayerRatingDTO;
+import com.catalin.tennis.dto.response.RatingRebuildResultDTO;
+import com.catalin.tennis.engine.EloRating;
+import com.catalin.tennis.engine.MatchTally;
+import com.catalin.tennis.engine.RatingReplay;
+import com.catalin.tennis.engine.RatingTable;
+import com.catalin.tennis.exception.UserNotFoundException;
+import com.catalin.tennis.model.SetScore;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.repository.PlayerRatingRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.RatingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class RatingServiceImpl implements RatingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RatingServiceImpl.class);
+
+    private static final int UNDECIDED = 0;
+    private static final int PLAYER1_WON = 1;
+    private static final int PLAYER2_WON = 2;
+    private static final int HISTORY_FETCH_SIZE = 1000;
+
+    private static final String UPSERT_RATING =
+            "insert into player_ratings (player_id, rating, rated_matches) values (?, ?, ?) " +
+            "on duplicate key update rating = rating + ?, rated_matches = rated_matches + ?";
+    private static final String INSERT_RATING = "insert into player_ratings (player_id, rating, rated_matches) values (?, ?, ?)";
+    private static final String INSERT_MATCH_RATING =
+            "insert into match_ratings (match_id, player1_id, player2_id, rating_change) values (?, ?, ?, ?)";
+    private static final String DELETE_MATCH_RATING = "delete from match_ratings where match_id = ?";
+    private static final String SELECT_MATCH_RATING =
+            "select player1_id, player2_id, rating_change from match_ratings where match_id = ?";
+    private static final String SELECT_RATINGS = "select player_id, rating, rated_matches from player_ratings";
+    // rows of one match are adjacent and in set order; unscheduled matches are replayed last, in id order
+    private static final String SELECT_HISTORY =
+            "select m.match_id, m.player1_id, m.player2_id, s.player1games, s.player2games " +
+            "from matches m left join match_sets s on s.match_id = m.match_id " +
+            "order by case when m.start_date is null then 1 else 0 end, m.start_date, m.match_id, s.set_number";
+
+    private final PlayerRatingRepository ratingRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final double initialRating;
+    private final double kFactor;
+    private final int setsToWin;
+    private volatile RatingTable table;
+
+    @Autowired
+    public RatingServiceImpl(PlayerRatingRepository ratingRepository, UserRepository userRepository,
+                             JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             @Value("${ratings.initial:1500}") double initialRating,
+                             @Value("${ratings.k-factor:32}") double kFactor,
+                             @Value("${standings.sets-to-win:2}") int setsToWin) {
+        this.ratingRepository = ratingRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.initialRating = initialRating;
+        this.kFactor = kFactor;
+        this.setsToWin = setsToWin;
+    }
+
+    /**
+     * Rates a match when its result changes. A match that was already decided first gives back the exact points
+     * it moved, then the new result is rated against the current ratings. The writes are collected per
+     * transaction and go out as JDBC batches just before it commits; the in-memory ratings only change after it
+     * has committed.
+     */
+    @Override
+    public void recordResult(long matchId, long player1Id, long player2Id, List<SetScore> before, List<SetScore> after) {
+        int previous = outcome(before);
+        int next = outcome(after);
+        if (previous == next) {
+            return;
+        }
+        PendingRatings pending = pendingRatings();
+        if (previous != UNDECIDED) {
+            pending.takeBack(matchId);
+        }
+        if (next != UNDECIDED) {
+            double change = EloRating.change(pending.ratingOf(player1Id), pending.ratingOf(player2Id), next == PLAYER1_WON, kFactor);
+            pending.rate(matchId, player1Id, player2Id, change);
+        }
+    }
+
+    @Override
+    public Integer getRating(long playerId) {
+        double rating = table().ratingOf(playerId);
+        return Double.isNaN(rating) ? null : (int) Math.round(rating);
+    }
+
+    @Override
+    public int getRank(long playerId) {
+        return table().rankOf(playerId);
+    }
+
+    @Override
+    public PlayerRatingDTO getPlayerRating(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
+        RatingTable ratings = table();
+        double rating = ratings.ratingOf(user.getId());
+        if (Double.isNaN(rating)) {
+            return new PlayerRatingDTO(user.getId(), username, (int) Math.round(initialRating), 0, 0);
+        }
+        return new PlayerRatingDTO(user.getId(), username, (int) Math.round(rating),
+                ratings.rankOf(user.getId()), ratings.ratedMatchesOf(user.getId()));
+    }
+
+    @Override
+    public List<PlayerRatingDTO> getTopRated(int size) {
+        List<PlayerRatingDTO> top = ratingRepository.findTopRated(PageRequest.of(0, PageTokens.clampSize(size)));
+        RatingTable ratings = table();
+        for (PlayerRatingDTO dto : top) {
+            dto.setRank(ratings.rankOf(dto.getPlayerId()));
+        }
+        return top;
+    }
+
+    /**
+     * Replays every finished match in start-date order (see {@link RatingReplay}), replaces both rating tables in
+     * one transaction and then swaps in the new in-memory ratings. Meant for maintenance: a score change committed
+     * while the rebuild runs is only reflected after the next one.
+     */
+    @Override
+    public synchronized RatingRebuildResultDTO rebuild() {
+        long start = System.nanoTime();
+        RatingReplay replay = new RatingReplay(initialRating, kFactor);
+        HistoryReader history = new HistoryReader(replay);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_HISTORY);
+            ps.setFetchSize(HISTORY_FETCH_SIZE);
+            return ps;
+        }, history);
+        history.finishMatch();
+        RatingReplay.Result result = replay.run();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("delete from match_ratings");
+            jdbcTemplate.update("delete from player_ratings");
+            List<Object[]> players = new ArrayList<>(result.getPlayerIds().length);
+            for (int p = 0; p < result.getPlayerIds().length; p++) {
+                players.add(new Object[]{result.getPlayerIds()[p], result.getRatings()[p], result.getRatedMatches()[p]});
+            }
+            jdbcTemplate.batchUpdate(INSERT_RATING, players, new int[]{Types.BIGINT, Types.DOUBLE, Types.INTEGER});
+            List<Object[]> matches = new ArrayList<>(result.getMatchIds().length);
+            for (int m = 0; m < result.getMatchIds().length; m++) {
+                matches.add(new Object[]{result.getMatchIds()[m], result.getPlayer1Ids()[m],
+                        result.getPlayer2Ids()[m], result.getChanges()[m]});
+            }
+            jdbcTemplate.batchUpdate(INSERT_MATCH_RATING, matches, new int[]{Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.DOUBLE});
+        });
+
+        RatingTable rebuilt = new RatingTable(initialRating, result.getPlayerIds().length);
+        for (int p = 0; p < result.getPlayerIds().length; p++) {
+            rebuilt.put(result.getPlayerIds()[p], result.getRatings()[p], result.getRatedMatches()[p]);
+        }
+        table = rebuilt;
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        logger.info("Rebuilt ratings of {} players from {} matches ({} independent groups) in {} ms",
+                result.getPlayerIds().length, result.getMatchIds().length, result.getGroups(), elapsedMs);
+        return new RatingRebuildResultDTO(result.getPlayerIds().length, result.getMatchIds().length, result.getGroups(), elapsedMs);
+    }
+
+    private int outcome(List<SetScore> sets) {
+        MatchTally tally = MatchTally.forPlayer1(sets, setsToWin);
+        return tally.getWins() > 0 ? PLAYER1_WON : tally.getLosses() > 0 ? PLAYER2_WON : UNDECIDED;
+    }
+
+    private RatingTable table() {
+        RatingTable current = table;
+        if (current == null) {
+            synchronized (this) {
+                current = table;
+                if (current == null) {
+                    current = loadTable();
+                    table = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private RatingTable loadTable() {
+        RatingTable loaded = new RatingTable(initialRating, 1024);
+        jdbcTemplate.query(SELECT_RATINGS, (RowCallbackHandler) rs ->
+                loaded.put(rs.getLong(1), rs.getDouble(2), rs.getInt(3)));
+        logger.info("Loaded {} player ratings", loaded.size());
+        return loaded;
+    }
+
+    private PendingRatings pendingRatings() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Ratings can only be recorded inside a transaction");
+        }
+        PendingRatings pending = (PendingRatings) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRatings();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /** Streams the history rows, one match at a time, into the replay. */
+    private final class HistoryReader implements RowCallbackHandler {
+        private final RatingReplay replay;
+        private final List<SetScore> sets = new ArrayList<>();
+        private long matchId = -1;
+        private long player1Id;
+        private long player2Id;
+
+        HistoryReader(RatingReplay replay) {
+            this.replay = replay;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong(1);
+            if (id != matchId) {
+                finishMatch();
+                matchId = id;
+                player1Id = rs.getLong(2);
+                player2Id = rs.getLong(3);
+            }
+            int player1Games = rs.getInt(4);
+            if (!rs.wasNull()) {
+                sets.add(new SetScore(player1Games, rs.getInt(5)));
+            }
+        }
+
+        void finishMatch() {
+            if (matchId != -1 && !sets.isEmpty()) {
+                int outcome = outcome(sets);
+                if (outcome != UNDECIDED) {
+                    replay.addMatch(matchId, player1Id, player2Id, outcome == PLAYER1_WON);
+                }
+            }
+            sets.clear();
+            matchId = -1;
+        }
+    }
+
+    /** The rating writes of one transaction. */
+    private final class PendingRatings implements TransactionSynchronization {
+        // sorted, so concurrent transactions update the rating rows in the same order
+        private final Map<Long, double[]> changes = new TreeMap<>();
+        private final Map<Long, Object[]> ratedMatches = new LinkedHashMap<>();
+        private final List<Object[]> takenBack = new ArrayList<>();
+        // the table the changes are applied to after commit, loaded before this transaction wrote its rows
+        private RatingTable ratings;
+
+        double ratingOf(long playerId) {
+            double[] change = changes.get(playerId);
+            return table().ratingOrInitial(playerId) + (change == null ? 0 : change[0]);
+        }
+
+        void rate(long matchId, long player1Id, long player2Id, double change) {
+            ratedMatches.put(matchId, new Object[]{matchId, player1Id, player2Id, change});
+            addChange(player1Id, change, 1);
+            addChange(player2Id, -change, 1);
+        }
+
+        void takeBack(long matchId) {
+            Object[] rated = ratedMatches.remove(matchId);
+            if (rated == null) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_MATCH_RATING, (rs, n) ->
+                        new Object[]{matchId, rs.getLong(1), rs.getLong(2), rs.getDouble(3)}, matchId);
+                if (rows.isEmpty()) {
+                    // rated before ratings existed and not rebuilt since; nothing to give back
+                    return;
+                }
+                rated = rows.get(0);
+                takenBack.add(new Object[]{matchId});
+            }
+            double change = (double) rated[3];
+            addChange((long) rated[1], -change, -1);
+            addChange((long) rated[2], change, -1);
+        }
+
+        private void addChange(long playerId, double rating, int matches) {
+            double[] change = changes.computeIfAbsent(playerId, id -> new double[2]);
+            change[0] += rating;
+            change[1] += matches;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // loading the table only after the commit would read the upserts below and then add them a second time
+            ratings = table();
+            if (!takenBack.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_MATCH_RATING, takenBack, new int[]{Types.BIGINT});
+            }
+            if (!ratedMatches.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MATCH_RATING, new ArrayList<>(ratedMatches.values()),
+                        new int[]{Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.DOUBLE});
+            }
+            List<Object[]> rows = new ArrayList<>(changes.size());
+            changes.forEach((playerId, change) -> rows.add(new Object[]{playerId, initialRating + change[0],
+                    (int) change[1], change[0], (int) change[1]}));
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_RATING, rows,
+                        new int[]{Types.BIGINT, Types.DOUBLE, Types.INTEGER, Types.DOUBLE, Types.INTEGER});
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            changes.forEach((playerId, change) -> ratings.add(playerId, change[0], (int) change[1]));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RatingServiceImpl.this);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.exception.InvalidRefreshTokenException;
+import com.catalin.tennis.model.RefreshToken;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.repository.RefreshTokenRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.service.RefreshTokenService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Refresh tokens are 32 random bytes handed to the client once; only their SHA-256 digest is stored, so a
+ * refresh is one unique-index lookup and two short updates instead of a bcrypt check. Every refresh uses up the
+ * presented token and issues the next one of the same family. Presenting a token that was already used means
+ * it was copied, so the whole family is revoked and both holders have to log in again.
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int FAMILY_BYTES = 16;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final SecureRandom random = new SecureRandom();
+    private final long idleTimeoutDays;
+    private final long maxSessionDays;
+
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository,
+                                   UserRepository userRepository,
+                                   JwtUtil jwtUtil,
+                                   @Value("${jwt.refresh.idle-timeout-days:14}") long idleTimeoutDays,
+                                   @Value("${jwt.refresh.max-session-days:30}") long maxSessionDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.idleTimeoutDays = idleTimeoutDays;
+        this.maxSessionDays = maxSessionDays;
+    }
+
+    /** Starts a new session (token family) for a user who just logged in with their password. */
+    @Override
+    @Transactional
+    public String issue(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        String familyId = HexFormat.of().formatHex(randomBytes(FAMILY_BYTES));
+        return save(user.getId(), familyId, now, now.plusDays(maxSessionDays));
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and the next refresh token. The session slides forward
+     * by the idle timeout on every refresh, but never past the end fixed at login.
+     */
+    @Override
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Map<String, String> refresh(String refreshToken) {
+        RefreshToken current = find(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getRevokedAt() != null || !current.getExpiresAt().isAfter(now)) {
+            throw new InvalidRefreshTokenException("Refresh token has expired");
+        }
+        // the conditional update also settles two concurrent refreshes with the same token: only one wins
+        if (refreshTokenRepository.markUsed(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            logger.warn("Refresh token reuse for user {}, revoked {} tokens of its session", current.getUserId(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token has already been used");
+        }
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token has expired"));
+
+        Map<String, String> response = new HashMap<>();
+        response.put("token", jwtUtil.generateToken(user));
+        response.put("refreshToken", save(user.getId(), current.getFamilyId(), now, current.getSessionExpiresAt()));
+        response.put("role", user.getRole().toString());
+        response.put("username", user.getUsername());
+        return response;
+    }
+
+    /** Ends the session the token belongs to; unknown tokens are ignored so logging out twice is harmless. */
+    @Override
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(digest(refreshToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh.purge-cron:0 0 4 * * *}")
+    public int purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        logger.info("Purged {} expired refresh tokens", deleted);
+        return deleted;
+    }
+
+    private RefreshToken find(String refreshToken) {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            throw new InvalidRefreshTokenException("Refresh token is required");
+        }
+        return refreshTokenRepository.findByTokenHash(digest(refreshToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Unknown refresh token"));
+    }
+
+    private String save(Long userId, String familyId, LocalDateTime now, LocalDateTime sessionExpiresAt) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes(TOKEN_BYTES));
+        LocalDateTime idleExpiry = now.plusDays(idleTimeoutDays);
+        LocalDateTime expiresAt = idleExpiry.isBefore(sessionExpiresAt) ? idleExpiry : sessionExpiresAt;
+        refreshTokenRepository.save(new RefreshToken(userId, digest(token), familyId, now, expiresAt, sessionExpiresAt));
+        return token;
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
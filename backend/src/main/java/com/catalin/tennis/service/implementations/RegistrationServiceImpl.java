@@ -1,11 +1,18 @@
 package com.catalin.tennis.service.implementations;
 
+import com.catalin.tennis.dto.projection.RegistrationDecisionRow;
+import com.catalin.tennis.dto.request.BulkRegistrationDecisionDTO;
 import com.catalin.tennis.dto.request.RegistrationRequestDTO;
+import com.catalin.tennis.dto.response.BulkRegistrationResultDTO;
+import com.catalin.tennis.dto.response.RegistrationOutcomeDTO;
+import com.catalin.tennis.dto.response.RegistrationOutcomeDTO.Outcome;
 import com.catalin.tennis.dto.response.RegistrationResponseDTO;
+import com.catalin.tennis.exception.InvalidBulkRequestException;
 import com.catalin.tennis.exception.RegistrationAlreadyExistsException;
 import com.catalin.tennis.exception.RegistrationNotFoundException;
 import com.catalin.tennis.exception.TournamentNotFoundException;
 import com.catalin.tennis.exception.UserNotFoundException;
+import com.catalin.tennis.model.NotificationOutbox;
 import com.catalin.tennis.model.Registration;
 import com.catalin.tennis.model.Tournament;
 import com.catalin.tennis.model.User;
@@ -17,13 +24,20 @@ import com.catalin.tennis.service.NotificationService;
 import com.catalin.tennis.service.RegistrationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class RegistrationServiceImpl implements RegistrationService {
+    static final int MAX_BULK_IDS = 1000;
+
     private final RegistrationRepository registrationRepository;
     private final TournamentRepository tournamentRepository;
     private final UserRepository userRepository;
@@ -102,20 +116,85 @@ public class RegistrationServiceImpl implements RegistrationService {
         }
         return dtos;
     }
+    @Transactional
     public void approveRegistration(Long registrationId) {
         Registration reg = registrationRepository.findById(registrationId)
                 .orElseThrow(() -> new RegistrationNotFoundException("Not found"));
         reg.setStatus(RegistrationStatus.APPROVED);
         registrationRepository.save(reg);
-        notificationService.createNotification(reg.getPlayer().getUsername(), "Your registration for " + reg.getTournament().getName() + " has been approved.");
+        notificationService.enqueueNotification(reg.getPlayer().getId(), decisionMessage(reg.getTournament().getName(), RegistrationStatus.APPROVED));
     }
 
+    @Transactional
     public void denyRegistration(Long registrationId) {
         Registration reg = registrationRepository.findById(registrationId)
                 .orElseThrow(() -> new RegistrationNotFoundException("Not found"));
         reg.setStatus(RegistrationStatus.DENIED);
         registrationRepository.save(reg);
-        notificationService.createNotification(reg.getPlayer().getUsername(), "Your registration for " + reg.getTournament().getName() + " was denied.");
+        notificationService.enqueueNotification(reg.getPlayer().getId(), decisionMessage(reg.getTournament().getName(), RegistrationStatus.DENIED));
+    }
+
+    /**
+     * Approves or denies many registrations with one locking select, one set-based UPDATE and one batched
+     * outbox insert. Ids that don't exist or are no longer pending are reported rather than failing the call.
+     */
+    @Override
+    @Transactional
+    public BulkRegistrationResultDTO decideRegistrations(BulkRegistrationDecisionDTO dto, RegistrationStatus decision) {
+        if (decision == RegistrationStatus.PENDING) {
+            throw new InvalidBulkRequestException("A registration can only be approved or denied");
+        }
+        boolean byIds = dto.getRegistrationIds() != null && !dto.getRegistrationIds().isEmpty();
+        if (byIds == (dto.getTournamentId() != null)) {
+            throw new InvalidBulkRequestException("Provide either registrationIds or tournamentId");
+        }
+
+        List<Long> requestedIds;
+        List<RegistrationDecisionRow> rows;
+        if (byIds) {
+            requestedIds = new ArrayList<>(new LinkedHashSet<>(dto.getRegistrationIds()));
+            if (requestedIds.size() > MAX_BULK_IDS) {
+                throw new InvalidBulkRequestException("At most " + MAX_BULK_IDS + " registrations can be decided at once");
+            }
+            rows = registrationRepository.lockDecisionRowsByIds(requestedIds);
+        } else {
+            if (!tournamentRepository.existsById(dto.getTournamentId())) {
+                throw new TournamentNotFoundException("Tournament not found");
+            }
+            rows = registrationRepository.lockDecisionRowsByTournamentAndStatus(dto.getTournamentId(), RegistrationStatus.PENDING);
+            requestedIds = rows.stream().map(RegistrationDecisionRow::getRegistrationId).collect(Collectors.toList());
+        }
+
+        Map<Long, RegistrationDecisionRow> rowsById = rows.stream()
+                .collect(Collectors.toMap(RegistrationDecisionRow::getRegistrationId, Function.identity()));
+        List<Long> pendingIds = new ArrayList<>();
+        List<NotificationOutbox> notifications = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (RegistrationDecisionRow row : rows) {
+            if (row.getStatus() == RegistrationStatus.PENDING) {
+                pendingIds.add(row.getRegistrationId());
+                notifications.add(new NotificationOutbox(row.getPlayerId(), decisionMessage(row.getTournamentName(), decision), now));
+            }
+        }
+
+        int updated = pendingIds.isEmpty() ? 0 : registrationRepository.decidePending(pendingIds, decision);
+        notificationService.enqueueNotifications(notifications);
+
+        List<RegistrationOutcomeDTO> outcomes = new ArrayList<>(requestedIds.size());
+        for (Long id : requestedIds) {
+            RegistrationDecisionRow row = rowsById.get(id);
+            Outcome outcome = row == null ? Outcome.NOT_FOUND
+                    : row.getStatus() == RegistrationStatus.PENDING ? Outcome.UPDATED
+                    : Outcome.NOT_PENDING;
+            outcomes.add(new RegistrationOutcomeDTO(id, outcome));
+        }
+        return new BulkRegistrationResultDTO(decision, updated, outcomes);
+    }
+
+    private static String decisionMessage(String tournamentName, RegistrationStatus decision) {
+        return decision == RegistrationStatus.APPROVED
+                ? "Your registration for " + tournamentName + " has been approved."
+                : "Your registration for " + tournamentName + " was denied.";
     }
     @Override
     public List<RegistrationResponseDTO> getPendingRegistrationsByTournament(Long tournamentId) {
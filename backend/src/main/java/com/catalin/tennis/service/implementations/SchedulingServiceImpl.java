@@ -0,0 +1,138 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.projection.MatchPairingRow;
+import com.catalin.tennis.dto.projection.ScheduledMatchRow;
+import com.catalin.tennis.dto.request.ScheduleRequestDTO;
+import com.catalin.tennis.dto.response.ScheduleResultDTO;
+import com.catalin.tennis.engine.MatchScheduler;
+import com.catalin.tennis.engine.Schedule;
+import com.catalin.tennis.engine.SchedulingProblem;
+import com.catalin.tennis.exception.InvalidScheduleException;
+import com.catalin.tennis.exception.TournamentNotFoundException;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.SchedulingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class SchedulingServiceImpl implements SchedulingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulingServiceImpl.class);
+
+    // only a match that is still unscheduled, as findUnscheduledPairingsByTournamentId read it, is assigned
+    private static final String UPDATE_MATCH =
+            "update matches set start_date = ?, court_number = ?, referee_id = ? where match_id = ? " +
+            "and (start_date is null or court_number is null or referee_id is null)";
+
+    private final MatchRepository matchRepository;
+    private final TournamentRepository tournamentRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MatchScheduler scheduler;
+
+    @Autowired
+    public SchedulingServiceImpl(MatchRepository matchRepository, TournamentRepository tournamentRepository,
+                                 UserRepository userRepository, JdbcTemplate jdbcTemplate,
+                                 @Value("${scheduling.variants:16}") int variants) {
+        this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduler = new MatchScheduler(variants);
+    }
+
+    /**
+     * Gives every match of the tournament still missing a start time, court or referee all three, one slot per
+     * {@code matchMinutes} on each tournament day. Matches that already have a time (in any tournament) keep
+     * their players and referee busy, and their court too when they belong to this tournament.
+     */
+    @Override
+    @Transactional
+    public ScheduleResultDTO scheduleTournament(Long tournamentId, ScheduleRequestDTO dto) {
+        // held until commit, so a concurrent run for the same tournament waits and then finds these matches taken
+        Tournament tournament = tournamentRepository.findByIdForUpdate(tournamentId)
+                .orElseThrow(() -> new TournamentNotFoundException("Tournament not found"));
+        ScheduleRequestDTO request = dto != null ? dto : new ScheduleRequestDTO();
+        if (request.getCourts() < 1 || request.getSlotsPerDay() < 1 || request.getMatchMinutes() < 1
+                || request.getMinRestMinutes() < 0 || request.getDayStart() == null) {
+            throw new InvalidScheduleException("Courts, slots per day and match length must be positive");
+        }
+
+        List<MatchPairingRow> pending = matchRepository.findUnscheduledPairingsByTournamentId(tournamentId);
+        if (pending.isEmpty()) {
+            return new ScheduleResultDTO(tournamentId, 0, List.of(), null);
+        }
+        List<Long> refereeIds = request.getRefereeIds() == null || request.getRefereeIds().isEmpty()
+                ? userRepository.findIdsByRole(UserRoles.REFEREE)
+                : userRepository.findIdsByRoleAndIdIn(UserRoles.REFEREE, request.getRefereeIds());
+        if (refereeIds.isEmpty()) {
+            throw new InvalidScheduleException("No referees available to schedule matches");
+        }
+
+        List<LocalDateTime> slotStarts = slotStarts(tournament, request);
+        Duration matchLength = Duration.ofMinutes(request.getMatchMinutes());
+        Duration minRest = Duration.ofMinutes(request.getMinRestMinutes());
+        SchedulingProblem problem = new SchedulingProblem(slotStarts, matchLength, minRest, request.getCourts(), refereeIds);
+        for (MatchPairingRow row : pending) {
+            problem.addMatch(row.getMatchId(), row.getPlayer1Id(), row.getPlayer2Id());
+        }
+        Duration margin = matchLength.plus(minRest);
+        LocalDateTime from = slotStarts.get(0).minus(margin);
+        LocalDateTime to = slotStarts.get(slotStarts.size() - 1).plus(margin);
+        for (ScheduledMatchRow row : matchRepository.findScheduledBetween(from, to)) {
+            Integer court = Objects.equals(row.getTournamentId(), tournamentId) ? row.getCourtNumber() : null;
+            problem.addFixedMatch(row.getPlayer1Id(), row.getPlayer2Id(), row.getRefereeId(), court, row.getStartDate());
+        }
+
+        long started = System.nanoTime();
+        Schedule schedule = scheduler.solve(problem);
+        logger.info("Scheduled {} of {} matches for tournament {} in {} ms", schedule.getAssignments().size(),
+                pending.size(), tournamentId, (System.nanoTime() - started) / 1_000_000);
+
+        List<Object[]> updates = new ArrayList<>(schedule.getAssignments().size());
+        for (Schedule.Assignment assignment : schedule.getAssignments()) {
+            updates.add(new Object[]{Timestamp.valueOf(assignment.getStart()), assignment.getCourt(),
+                    assignment.getRefereeId(), assignment.getMatchId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_MATCH, updates);
+
+        LocalDateTime lastStart = schedule.getLastSlot() < 0 ? null : slotStarts.get(schedule.getLastSlot());
+        return new ScheduleResultDTO(tournamentId, schedule.getAssignments().size(),
+                schedule.getUnscheduledMatchIds(), lastStart);
+    }
+
+    private static List<LocalDateTime> slotStarts(Tournament tournament, ScheduleRequestDTO request) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (LocalDate day = tournament.getStartDate(); !day.isAfter(tournament.getEndDate()); day = day.plusDays(1)) {
+            LocalDateTime first = day.atTime(request.getDayStart());
+            for (int slot = 0; slot < request.getSlotsPerDay(); slot++) {
+                LocalDateTime start = first.plusMinutes((long) slot * request.getMatchMinutes());
+                if (!start.toLocalDate().equals(day)) {
+                    break;
+                }
+                starts.add(start);
+            }
+        }
+        if (starts.isEmpty()) {
+            throw new InvalidScheduleException("The tournament has no days to schedule matches on");
+        }
+        return starts;
+    }
+}
@@ -0,0 +1,188 @@
+package com.catalin.tennis.service.implementations;
+
+import com.catalin.tennis.dto.projection.MatchPairingRow;
+import com.catalin.tennis.dto.projection.MatchSetRow;
+import com.catalin.tennis.dto.response.PlayerStandingDTO;
+import com.catalin.tennis.dto.response.StandingsRebuildResultDTO;
+import com.catalin.tennis.engine.MatchTally;
+import com.catalin.tennis.engine.StandingsDelta;
+import com.catalin.tennis.exception.TournamentNotFoundException;
+import com.catalin.tennis.exception.UserNotFoundException;
+import com.catalin.tennis.model.SetScore;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.PlayerStandingRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.StandingsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+public class StandingsServiceImpl implements StandingsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandingsServiceImpl.class);
+
+    private static final String UPSERT_STANDING =
+            "insert into player_standings (tournament_id, player_id, matches_played, wins, losses, sets_won, sets_lost, games_won, games_lost) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?) on duplicate key update " +
+            "matches_played = matches_played + values(matches_played), wins = wins + values(wins), " +
+            "losses = losses + values(losses), sets_won = sets_won + values(sets_won), " +
+            "sets_lost = sets_lost + values(sets_lost), games_won = games_won + values(games_won), " +
+            "games_lost = games_lost + values(games_lost)";
+    private static final String DELETE_TOURNAMENT_STANDINGS = "delete from player_standings where tournament_id = ?";
+    private static final int[] UPSERT_TYPES = {Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.INTEGER,
+            Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER, Types.INTEGER};
+
+    private final PlayerStandingRepository standingRepository;
+    private final MatchRepository matchRepository;
+    private final TournamentRepository tournamentRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int setsToWin;
+    private final int rebuildParallelism;
+
+    @Autowired
+    public StandingsServiceImpl(PlayerStandingRepository standingRepository, MatchRepository matchRepository,
+                                TournamentRepository tournamentRepository, UserRepository userRepository,
+                                JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                @Value("${standings.sets-to-win:2}") int setsToWin,
+                                @Value("${standings.rebuild.parallelism:4}") int rebuildParallelism) {
+        this.standingRepository = standingRepository;
+        this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.setsToWin = setsToWin;
+        this.rebuildParallelism = rebuildParallelism;
+    }
+
+    @Override
+    public StandingsDelta newDelta() {
+        return new StandingsDelta(setsToWin);
+    }
+
+    /**
+     * Adds the delta to the stored standings with one batched upsert, in the caller's transaction so the
+     * standings commit or roll back together with the score change that caused them.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(StandingsDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (StandingsDelta.Change change : delta.getChanges()) {
+            MatchTally t = change.getTally();
+            rows.add(new Object[]{change.getTournamentId(), change.getPlayerId(), t.getMatchesPlayed(), t.getWins(),
+                    t.getLosses(), t.getSetsWon(), t.getSetsLost(), t.getGamesWon(), t.getGamesLost()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_STANDING, rows, UPSERT_TYPES);
+    }
+
+    @Override
+    public List<PlayerStandingDTO> getTournamentStandings(Long tournamentId) {
+        List<PlayerStandingDTO> standings = standingRepository.findStandingDTOsByTournamentId(tournamentId);
+        if (standings.isEmpty() && !tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException("Tournament not found");
+        }
+        return standings;
+    }
+
+    @Override
+    public List<PlayerStandingDTO> getPlayerStandings(String username) {
+        List<PlayerStandingDTO> standings = standingRepository.findStandingDTOsByUsername(username);
+        if (standings.isEmpty() && !userRepository.existsUserByUsername(username)) {
+            throw new UserNotFoundException("User not found with username: " + username);
+        }
+        return standings;
+    }
+
+    @Override
+    public StandingsRebuildResultDTO rebuildTournament(Long tournamentId) {
+        if (!tournamentRepository.existsById(tournamentId)) {
+            throw new TournamentNotFoundException("Tournament not found");
+        }
+        long start = System.nanoTime();
+        int standings = rebuildInTransaction(tournamentId);
+        return new StandingsRebuildResultDTO(1, standings, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Recomputes every tournament from its matches, {@code rebuildParallelism} tournaments at a time, each in
+     * its own transaction. Keep the parallelism below the connection pool size.
+     */
+    @Override
+    public StandingsRebuildResultDTO rebuildAll() {
+        long start = System.nanoTime();
+        List<Long> tournamentIds = tournamentRepository.findAllIds();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(rebuildParallelism, tournamentIds.size())));
+        try {
+            List<Future<Integer>> results = new ArrayList<>(tournamentIds.size());
+            for (Long tournamentId : tournamentIds) {
+                results.add(pool.submit(() -> rebuildInTransaction(tournamentId)));
+            }
+            int standings = 0;
+            for (Future<Integer> result : results) {
+                standings += result.get();
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            logger.info("Rebuilt {} standings across {} tournaments in {} ms", standings, tournamentIds.size(), elapsedMs);
+            return new StandingsRebuildResultDTO(tournamentIds.size(), standings, elapsedMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Standings rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Standings rebuild failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Locks the tournament's matches first, the same order a score update takes its locks in, so no score
+     * change can land between reading the matches and replacing the standings.
+     */
+    private int rebuildInTransaction(Long tournamentId) {
+        Integer written = transactionTemplate.execute(status -> {
+            List<MatchPairingRow> matches = matchRepository.lockPairingsByTournamentId(tournamentId);
+            Map<Long, List<SetScore>> setsByMatch = new HashMap<>();
+            for (MatchSetRow row : matchRepository.findSetRowsByTournamentId(tournamentId)) {
+                setsByMatch.computeIfAbsent(row.getMatchId(), id -> new ArrayList<>())
+                        .add(new SetScore(row.getPlayer1Games(), row.getPlayer2Games()));
+            }
+            StandingsDelta delta = newDelta();
+            for (MatchPairingRow match : matches) {
+                delta.record(tournamentId, match.getPlayer1Id(), match.getPlayer2Id(),
+                        List.of(), setsByMatch.getOrDefault(match.getMatchId(), List.of()));
+            }
+            jdbcTemplate.update(DELETE_TOURNAMENT_STANDINGS, tournamentId);
+            apply(delta);
+            return delta.size();
+        });
+        return written == null ? 0 : written;
+    }
+}
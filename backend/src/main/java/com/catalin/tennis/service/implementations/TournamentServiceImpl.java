@@ -1,27 +1,58 @@
 package com.catalin.tennis.service.implementations;
 
+import com.catalin.tennis.cache.CacheRegistry;
 import com.catalin.tennis.dto.request.CreateTournamentDTO;
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.TournamentResponseDTO;
+import com.catalin.tennis.exception.InvalidPageTokenException;
 import com.catalin.tennis.exception.TournamentNameTakenException;
 import com.catalin.tennis.exception.TournamentNotFoundException;
 import com.catalin.tennis.factory.TournamentFactory;
 import com.catalin.tennis.model.Tournament;
 import com.catalin.tennis.repository.TournamentRepository;
 import com.catalin.tennis.service.TournamentService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class TournamentServiceImpl implements TournamentService {
+    private static final String CATALOG_KEY = "all";
+
     private final TournamentRepository tournamentRepository;
 
+    // The catalog changes only through createTournament/deleteTournament, which invalidate both caches;
+    // the TTL just bounds staleness from writes made outside this service (or on another node), so only
+    // the read endpoints use them. Cached DTOs are mutable and shared, so callers always get copies.
+    private final LoadingCache<String, List<TournamentResponseDTO>> catalog;
+    private final LoadingCache<String, Optional<TournamentResponseDTO>> tournamentsByName;
+
     @Autowired
-    public TournamentServiceImpl(TournamentRepository tournamentRepository){
+    public TournamentServiceImpl(TournamentRepository tournamentRepository, CacheRegistry cacheRegistry,
+                                 @Value("${tournaments.catalog-cache.max-size:1000}") long maxSize,
+                                 @Value("${tournaments.catalog-cache.ttl-seconds:300}") long ttlSeconds){
         this.tournamentRepository=tournamentRepository;
+        this.catalog = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(key -> tournamentRepository.findAll().stream().map(TournamentServiceImpl::toDTO).toList());
+        this.tournamentsByName = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(name -> tournamentRepository.findByName(name).map(TournamentServiceImpl::toDTO));
+        cacheRegistry.register("tournaments.catalog", catalog);
+        cacheRegistry.register("tournaments.by-name", tournamentsByName);
     }
 
     @Override
@@ -37,7 +68,8 @@ public class TournamentServiceImpl implements TournamentService {
                 dto.getMaxParticipants()
         );
         tournamentRepository.save(tournament);
-        return new TournamentResponseDTO(tournament.getId(), tournament.getName(),tournament.getStartDate(),tournament.getEndDate(), tournament.getRegistrationDeadline(), tournament.getMaxParticipants());
+        invalidateCatalog();
+        return toDTO(tournament);
 
     }
 
@@ -47,51 +79,93 @@ public class TournamentServiceImpl implements TournamentService {
                 ()-> new TournamentNotFoundException("Tournament not found")
         );
         tournamentRepository.delete(tournament);
+        invalidateCatalog();
     }
 
     @Override
     public List<TournamentResponseDTO> getAllTournaments() {
-        List<Tournament> tournamentList = tournamentRepository.findAll();
-        if(tournamentList.isEmpty()){
+        List<TournamentResponseDTO> dtos = catalog.get(CATALOG_KEY);
+        if(dtos.isEmpty()){
             throw new TournamentNotFoundException("No tournaments");
         }
-        List<TournamentResponseDTO> dtos = new ArrayList<>();
-        for(Tournament t: tournamentList){
-            dtos.add(
-                    new TournamentResponseDTO(t.getId(),t.getName(),t.getStartDate(),t.getEndDate(),t.getRegistrationDeadline(), t.getMaxParticipants())
-            );
-        }
-        return dtos;
+        return dtos.stream().map(TournamentServiceImpl::copy).toList();
+    }
+
+    @Override
+    public KeysetPageDTO<TournamentResponseDTO> getTournamentsPage(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<Tournament> tournaments = tournamentRepository.findPageAfter(PageTokens.decodeId(pageToken), PageTokens.lookAhead(pageSize));
+        KeysetPageDTO<Tournament> page = PageTokens.page(tournaments, pageSize, t -> PageTokens.encode(t.getId()));
+        List<TournamentResponseDTO> dtos = page.getItems().stream()
+                .map(TournamentServiceImpl::toDTO)
+                .toList();
+        return new KeysetPageDTO<>(dtos, page.getNextPageToken());
     }
 
     @Override
     public TournamentResponseDTO getTournamentByName(String name) {
-        if(!tournamentRepository.existsByName(name)){
-            throw new TournamentNotFoundException("No such tournament exists");
-        }
-        Tournament tournament=tournamentRepository.findByName(name).orElseThrow(
+        return tournamentsByName.get(name).map(TournamentServiceImpl::copy).orElseThrow(
                 () -> new TournamentNotFoundException("No such tournament exists")
         );
-        return new TournamentResponseDTO(tournament.getId(), tournament.getName(),tournament.getStartDate(),tournament.getEndDate(), tournament.getRegistrationDeadline(), tournament.getMaxParticipants());
+    }
+
+    /**
+     * A primary key lookup rather than the cached catalog: writes such as match creation validate tournaments
+     * through this, and one created a moment ago on another node must already be found.
+     */
+    @Override
+    public TournamentResponseDTO getTournamentById(Long tournamentId) {
+        return tournamentRepository.findById(tournamentId)
+                .map(TournamentServiceImpl::toDTO)
+                .orElseThrow(() -> new TournamentNotFoundException("Tournament not found"));
     }
 
     @Override
     public List<TournamentResponseDTO> getTournamentsStartingAfter(String date) {
         LocalDate parsedDate = LocalDate.parse(date);
-        List<Tournament> tournamentList = tournamentRepository.findAll()
+        List<TournamentResponseDTO> dtos = tournamentRepository.findAllByStartDateAfterOrderByStartDateAscIdAsc(parsedDate)
                 .stream()
-                .filter(t -> t.getStartDate().isAfter(parsedDate))
+                .map(TournamentServiceImpl::toDTO)
                 .toList();
 
-        if (tournamentList.isEmpty()) {
+        if (dtos.isEmpty()) {
             throw new TournamentNotFoundException("No tournaments starting after " + date);
         }
+        return dtos;
+    }
 
-        List<TournamentResponseDTO> dtos = new ArrayList<>();
-        for (Tournament t : tournamentList) {
-            dtos.add(new TournamentResponseDTO(t.getId(),t.getName(), t.getStartDate(), t.getEndDate(), t.getRegistrationDeadline(),t.getMaxParticipants()));
+    /** Every filter runs in SQL; pages are keyed on (start date, id), so deep pages cost the same as the first. */
+    @Override
+    public KeysetPageDTO<TournamentResponseDTO> searchTournaments(TournamentSearchDTO filters, String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        LocalDate afterStartDate = null;
+        long afterId = 0L;
+        if (pageToken != null && !pageToken.isEmpty()) {
+            String[] cursor = PageTokens.decode(pageToken, 2);
+            try {
+                afterStartDate = LocalDate.parse(cursor[0]);
+                afterId = Long.parseLong(cursor[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidPageTokenException("Invalid page token");
+            }
         }
-        return dtos;
+        List<TournamentResponseDTO> rows = tournamentRepository.search(filters, afterStartDate, afterId,
+                LocalDate.now(), pageSize + 1);
+        return PageTokens.page(rows, pageSize, t -> PageTokens.encode(t.getStartDate(), t.getId()));
+    }
+
+    private void invalidateCatalog() {
+        catalog.invalidateAll();
+        tournamentsByName.invalidateAll();
+    }
+
+    private static TournamentResponseDTO copy(TournamentResponseDTO dto) {
+        return new TournamentResponseDTO(dto.getId(), dto.getName(), dto.getStartDate(), dto.getEndDate(),
+                dto.getRegistrationDeadline(), dto.getMaxParticipants());
+    }
+
+    private static TournamentResponseDTO toDTO(Tournament t) {
+        return new TournamentResponseDTO(t.getId(), t.getName(), t.getStartDate(), t.getEndDate(), t.getRegistrationDeadline(), t.getMaxParticipants());
     }
 
 }
@@ -4,6 +4,7 @@ import com.catalin.tennis.dto.request.CreateUserDTO;
 import com.catalin.tennis.dto.request.LoginDTO;
 import com.catalin.tennis.dto.request.RegisterUserDTO;
 import com.catalin.tennis.dto.request.UpdateUserDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.UserResponseDTO;
 import com.catalin.tennis.exception.InvalidPasswordException;
 import com.catalin.tennis.exception.UserNotFoundException;
@@ -13,6 +14,8 @@ import com.catalin.tennis.model.User;
 import com.catalin.tennis.model.enums.UserRoles;
 import com.catalin.tennis.repository.UserRepository;
 import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.RefreshTokenService;
 import com.catalin.tennis.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -31,11 +34,27 @@ public class UserServiceImpl implements UserService {
     private final BCryptPasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
 
+    private final RatingService ratingService;
+    private final RefreshTokenService refreshTokenService;
+
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, JwtUtil jwtUtil){
+    public UserServiceImpl(UserRepository userRepository, JwtUtil jwtUtil, RatingService ratingService,
+                           RefreshTokenService refreshTokenService){
         this.userRepository=userRepository;
         this.passwordEncoder=new BCryptPasswordEncoder();
         this.jwtUtil=jwtUtil;
+        this.ratingService=ratingService;
+        this.refreshTokenService=refreshTokenService;
+    }
+
+    // players carry their rating and rank, both served from memory
+    private UserResponseDTO toDTO(User user) {
+        UserResponseDTO dto = new UserResponseDTO(user.getUsername(), user.getName(), user.getRole());
+        if (user.getRole() == UserRoles.TENNIS_PLAYER && user.getId() != null) {
+            dto.setRating(ratingService.getRating(user.getId()));
+            dto.setRank(dto.getRating() == null ? null : ratingService.getRank(user.getId()));
+        }
+        return dto;
     }
     @Override
     public List<UserResponseDTO> getAllUsers(){
@@ -43,16 +62,23 @@ public class UserServiceImpl implements UserService {
         List<UserResponseDTO> dtos=new ArrayList<>();
         for(User u:users){
             dtos.add(
-                    new UserResponseDTO(
-                            u.getUsername(),
-                            u.getName(),
-                            u.getRole()
-                    )
+                    toDTO(u)
             );
         }
         return dtos;
     }
 
+    @Override
+    public KeysetPageDTO<UserResponseDTO> getUsersPage(String pageToken, int size) {
+        int pageSize = PageTokens.clampSize(size);
+        List<User> users = userRepository.findPageAfter(PageTokens.decodeId(pageToken), PageTokens.lookAhead(pageSize));
+        KeysetPageDTO<User> page = PageTokens.page(users, pageSize, u -> PageTokens.encode(u.getId()));
+        List<UserResponseDTO> dtos = page.getItems().stream()
+                .map(this::toDTO)
+                .toList();
+        return new KeysetPageDTO<>(dtos, page.getNextPageToken());
+    }
+
     @Override
     public UserResponseDTO updateUser(String username, UpdateUserDTO dto) {
         User user = userRepository.findByUsername(username)
@@ -74,7 +100,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
-        return new UserResponseDTO(user.getUsername(), user.getName(), user.getRole());
+        return toDTO(user);
     }
 
 
@@ -103,7 +129,7 @@ public class UserServiceImpl implements UserService {
                 UserRoles.TENNIS_PLAYER
         );
         userRepository.save(user);
-        return new UserResponseDTO(user.getUsername(),user.getName(),user.getRole());
+        return toDTO(user);
     }
     @Override
     public Map<String,String> login(LoginDTO loginDTO) {
@@ -119,6 +145,8 @@ public class UserServiceImpl implements UserService {
         response.put("token",token);
         response.put("role",user.getRole().toString());
         response.put("username",user.getUsername());
+        // later sessions renew through the refresh token instead of another bcrypt check
+        response.put("refreshToken", refreshTokenService.issue(user));
         return response;
     }
 
@@ -142,7 +170,7 @@ public class UserServiceImpl implements UserService {
                 roleEnum
         );
         userRepository.save(user);
-        return new UserResponseDTO(user.getUsername(), user.getName(), user.getRole());
+        return toDTO(user);
     }
 
 
@@ -153,14 +181,14 @@ public class UserServiceImpl implements UserService {
         }
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("No user with the " + username + " username exists."));
-        return new UserResponseDTO(user.getUsername(),user.getName(),user.getRole());
+        return toDTO(user);
     }
 
     @Override
     public List<UserResponseDTO> getUsersByRole(UserRoles role) {
         List<User> userList = userRepository.findAllByRole(role);
         return userList.stream()
-                .map(u -> new UserResponseDTO(u.getUsername(), u.getName(), u.getRole()))
+                .map(this::toDTO)
                 .toList();
     }
 
@@ -174,7 +202,7 @@ public class UserServiceImpl implements UserService {
         List<UserResponseDTO> userResponseDTOS=new ArrayList<>();
         for(User u: userList){
             userResponseDTOS.add(
-                    new UserResponseDTO(u.getUsername(),u.getName(),u.getRole())
+                    toDTO(u)
             );
         }
         return userResponseDTOS;
@@ -184,7 +212,7 @@ public class UserServiceImpl implements UserService {
     public UserResponseDTO getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
-        return new UserResponseDTO(user.getUsername(), user.getName(), user.getRole());
+        return toDTO(user);
     }
 
     @Override
@@ -193,11 +221,12 @@ public class UserServiceImpl implements UserService {
                 .map(User::getId)
                 .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
     }
+
     @Override
     public List<UserResponseDTO> getPlayersByName(String name) {
         List<User> users = userRepository.findAllByRoleAndNameContainingIgnoreCase(UserRoles.TENNIS_PLAYER, name);
         return users.stream()
-                .map(u -> new UserResponseDTO(u.getUsername(), u.getName(), u.getRole()))
+                .map(this::toDTO)
                 .toList();
     }
 
@@ -205,7 +234,7 @@ public class UserServiceImpl implements UserService {
     public List<UserResponseDTO> getPlayersByRegistrationPeriod(LocalDateTime start, LocalDateTime end) {
         List<User> users = userRepository.findAllByRoleAndCreatedAtBetween(UserRoles.TENNIS_PLAYER, start, end);
         return users.stream()
-                .map(u -> new UserResponseDTO(u.getUsername(), u.getName(), u.getRole()))
+                .map(this::toDTO)
                 .toList();
     }
 
@@ -0,0 +1,23 @@
+-- Refresh tokens, stored only as the SHA-256 digest of the random token handed to the client. Every refresh
+-- marks its row used and issues the next token of the same family; a used token presented again means it
+-- was copied, so the whole family is revoked.
+create table refresh_tokens (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    token_hash varchar(64) not null,
+    family_id varchar(32) not null,
+    created_at datetime(6) not null,
+    expires_at datetime(6) not null,
+    session_expires_at datetime(6) not null,
+    used_at datetime(6),
+    revoked_at datetime(6),
+    primary key (id),
+    constraint uk_refresh_tokens_hash unique (token_hash),
+    constraint fk_refresh_tokens_user foreign key (user_id) references users (user_id) on delete cascade
+) engine=InnoDB;
+
+-- revoking a family on reuse or logout
+create index idx_refresh_tokens_family on refresh_tokens (family_id);
+
+-- purging expired tokens
+create index idx_refresh_tokens_expires on refresh_tokens (expires_at);
@@ -0,0 +1,10 @@
+-- Deleting a user relies on the database to delete their notifications, but only the baseline schema's
+-- Hibernate mapping asked for that cascade; databases created before it have a plain foreign key.
+-- Recreate it with the cascade, under the name hbm2ddl gave it, on every database.
+alter table notifications drop foreign key FK9y21adhxn0ayjhfocscqox7bh;
+
+alter table notifications
+   add constraint FK9y21adhxn0ayjhfocscqox7bh
+   foreign key (user_id)
+   references users (user_id)
+   on delete cascade;
@@ -0,0 +1,24 @@
+-- match_sets had no position, so "6-4, 3-6" and "3-6, 6-4" depended on the order the engine happened to
+-- return rows in, and with it every winner derived from the sets. Sets now carry their 0-based number
+-- (Hibernate's @OrderColumn), which also makes (match_id, set_number) a primary key. The rows have no key to
+-- update them by, so the table is copied; existing sets are numbered in the order they are stored.
+create table match_sets_numbered (
+    match_id bigint not null,
+    set_number integer not null,
+    player1games integer,
+    player2games integer,
+    primary key (match_id, set_number)
+) engine=InnoDB;
+
+insert into match_sets_numbered (match_id, set_number, player1games, player2games)
+select match_id, row_number() over (partition by match_id) - 1, player1games, player2games
+from match_sets;
+
+drop table match_sets;
+
+alter table match_sets_numbered rename to match_sets;
+
+alter table match_sets
+   add constraint fk_match_sets_match
+   foreign key (match_id)
+   references matches (match_id);
@@ -0,0 +1,55 @@
+-- Tables and indexes this series introduced after the V1 baseline: draw slots, the notification outbox and the
+-- tournament listing indexes. No build that created them through hbm2ddl was ever deployed, so every database
+-- at V1, fresh or baselined, is still without them and they are created unconditionally.
+
+create table draw_slots (
+    position integer not null,
+    round_number integer not null,
+    seed integer,
+    match_id bigint,
+    player_id bigint,
+    slot_id bigint not null auto_increment,
+    tournament_id bigint not null,
+    primary key (slot_id)
+) engine=InnoDB;
+
+create table notification_outbox (
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    message varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table draw_slots
+   add constraint UK55yqbd9k4q7tw03i2fdw9rhe unique (position, round_number, tournament_id);
+
+alter table draw_slots
+   add constraint FKd6ko5n6sgng3dxw81u4upkceu
+   foreign key (match_id)
+   references matches (match_id)
+   on delete set null;
+
+alter table draw_slots
+   add constraint FKa6o5arm7ipaqb5nnl3qlunaaw
+   foreign key (player_id)
+   references users (user_id)
+   on delete set null;
+
+alter table draw_slots
+   add constraint FKdx7y89bi2hqtcdjw1b1q6nf5x
+   foreign key (tournament_id)
+   references tournaments (tournament_id)
+   on delete cascade;
+
+create index idx_registrations_tournament_status
+   on registrations (tournament_id, status);
+
+create index idx_tournaments_start_date
+   on tournaments (start_date, tournament_id);
+
+create index idx_tournaments_end_date
+   on tournaments (end_date);
+
+create index idx_tournaments_registration_deadline
+   on tournaments (registration_deadline);
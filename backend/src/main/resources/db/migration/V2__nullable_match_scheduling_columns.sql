@@ -0,0 +1,6 @@
+-- Draw generation creates matches before scheduling assigns a referee, court and start time.
+-- hbm2ddl update never relaxed these columns on databases created before that.
+
+alter table matches modify referee_id bigint null;
+alter table matches modify court_number integer null;
+alter table matches modify start_date datetime(6) null;
@@ -0,0 +1,5 @@
+-- Enum-typed columns (as hbm2ddl created them) become plain varchar, matching the entity mapping:
+-- a new enum constant then needs no DDL, and schema validation behaves the same on every database.
+
+alter table users modify user_role varchar(32) not null;
+alter table registrations modify status varchar(32);
@@ -0,0 +1,26 @@
+-- Indexes for the repository queries. InnoDB drops the index it created implicitly for a foreign key
+-- once one of these can serve the constraint instead.
+
+-- tournament listing and keyset paging (order by match_id)
+create index idx_matches_tournament on matches (tournament_id, match_id);
+-- player lookups run "player1_id = ? or player2_id = ?" as an index merge
+create index idx_matches_player1 on matches (player1_id, player2_id);
+create index idx_matches_player2 on matches (player2_id);
+create index idx_matches_referee on matches (referee_id);
+-- scheduling reads the matches already placed in a time window
+create index idx_matches_start_date on matches (start_date, court_number);
+
+-- covers the approved-player list of a draw (ordered by registration date) without touching the rows;
+-- created before the narrower index goes, so the tournament_id foreign key always has an index
+create index idx_registrations_tournament_covering
+    on registrations (tournament_id, status, registration_date, player_id);
+drop index idx_registrations_tournament_status on registrations;
+create index idx_registrations_player on registrations (player_id, tournament_id);
+
+-- newest-first notification pages: (user_id, timestamp, id) matches the keyset order
+create index idx_notifications_user_timestamp on notifications (user_id, timestamp, id);
+
+create index idx_users_role on users (user_role, created_at);
+create index idx_users_name on users (name);
+
+create index idx_draw_slots_tournament on draw_slots (tournament_id, round_number, position);
@@ -0,0 +1,20 @@
+-- Per-player, per-tournament results, kept up to date from every score change so reads never touch matches.
+-- Rows are derived data: they go with their tournament or player and can be rebuilt from the matches.
+create table player_standings (
+    tournament_id bigint not null,
+    player_id bigint not null,
+    matches_played integer not null default 0,
+    wins integer not null default 0,
+    losses integer not null default 0,
+    sets_won integer not null default 0,
+    sets_lost integer not null default 0,
+    games_won integer not null default 0,
+    games_lost integer not null default 0,
+    primary key (tournament_id, player_id),
+    constraint fk_player_standings_tournament foreign key (tournament_id)
+        references tournaments (tournament_id) on delete cascade,
+    constraint fk_player_standings_player foreign key (player_id)
+        references users (user_id) on delete cascade
+) engine=InnoDB;
+
+create index idx_player_standings_player on player_standings (player_id, tournament_id);
@@ -0,0 +1,22 @@
+-- Elo rating per player. Score changes add to these rows; POST /api/admin/ratings/rebuild recomputes them.
+create table player_ratings (
+    player_id bigint not null,
+    rating double not null,
+    rated_matches integer not null,
+    primary key (player_id),
+    constraint fk_player_ratings_player foreign key (player_id) references users (user_id) on delete cascade
+) engine=InnoDB;
+
+-- leaderboard, best first
+create index idx_player_ratings_rating on player_ratings (rating desc, player_id desc);
+
+-- The rating points each finished match moved from player 2 to player 1 (negative when player 2 won),
+-- so a corrected or deleted result can be taken back exactly.
+create table match_ratings (
+    match_id bigint not null,
+    player1_id bigint not null,
+    player2_id bigint not null,
+    rating_change double not null,
+    primary key (match_id),
+    constraint fk_match_ratings_match foreign key (match_id) references matches (match_id) on delete cascade
+) engine=InnoDB;
@@ -0,0 +1,7 @@
+-- A player's match history is read one side of the pairing at a time, in start-date order, so each side
+-- gets a (player, start_date, match_id) index. Created before the old player indexes are dropped, so the
+-- player foreign keys always have an index.
+create index idx_matches_player1_start on matches (player1_id, start_date, match_id);
+create index idx_matches_player2_start on matches (player2_id, start_date, match_id);
+drop index idx_matches_player1 on matches;
+drop index idx_matches_player2 on matches;
@@ -0,0 +1,18 @@
+-- Per-user unread count and newest notification id, kept up to date by every write to notifications,
+-- so polling clients can find out whether anything changed without reading the notifications.
+create table notification_counters (
+    user_id bigint not null,
+    unread integer not null,
+    last_notification_id bigint not null,
+    primary key (user_id),
+    constraint fk_notification_counters_user foreign key (user_id) references users (user_id) on delete cascade
+) engine=InnoDB;
+
+insert into notification_counters (user_id, unread, last_notification_id)
+select user_id, sum(case when is_read then 0 else 1 end), max(id)
+from notifications
+where user_id is not null
+group by user_id;
+
+-- delta sync ("id > cursor") and bulk mark-as-read, both per user in id order
+create index idx_notifications_user_id on notifications (user_id, id);
@@ -0,0 +1,17 @@
+-- Read notifications past the retention period, moved out of notifications in chunks by
+-- NotificationRetentionJob. Archived rows are all read, so the flag is not kept.
+create table notifications_archive (
+    id bigint not null,
+    user_id bigint not null,
+    timestamp datetime(6) not null,
+    archived_at datetime(6) not null,
+    message varchar(255) not null,
+    primary key (id),
+    constraint fk_notifications_archive_user foreign key (user_id) references users (user_id) on delete cascade
+) engine=InnoDB;
+
+-- archive search: a user's notifications, newest first
+create index idx_notifications_archive_user on notifications_archive (user_id, timestamp, id);
+
+-- the retention job reads the oldest read notifications first
+create index idx_notifications_read_timestamp on notifications (is_read, timestamp);
@@ -0,0 +1,85 @@
+package com.catalin.tennis;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A database created by hbm2ddl before Flyway took over: the baseline DDL with some rows but no schema history.
+ * Flyway has to baseline it at V1, apply every later migration on top and leave a schema Hibernate validates.
+ */
+@DataJpaTest
+@Import(BaselinedDatabaseMigrationTest.HibernateCreatedDatabase.class)
+class BaselinedDatabaseMigrationTest {
+
+    @TestConfiguration
+    static class HibernateCreatedDatabase {
+        @Bean
+        FlywayMigrationStrategy baselineSchemaFirst(DataSource dataSource) {
+            return flyway -> {
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline_schema.sql"))
+                        .execute(dataSource);
+                JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+                jdbc.update("insert into users (user_id, created_at, name, password_hash, user_role, username) values "
+                        + "(1, now(), 'Referee', 'hash', 'REFEREE', 'ref'), "
+                        + "(2, now(), 'John', 'hash', 'TENNIS_PLAYER', 'john'), "
+                        + "(3, now(), 'Mary', 'hash', 'TENNIS_PLAYER', 'mary'), "
+                        + "(4, now(), 'Ann', 'hash', 'TENNIS_PLAYER', 'ann')");
+                jdbc.update("insert into tournaments (tournament_id, tournament_name, start_date, end_date, "
+                        + "max_participants) values (1, 'Open', current_date, current_date, 16)");
+                jdbc.update("insert into registrations (player_id, tournament_id, registration_date, status) "
+                        + "values (2, 1, now(), 'APPROVED'), (3, 1, now(), 'PENDING')");
+                jdbc.update("insert into matches (match_id, player1_id, player2_id, referee_id, tournament_id, "
+                        + "court_number, start_date) values (1, 2, 3, 1, 1, 1, now())");
+                jdbc.update("insert into match_sets (match_id, player1games, player2games) values (1, 6, 4), (1, 3, 6)");
+                jdbc.update("insert into notifications (user_id, message, timestamp, is_read) values "
+                        + "(2, 'approved', now(), false), (2, 'scheduled', now(), true), (4, 'welcome', now(), false)");
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void hibernateCreatedDatabase_isBaselinedAndMigrated() {
+        MigrationInfo[] applied = flyway.info().applied();
+        assertTrue(applied[0].getType().isBaseline());
+        assertEquals("1", applied[0].getVersion().getVersion());
+        List<String> migrated = Arrays.stream(applied).skip(1).map(info -> info.getVersion().getVersion()).toList();
+        assertEquals(flyway.info().all().length - 2, migrated.size(), "every migration after V1 ran: " + migrated);
+        assertFalse(migrated.contains("1"));
+
+        // the existing rows survive the migrations and the tables they added are filled from them
+        assertEquals("APPROVED", jdbcTemplate.queryForObject(
+                "select status from registrations where player_id = 2", String.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select unread from notification_counters where user_id = 2", Integer.class));
+        assertEquals(List.of(0, 1), jdbcTemplate.queryForList(
+                "select set_number from match_sets where match_id = 1 order by set_number", Integer.class));
+
+        // users are deleted without loading their notifications, the foreign key removes them
+        jdbcTemplate.update("delete from users where user_id = 4");
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from notifications where user_id = 4", Integer.class));
+    }
+}
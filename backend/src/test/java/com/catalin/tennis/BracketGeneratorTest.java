@@ -0,0 +1,95 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.engine.Bracket;
+import com.catalin.tennis.engine.BracketGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketGeneratorTest {
+
+    @Test
+    void generate_placesTopSeedsInOppositeHalvesAndQuarters() {
+        Bracket bracket = BracketGenerator.generate(List.of(101L, 102L, 103L, 104L), ids(105, 12), 1L);
+
+        assertEquals(16, bracket.getSize());
+        assertEquals(4, bracket.getRounds());
+        assertEquals(0, bracket.getByes());
+        assertEquals(101L, bracket.playerAt(0));
+        assertEquals(1, bracket.seedAt(0));
+        int seed2 = positionOf(bracket, 102L);
+        assertTrue(seed2 >= 8, "seed 2 must be in the bottom half");
+        assertEquals(2, bracket.seedAt(seed2));
+        // each of the top four seeds gets a quarter of its own
+        Set<Integer> quarters = new HashSet<>();
+        for (long seed = 101L; seed <= 104L; seed++) {
+            quarters.add(positionOf(bracket, seed) / 4);
+        }
+        assertEquals(Set.of(0, 1, 2, 3), quarters);
+    }
+
+    @Test
+    void generate_givesByesToTopSeedsOnly() {
+        Bracket bracket = BracketGenerator.generate(List.of(1L, 2L, 3L), ids(4, 10), 7L);
+
+        assertEquals(16, bracket.getSize());
+        assertEquals(3, bracket.getByes());
+        int byePairs = 0;
+        for (int pair = 0; pair < bracket.getSize() / 2; pair++) {
+            if (!bracket.isMatch(pair)) {
+                byePairs++;
+                long advancing = bracket.advancesWithBye(pair);
+                assertTrue(advancing >= 1 && advancing <= 3, "bye went to unseeded player " + advancing);
+            }
+        }
+        assertEquals(3, byePairs);
+    }
+
+    @Test
+    void generate_drawsEveryEntrantExactlyOnceForLargeFields() {
+        Bracket bracket = BracketGenerator.generate(List.of(), ids(1, 1000), 42L);
+
+        assertEquals(1024, bracket.getSize());
+        assertEquals(10, bracket.getRounds());
+        assertEquals(24, bracket.getByes());
+        Set<Long> drawn = new HashSet<>();
+        for (int position = 0; position < bracket.getSize(); position++) {
+            if (bracket.playerAt(position) != Bracket.BYE) {
+                assertTrue(drawn.add(bracket.playerAt(position)));
+            }
+        }
+        assertEquals(1000, drawn.size());
+    }
+
+    @Test
+    void generate_isReproducibleForTheSameRandomSeed() {
+        Bracket first = BracketGenerator.generate(List.of(), ids(1, 40), 99L);
+        Bracket second = BracketGenerator.generate(List.of(), ids(1, 40), 99L);
+        for (int position = 0; position < first.getSize(); position++) {
+            assertEquals(first.playerAt(position), second.playerAt(position));
+        }
+    }
+
+    @Test
+    void generate_rejectsFieldsSmallerThanTwo() {
+        assertThrows(IllegalArgumentException.class, () -> BracketGenerator.generate(List.of(1L), List.of(), 0L));
+    }
+
+    private static List<Long> ids(long first, int count) {
+        return LongStream.range(first, first + count).boxed().toList();
+    }
+
+    private static int positionOf(Bracket bracket, long playerId) {
+        for (int position = 0; position < bracket.getSize(); position++) {
+            if (bracket.playerAt(position) == playerId) {
+                return position;
+            }
+        }
+        throw new AssertionError("player " + playerId + " not drawn");
+    }
+}
@@ -0,0 +1,199 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.dto.request.GenerateDrawDTO;
+import com.catalin.tennis.dto.response.DrawResponseDTO;
+import com.catalin.tennis.dto.response.DrawSlotDTO;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.exception.DrawAlreadyExistsException;
+import com.catalin.tennis.exception.InvalidDrawException;
+import com.catalin.tennis.model.Registration;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.service.implementations.DrawServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(DrawServiceImpl.class)
+class DrawServiceTest {
+
+    @Autowired
+    private DrawServiceImpl drawService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void generateDraw_persistsFirstRoundMatchesAndAllSlots() {
+        Tournament tournament = persistTournament(16);
+        List<User> players = persistApprovedPlayers(tournament, 11);
+        persistRegistration(persistUser("pending"), tournament, RegistrationStatus.PENDING);
+        entityManager.flush();
+        entityManager.clear();
+
+        DrawResponseDTO draw = drawService.generateDraw(tournament.getId(),
+                new GenerateDrawDTO(List.of(players.get(3).getId()), 5L));
+
+        assertEquals(16, draw.getBracketSize());
+        assertEquals(4, draw.getRounds());
+        assertEquals(11, draw.getEntrants());
+        assertEquals(5, draw.getByes());
+        assertEquals(3, draw.getMatchesCreated());
+
+        List<MatchResponseDTO> matches = matchRepository.findMatchDTOsByTournamentId(tournament.getId());
+        assertEquals(3, matches.size());
+        assertTrue(matches.stream().allMatch(m -> m.getRefereeName() == null && m.getStartDate() == null));
+
+        List<DrawSlotDTO> slots = drawService.getDraw(tournament.getId());
+        assertEquals(31, slots.size());
+        DrawSlotDTO topSeed = slots.get(0);
+        assertEquals(players.get(3).getUsername(), topSeed.getPlayerUsername());
+        assertEquals(1, topSeed.getSeed());
+        assertNull(topSeed.getMatchId());
+        // five byes move five players straight into round two
+        assertEquals(5, slots.stream().filter(s -> s.getRound() == 2 && s.getPlayerUsername() != null).count());
+        assertEquals(6, slots.stream().filter(s -> s.getRound() == 1 && s.getMatchId() != null).count());
+        assertEquals(1, slots.stream().filter(s -> s.getRound() == 5).count());
+    }
+
+    @Test
+    void generateDraw_handlesFullSizeDraw() {
+        Tournament tournament = persistTournament(1024);
+        persistApprovedPlayers(tournament, 1024);
+        entityManager.flush();
+        entityManager.clear();
+
+        DrawResponseDTO draw = drawService.generateDraw(tournament.getId(), null);
+
+        assertEquals(512, draw.getMatchesCreated());
+        assertEquals(512, matchRepository.findByTournament_Id(tournament.getId()).size());
+        assertEquals(2047, drawService.getDraw(tournament.getId()).size());
+    }
+
+    @Test
+    void generateDraw_rejectsSecondDrawAndInvalidFields() {
+        Tournament small = persistTournament(4);
+        persistApprovedPlayers(small, 5);
+        Tournament drawn = persistTournament(8);
+        persistApprovedPlayers(drawn, 4);
+        entityManager.flush();
+
+        assertThrows(InvalidDrawException.class, () -> drawService.generateDraw(small.getId(), null));
+        assertThrows(InvalidDrawException.class,
+                () -> drawService.generateDraw(drawn.getId(), new GenerateDrawDTO(List.of(-1L), null)));
+        drawService.generateDraw(drawn.getId(), null);
+        assertThrows(DrawAlreadyExistsException.class, () -> drawService.generateDraw(drawn.getId(), null));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void generateDraw_concurrentRequests_drawOnlyOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Tournament tournament = new TransactionTemplate(transactionManager).execute(status -> {
+                Tournament created = persistTournament(8);
+                persistApprovedPlayers(created, 8);
+                return created;
+            });
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<DrawResponseDTO> draw = () -> {
+                start.await();
+                return drawService.generateDraw(tournament.getId(), null);
+            };
+            List<Future<DrawResponseDTO>> results = List.of(executor.submit(draw), executor.submit(draw));
+            start.countDown();
+
+            int drawn = 0;
+            int rejected = 0;
+            for (Future<DrawResponseDTO> result : results) {
+                try {
+                    result.get();
+                    drawn++;
+                } catch (ExecutionException ex) {
+                    assertInstanceOf(DrawAlreadyExistsException.class, ex.getCause());
+                    rejected++;
+                }
+            }
+            assertEquals(1, drawn);
+            assertEquals(1, rejected);
+            assertEquals(4, matchRepository.findByTournament_Id(tournament.getId()).size());
+        } finally {
+            executor.shutdownNow();
+            for (String table : List.of("draw_slots", "matches", "registrations", "tournaments", "users")) {
+                jdbcTemplate.update("delete from " + table);
+            }
+        }
+    }
+
+    private List<User> persistApprovedPlayers(Tournament tournament, int count) {
+        List<User> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User player = persistUser(tournament.getName() + "-p" + i);
+            persistRegistration(player, tournament, RegistrationStatus.APPROVED);
+            players.add(player);
+        }
+        return players;
+    }
+
+    private Tournament persistTournament(int maxParticipants) {
+        return entityManager.persist(Tournament.builder()
+                .name("Open " + maxParticipants)
+                .startDate(LocalDate.of(2030, 6, 1))
+                .endDate(LocalDate.of(2030, 6, 14))
+                .registrationDeadline(LocalDate.of(2030, 5, 25))
+                .maxParticipants(maxParticipants)
+                .build());
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void persistRegistration(User player, Tournament tournament, RegistrationStatus status) {
+        entityManager.persist(Registration.builder()
+                .player(player)
+                .tournament(tournament)
+                .registrationDate(LocalDateTime.now())
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.security.JwtKeyring;
+import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(100);
+        User user = new User();
+        user.setUsername("john");
+        user.setRole(UserRoles.REFEREE);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Test
+    void verify_validToken_returnsClaims() {
+        Optional<VerifiedToken> verified = jwtUtil.verify(token);
+
+        assertTrue(verified.isPresent());
+        assertEquals("john", verified.get().getUsername());
+        assertEquals("REFEREE", verified.get().getRole());
+    }
+
+    @Test
+    void verify_repeatedToken_servedFromCache() {
+        jwtUtil.verify(token);
+        jwtUtil.verify(token);
+        jwtUtil.verify(token);
+
+        assertEquals(1, jwtUtil.getVerifiedTokenCacheStats().missCount());
+        assertEquals(2, jwtUtil.getVerifiedTokenCacheStats().hitCount());
+    }
+
+    @Test
+    void verify_tamperedToken_returnsEmpty() {
+        // flip a bit in the middle of the decoded signature; the last base64url characters can carry unused bits
+        int signatureStart = token.lastIndexOf('.') + 1;
+        byte[] signature = Base64.getUrlDecoder().decode(token.substring(signatureStart));
+        signature[signature.length / 2] ^= 1;
+        String tampered = token.substring(0, signatureStart) + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+
+        assertTrue(jwtUtil.verify(tampered).isEmpty());
+        assertFalse(jwtUtil.validateToken(tampered));
+        assertEquals(0, jwtUtil.getVerifiedTokenCacheSize());
+    }
+
+    @Test
+    void verify_tokenFromAnotherKey_returnsEmpty() {
+        User user = new User();
+        user.setUsername("mallory");
+        user.setRole(UserRoles.ADMINISTRATOR);
+        String foreignToken = new JwtUtil().generateToken(user);
+
+        assertTrue(jwtUtil.verify(foreignToken).isEmpty());
+    }
+
+    @Test
+    void getUsernameFromToken_invalidToken_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.getUsernameFromToken("not-a-jwt"));
+    }
+
+    @Test
+    void verify_tokenFromAnotherNodeWithSameKeys_returnsClaims() {
+        String keys = "k1=" + secret('a') + ",k2=" + secret('b') + "@" + Instant.now().plusSeconds(3600);
+        JwtUtil nodeA = new JwtUtil(new JwtKeyring(keys, ""), 100);
+        JwtUtil nodeB = new JwtUtil(new JwtKeyring(keys, ""), 100);
+
+        // k2 is not active yet, so both nodes still sign with k1 but would already accept k2
+        assertEquals("k1", new JwtKeyring(keys, "").signingKey().id());
+        assertEquals(Optional.of("john"), nodeB.verify(nodeA.generateToken(referee())).map(VerifiedToken::getUsername));
+    }
+
+    @Test
+    void reload_rotatesSigningKeyAndForgetsTokensOfRetiredKeys(@TempDir Path dir) throws IOException {
+        Path keyFile = dir.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, "k1=" + secret('a') + "\n");
+        JwtKeyring keyring = new JwtKeyring("", keyFile.toString());
+        JwtUtil node = new JwtUtil(keyring, 100);
+        String oldToken = node.generateToken(referee());
+        assertTrue(node.verify(oldToken).isPresent());
+
+        Files.writeString(keyFile, "k1=" + secret('a') + "\nk2=" + secret('b') + "@" + Instant.now() + "\n");
+        keyring.reload();
+        assertEquals("k2", keyring.signingKey().id());
+        assertTrue(node.verify(oldToken).isPresent());
+        assertEquals(1, node.getVerifiedTokenCacheSize());
+
+        Files.writeString(keyFile, "k2=" + secret('b') + "\n");
+        keyring.reload();
+        assertEquals(0, node.getVerifiedTokenCacheSize());
+        assertTrue(node.verify(oldToken).isEmpty());
+        assertTrue(node.verify(node.generateToken(referee())).isPresent());
+    }
+
+    @Test
+    void keyring_shortSecret_failsAtStartup() {
+        String shortSecret = Base64.getEncoder().encodeToString("too short".getBytes());
+        assertThrows(IllegalStateException.class, () -> new JwtKeyring("k1=" + shortSecret, ""));
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+
+    private static User referee() {
+        User user = new User();
+        user.setUsername("john");
+        user.setRole(UserRoles.REFEREE);
+        return user;
+    }
+}
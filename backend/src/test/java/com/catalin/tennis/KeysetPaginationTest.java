@@ -0,0 +1,183 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.request.PlayerMatchFilterDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.model.*;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.service.implementations.MatchServiceImpl;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.StandingsServiceImpl;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.service.implementations.NotificationServiceImpl;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({MatchServiceImpl.class, StandingsServiceImpl.class, RatingServiceImpl.class, NotificationServiceImpl.class, NotificationCounters.class, TournamentServiceImpl.class, CacheRegistry.class})
+class KeysetPaginationTest {
+
+    @Autowired
+    private MatchServiceImpl matchService;
+
+    @Autowired
+    private NotificationServiceImpl notificationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void notificationPages_coverHistoryOnceInTimestampOrder() {
+        User user = persistUser("john", UserRoles.TENNIS_PLAYER);
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+        for (int i = 0; i < 25; i++) {
+            Notification notification = new Notification();
+            notification.setUser(user);
+            notification.setMessage("message " + i);
+            // pairs of notifications share a timestamp so the id tie-breaker is exercised
+            notification.setTimestamp(base.plusMinutes(i / 2));
+            entityManager.persist(notification);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<NotificationResponseDTO> seen = new ArrayList<>();
+        String token = null;
+        do {
+            KeysetPageDTO<NotificationResponseDTO> page = notificationService.getUserNotificationsPage("john", token, 4);
+            assertTrue(page.getItems().size() <= 4);
+            seen.addAll(page.getItems());
+            token = page.getNextPageToken();
+        } while (token != null);
+
+        assertEquals(25, seen.size());
+        assertEquals(25, seen.stream().map(NotificationResponseDTO::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getTimestamp().isAfter(seen.get(i - 1).getTimestamp()));
+        }
+    }
+
+    @Test
+    void matchPages_coverTournamentOnceWithSets() {
+        User player1 = persistUser("player1", UserRoles.TENNIS_PLAYER);
+        User player2 = persistUser("player2", UserRoles.TENNIS_PLAYER);
+        User referee = persistUser("ref", UserRoles.REFEREE);
+        Tournament tournament = Tournament.builder()
+                .name("Open")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(10))
+                .maxParticipants(64)
+                .build();
+        entityManager.persist(tournament);
+        for (int i = 0; i < 11; i++) {
+            entityManager.persist(Match.builder()
+                    .player1(player1)
+                    .player2(player2)
+                    .referee(referee)
+                    .tournament(tournament)
+                    .courtNumber(1)
+                    .startDate(LocalDateTime.now().plusDays(1).plusHours(i))
+                    .sets(new ArrayList<>(List.of(new SetScore(6, i % 5))))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Set<Long> seen = new HashSet<>();
+        String token = null;
+        do {
+            KeysetPageDTO<MatchResponseDTO> page = matchService.getMatchesByTournamentPage(tournament.getId(), token, 5);
+            for (MatchResponseDTO match : page.getItems()) {
+                assertTrue(seen.add(match.getMatchId()));
+                assertEquals(1, match.getSets().size());
+            }
+            token = page.getNextPageToken();
+        } while (token != null);
+
+        assertEquals(11, seen.size());
+    }
+
+    @Test
+    void playerMatchPages_mergeBothSidesAndSplitUpcomingFromPast() {
+        User anna = persistUser("anna", UserRoles.TENNIS_PLAYER);
+        User bob = persistUser("bob", UserRoles.TENNIS_PLAYER);
+        Tournament tournament = Tournament.builder()
+                .name("Open")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(10))
+                .maxParticipants(64)
+                .build();
+        entityManager.persist(tournament);
+        LocalDateTime base = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(3);
+        for (int i = 0; i < 12; i++) {
+            // anna alternates sides and pairs of matches share a start date, so the merge has to break ties on id
+            entityManager.persist(Match.builder()
+                    .player1(i % 2 == 0 ? anna : bob)
+                    .player2(i % 2 == 0 ? bob : anna)
+                    .tournament(tournament)
+                    .startDate(base.plusDays(i / 2))
+                    .sets(new ArrayList<>(List.of(new SetScore(6, i % 5))))
+                    .build());
+        }
+        entityManager.persist(Match.builder().player1(anna).player2(bob).tournament(tournament).sets(new ArrayList<>()).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MatchResponseDTO> past = playerPages(new PlayerMatchFilterDTO(null, null, false));
+        List<MatchResponseDTO> upcoming = playerPages(new PlayerMatchFilterDTO(null, null, true));
+        List<MatchResponseDTO> window = playerPages(new PlayerMatchFilterDTO(base.plusDays(1), null, false));
+
+        assertEquals(8, past.size());
+        assertEquals(4, upcoming.size());
+        assertEquals(6, window.size());
+        Comparator<MatchResponseDTO> byStart = Comparator.comparing(MatchResponseDTO::getStartDate)
+                .thenComparing(MatchResponseDTO::getMatchId);
+        for (int i = 1; i < past.size(); i++) {
+            assertTrue(byStart.compare(past.get(i - 1), past.get(i)) > 0);
+        }
+        for (int i = 1; i < upcoming.size(); i++) {
+            assertTrue(byStart.compare(upcoming.get(i - 1), upcoming.get(i)) < 0);
+        }
+        assertTrue(past.stream().allMatch(m -> m.getSets().size() == 1));
+        assertEquals(matchService.getMatchesByPlayer("anna").size(), past.size() + upcoming.size() + 1);
+    }
+
+    private List<MatchResponseDTO> playerPages(PlayerMatchFilterDTO filters) {
+        List<MatchResponseDTO> seen = new ArrayList<>();
+        String token = null;
+        do {
+            KeysetPageDTO<MatchResponseDTO> page = matchService.getMatchesByPlayerPage("anna", filters, token, 3);
+            assertTrue(page.getItems().size() <= 3);
+            seen.addAll(page.getItems());
+            token = page.getNextPageToken();
+        } while (token != null);
+        return seen;
+    }
+
+    private User persistUser(String username, UserRoles role) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
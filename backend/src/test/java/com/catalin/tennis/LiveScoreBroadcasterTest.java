@@ -0,0 +1,92 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.exception.LiveChannelFullException;
+import com.catalin.tennis.live.LiveScoreBroadcaster;
+import com.catalin.tennis.live.LiveSubscriberRegistry;
+import com.catalin.tennis.live.MatchScoreUpdatedEvent;
+import com.catalin.tennis.model.SetScore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveScoreBroadcasterTest {
+
+    private LiveScoreBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LiveScoreBroadcaster(2, 4, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_overCapacity_throwsException() {
+        broadcaster.subscribeToTournament(1L);
+        broadcaster.subscribeToMatch(7L);
+
+        assertEquals(2, broadcaster.getConnectionCount());
+        assertThrows(LiveChannelFullException.class, () -> broadcaster.subscribeToTournament(1L));
+        assertEquals(2, broadcaster.getConnectionCount());
+    }
+
+    @Test
+    void onScoreUpdated_withSubscribers_doesNotThrow() {
+        SseEmitter emitter = broadcaster.subscribeToTournament(1L);
+
+        assertNotNull(emitter);
+        assertDoesNotThrow(() -> broadcaster.onScoreUpdated(
+                new MatchScoreUpdatedEvent(7L, 1L, List.of(new SetScore(6, 4)))));
+        assertDoesNotThrow(() -> broadcaster.sendHeartbeats());
+    }
+
+    @Test
+    void registry_concurrentSubscribeAndUnsubscribe_neverLosesASubscriber() throws Exception {
+        LiveSubscriberRegistry<Object> registry = new LiveSubscriberRegistry<>();
+        ExecutorService threads = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            // every thread keeps subscribing and leaving, so the key's set is emptied and dropped all the time;
+            // a subscriber must still be reachable through the registry as soon as it is added
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(threads.submit(() -> {
+                    start.await();
+                    int lost = 0;
+                    for (int i = 0; i < 20_000; i++) {
+                        Object spectator = new Object();
+                        registry.add(1L, spectator);
+                        Set<Object> registered = registry.get(1L);
+                        if (registered == null || !registered.contains(spectator)) {
+                            lost++;
+                        }
+                        assertTrue(registry.remove(1L, spectator));
+                        assertFalse(registry.remove(1L, spectator));
+                    }
+                    return lost;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertEquals(0, result.get());
+            }
+            assertNull(registry.get(1L));
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+}
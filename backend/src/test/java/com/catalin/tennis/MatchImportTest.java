@@ -0,0 +1,214 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.projection.MatchSetRow;
+import com.catalin.tennis.dto.response.MatchImportErrorDTO;
+import com.catalin.tennis.dto.response.MatchImportResultDTO;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.dto.response.PlayerStandingDTO;
+import com.catalin.tennis.exception.InvalidImportException;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.implementations.MatchImportServiceImpl;
+import com.catalin.tennis.service.implementations.MatchServiceImpl;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.StandingsServiceImpl;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({StandingsServiceImpl.class, RatingServiceImpl.class, MatchServiceImpl.class, TournamentServiceImpl.class,
+        CacheRegistry.class})
+class MatchImportTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private StandingsServiceImpl standingsService;
+
+    @Autowired
+    private RatingServiceImpl ratingService;
+
+    @Autowired
+    private MatchServiceImpl matchService;
+
+    private MatchImportServiceImpl importService;
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        // a batch size of 2 makes every import below span several chunks
+        importService = new MatchImportServiceImpl(userRepository, tournamentRepository, jdbcTemplate,
+                standingsService, ratingService, new ObjectMapper().findAndRegisterModules(), 2);
+        persistUser("john", UserRoles.TENNIS_PLAYER);
+        persistUser("mike", UserRoles.TENNIS_PLAYER);
+        persistUser("anna", UserRoles.TENNIS_PLAYER);
+        persistUser("ref", UserRoles.REFEREE);
+        tournament = entityManager.persist(Tournament.builder()
+                .name("Open")
+                .startDate(LocalDate.of(2030, 6, 1))
+                .endDate(LocalDate.of(2030, 6, 14))
+                .maxParticipants(64)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void importCsv_insertsValidRowsWithSetsAndReportsTheRest() {
+        long id = tournament.getId();
+        String csv = String.join("\n",
+                "tournamentId,player1,player2,referee,court,startDate,sets",
+                id + ",john,mike,ref,1,2030-06-01T10:00,6-4 | 3-6 | 7-5",
+                id + ",anna,john,,,,",
+                id + ",john,ghost,ref,1,2030-06-01T12:00,",
+                "",
+                id + ",mike,mike,ref,2,2030-06-01T12:00,",
+                id + ",anna,mike,ref,2,tomorrow,",
+                id + ",mike,anna,ref,3,2030-06-02T10:00,6-0");
+
+        MatchImportResultDTO result = importService.importCsv(new StringReader(csv));
+
+        assertEquals(3, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(4, 6, 7), result.getErrors().stream().map(MatchImportErrorDTO::getLine).toList());
+        assertEquals("Unknown user 'ghost'", result.getErrors().get(0).getMessage());
+
+        List<MatchResponseDTO> matches = matchRepository.findMatchDTOsByTournamentId(id);
+        assertEquals(3, matches.size());
+        MatchResponseDTO unscheduled = matches.stream().filter(m -> m.getPlayer1Name().equals("anna")).findFirst().orElseThrow();
+        assertNull(unscheduled.getRefereeName());
+        assertNull(unscheduled.getStartDate());
+
+        List<MatchSetRow> sets = matchRepository.findSetRowsByTournamentId(id);
+        assertEquals(4, sets.size());
+        // sets come back in the order they were played
+        assertEquals(List.of("6-4", "3-6", "7-5"), sets.subList(0, 3).stream()
+                .map(set -> set.getPlayer1Games() + "-" + set.getPlayer2Games()).toList());
+
+        // john won his three-set match; mike and anna have played one set so far
+        PlayerStandingDTO john = standingsService.getPlayerStandings("john").get(0);
+        assertEquals(1, john.getWins());
+        assertEquals(16, john.getGamesWon());
+        assertEquals(0, standingsService.getPlayerStandings("anna").get(0).getMatchesPlayed());
+    }
+
+    @Test
+    void importNdjson_insertsValidRowsAndReportsMalformedOnes() {
+        long id = tournament.getId();
+        String ndjson = String.join("\n",
+                "{\"player1Username\":\"john\",\"player2Username\":\"mike\",\"refereeUsername\":\"ref\",\"tournamentId\":" + id
+                        + ",\"courtNumber\":4,\"startDate\":\"2030-06-03T10:00:00\",\"sets\":[{\"player1Games\":6,\"player2Games\":2}]}",
+                "{\"player1Username\":\"john\",",
+                "{\"player1Username\":\"john\",\"player2Username\":\"anna\",\"tournamentId\":999}");
+
+        MatchImportResultDTO result = importService.importNdjson(new StringReader(ndjson));
+
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertEquals("Unknown tournament 999", result.getErrors().get(1).getMessage());
+        MatchResponseDTO match = matchRepository.findMatchDTOsByTournamentId(id).get(0);
+        assertEquals(LocalDateTime.of(2030, 6, 3, 10, 0), match.getStartDate());
+        assertEquals(1, matchRepository.findSetRowsByTournamentId(id).size());
+    }
+
+    @Test
+    void importCsv_withoutRequiredColumns_throwsException() {
+        assertThrows(InvalidImportException.class,
+                () -> importService.importCsv(new StringReader("player1,player2\njohn,mike")));
+    }
+
+    @Test
+    void importCsv_readsBackAnExportWithQuotedNames() {
+        persistUser("o\"neil, jr", UserRoles.TENNIS_PLAYER);
+        persistUser("smith, j", UserRoles.REFEREE);
+        Tournament copy = entityManager.persist(Tournament.builder()
+                .name("Open, copy")
+                .startDate(LocalDate.of(2030, 7, 1))
+                .endDate(LocalDate.of(2030, 7, 14))
+                .maxParticipants(64)
+                .build());
+        entityManager.flush();
+        importService.importNdjson(new StringReader("{\"player1Username\":\"o\\\"neil, jr\",\"player2Username\":\"mike\","
+                + "\"refereeUsername\":\"smith, j\",\"tournamentId\":" + tournament.getId() + ",\"courtNumber\":2,"
+                + "\"startDate\":\"2030-06-03T10:00:00\",\"sets\":[{\"player1Games\":3,\"player2Games\":6},"
+                + "{\"player1Games\":6,\"player2Games\":4},{\"player1Games\":7,\"player2Games\":5}]}"));
+
+        String export = new String(matchService.exportMatchesToCsvByTournament(tournament.getId()), StandardCharsets.UTF_8);
+        assertTrue(export.contains("\"o\"\"neil, jr\""));
+        // the export is per tournament; naming the target tournament is all it takes to import it again
+        String csv = export.lines()
+                .map(line -> line + "," + (line.startsWith("Match ID") ? "Tournament ID" : copy.getId()))
+                .collect(Collectors.joining("\n"));
+        MatchImportResultDTO result = importService.importCsv(new StringReader(csv));
+
+        assertEquals(1, result.getImported());
+        assertEquals(0, result.getRejected());
+        MatchResponseDTO match = matchRepository.findMatchDTOsByTournamentId(copy.getId()).get(0);
+        assertEquals("o\"neil, jr", match.getPlayer1Name());
+        assertEquals("mike", match.getPlayer2Name());
+        assertEquals("smith, j", match.getRefereeName());
+        assertEquals(2, match.getCourtNumber());
+        assertEquals(LocalDateTime.of(2030, 6, 3, 10, 0), match.getStartDate());
+        assertEquals(List.of("3-6", "6-4", "7-5"), matchRepository.findSetRowsByTournamentId(copy.getId()).stream()
+                .map(set -> set.getPlayer1Games() + "-" + set.getPlayer2Games()).toList());
+    }
+
+    @Test
+    void importCsv_malformedQuoting_rejectsTheLine() {
+        long id = tournament.getId();
+        String csv = String.join("\n",
+                "player1,player2,tournamentId",
+                "\"john,mike," + id,
+                "\"john\"x,mike," + id,
+                "\"john\" ,\"mi\"\"ke\"," + id);
+
+        MatchImportResultDTO result = importService.importCsv(new StringReader(csv));
+
+        assertEquals(List.of("Malformed CSV: unterminated quote in column 1",
+                        "Malformed CSV: text after the closing quote in column 1", "Unknown user 'mi\"ke'"),
+                result.getErrors().stream().map(MatchImportErrorDTO::getMessage).toList());
+    }
+
+    private User persistUser(String username, UserRoles role) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
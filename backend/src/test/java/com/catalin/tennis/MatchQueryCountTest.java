@@ -0,0 +1,157 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.request.CreateMatchDTO;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.model.*;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.service.implementations.MatchServiceImpl;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.StandingsServiceImpl;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({MatchServiceImpl.class, StandingsServiceImpl.class, RatingServiceImpl.class, TournamentServiceImpl.class, CacheRegistry.class})
+class MatchQueryCountTest {
+
+    @Autowired
+    private MatchServiceImpl matchService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User player1;
+    private User referee;
+    private Tournament tournament;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 40})
+    void getMatchesByTournament_usesTwoStatements(int matchCount) {
+        createMatches(matchCount);
+        Statistics statistics = resetStatistics();
+
+        List<MatchResponseDTO> matches = matchService.getMatchesByTournament(tournament.getId());
+
+        assertEquals(matchCount, matches.size());
+        assertEquals(2, matches.get(0).getSets().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 40})
+    void getMatchesByPlayer_usesFourStatements(int matchCount) {
+        createMatches(matchCount);
+        Statistics statistics = resetStatistics();
+
+        List<MatchResponseDTO> matches = matchService.getMatchesByPlayer(player1.getUsername());
+
+        assertEquals(matchCount, matches.size());
+        // the user, one indexed lookup per side of the pairing, and the sets
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 40})
+    void getMatchesByRefereeUsername_usesThreeStatements(int matchCount) {
+        createMatches(matchCount);
+        Statistics statistics = resetStatistics();
+
+        List<MatchResponseDTO> matches = matchService.getMatchesByRefereeUsername(referee.getUsername());
+
+        assertEquals(matchCount, matches.size());
+        assertEquals("ref", matches.get(0).getRefereeName());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createMatch_resolvesUsersAndTournamentChecksForDuplicatesAndInserts() {
+        createMatches(0);
+        User opponent = persistUser("opponent", UserRoles.TENNIS_PLAYER);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = resetStatistics();
+
+        CreateMatchDTO dto = new CreateMatchDTO();
+        dto.setPlayer1Username(player1.getUsername());
+        dto.setPlayer2Username(opponent.getUsername());
+        dto.setRefereeUsername(referee.getUsername());
+        dto.setTournamentId(tournament.getId());
+        dto.setCourtNumber(1);
+        dto.setStartDate(LocalDateTime.now().plusDays(2));
+        dto.setSets(new ArrayList<>());
+
+        MatchResponseDTO response = matchService.createMatch(dto);
+        entityManager.flush();
+
+        assertNotNull(response.getMatchId());
+        assertEquals("Open", response.getTournamentName());
+        assertEquals(opponent.getId(), response.getPlayer2Id());
+        // the three users in one IN query, the tournament by id, the duplicate check and the insert
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    private void createMatches(int count) {
+        player1 = persistUser("player1", UserRoles.TENNIS_PLAYER);
+        referee = persistUser("ref", UserRoles.REFEREE);
+        tournament = Tournament.builder()
+                .name("Open")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(10))
+                .maxParticipants(64)
+                .build();
+        entityManager.persist(tournament);
+
+        for (int i = 0; i < count; i++) {
+            User opponent = persistUser("opponent" + i, UserRoles.TENNIS_PLAYER);
+            Match match = Match.builder()
+                    .player1(player1)
+                    .player2(opponent)
+                    .referee(referee)
+                    .tournament(tournament)
+                    .courtNumber(1 + i % 4)
+                    .startDate(LocalDateTime.now().plusDays(1).plusHours(i))
+                    .sets(new ArrayList<>(List.of(new SetScore(6, 4), new SetScore(7, 5))))
+                    .build();
+            entityManager.persist(match);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User persistUser(String username, UserRoles role) {
+        User user = User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .build();
+        return entityManager.persist(user);
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
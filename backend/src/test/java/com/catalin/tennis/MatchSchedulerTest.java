@@ -0,0 +1,111 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.engine.MatchScheduler;
+import com.catalin.tennis.engine.Schedule;
+import com.catalin.tennis.engine.SchedulingProblem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchSchedulerTest {
+
+    private static final LocalDateTime DAY_ONE = LocalDateTime.of(2030, 6, 1, 10, 0);
+    private static final Duration MATCH = Duration.ofMinutes(120);
+    private static final Duration REST = Duration.ofMinutes(60);
+
+    @Test
+    void solve_respectsPlayerRefereeCourtAndRestConstraints() {
+        SchedulingProblem problem = new SchedulingProblem(slots(5, 6), MATCH, REST, 6, List.of(900L, 901L, 902L, 903L, 904L));
+        Map<Long, long[]> players = new HashMap<>();
+        // 60 players, each in four matches
+        long matchId = 1;
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < 30; i++) {
+                long p1 = 2 * i;
+                long p2 = (2 * i + 1 + 2L * round * 3) % 60;
+                if (p1 == p2) {
+                    p2 = (p2 + 1) % 60;
+                }
+                problem.addMatch(matchId, p1, p2);
+                players.put(matchId++, new long[]{p1, p2});
+            }
+        }
+
+        Schedule schedule = new MatchScheduler(8).solve(problem);
+
+        assertTrue(schedule.getUnscheduledMatchIds().isEmpty());
+        assertEquals(120, schedule.getAssignments().size());
+        Set<String> courtSlots = new HashSet<>();
+        Set<String> refereeSlots = new HashSet<>();
+        Map<Long, List<LocalDateTime>> playerStarts = new HashMap<>();
+        for (Schedule.Assignment a : schedule.getAssignments()) {
+            assertTrue(courtSlots.add(a.getCourt() + "@" + a.getStart()), "court double-booked");
+            assertTrue(refereeSlots.add(a.getRefereeId() + "@" + a.getStart()), "referee double-booked");
+            for (long player : players.get(a.getMatchId())) {
+                playerStarts.computeIfAbsent(player, p -> new ArrayList<>()).add(a.getStart());
+            }
+        }
+        for (List<LocalDateTime> starts : playerStarts.values()) {
+            Collections.sort(starts);
+            for (int i = 1; i < starts.size(); i++) {
+                assertFalse(starts.get(i).isBefore(starts.get(i - 1).plus(MATCH).plus(REST)), "player rest violated");
+            }
+        }
+    }
+
+    @Test
+    void solve_keepsClearOfFixedMatches() {
+        SchedulingProblem problem = new SchedulingProblem(slots(1, 4), MATCH, REST, 1, List.of(900L, 901L));
+        problem.addMatch(1L, 10L, 11L);
+        // the only court is taken in the first slot, player 10 plays in the second and needs rest in the third
+        problem.addFixedMatch(20L, 21L, 900L, 1, DAY_ONE);
+        problem.addFixedMatch(10L, 30L, 901L, null, DAY_ONE.plusHours(2));
+
+        Schedule schedule = new MatchScheduler(4).solve(problem);
+
+        assertEquals(1, schedule.getAssignments().size());
+        assertEquals(DAY_ONE.plusHours(6), schedule.getAssignments().get(0).getStart());
+    }
+
+    @Test
+    void solve_reportsMatchesThatDoNotFit() {
+        SchedulingProblem problem = new SchedulingProblem(slots(1, 2), MATCH, REST, 1, List.of(900L));
+        for (long m = 1; m <= 3; m++) {
+            problem.addMatch(m, 10 * m, 10 * m + 1);
+        }
+
+        Schedule schedule = new MatchScheduler(4).solve(problem);
+
+        assertEquals(2, schedule.getAssignments().size());
+        assertEquals(1, schedule.getUnscheduledMatchIds().size());
+    }
+
+    @Test
+    void solve_isDeterministic() {
+        SchedulingProblem problem = new SchedulingProblem(slots(3, 4), MATCH, REST, 3, List.of(900L, 901L, 902L));
+        for (long m = 1; m <= 30; m++) {
+            problem.addMatch(m, m % 12, (m * 5 + 1) % 12 == m % 12 ? 99 : (m * 5 + 1) % 12);
+        }
+        Schedule first = new MatchScheduler(8).solve(problem);
+        Schedule second = new MatchScheduler(8).solve(problem);
+        assertEquals(first.getAssignments().size(), second.getAssignments().size());
+        for (int i = 0; i < first.getAssignments().size(); i++) {
+            assertEquals(first.getAssignments().get(i).getMatchId(), second.getAssignments().get(i).getMatchId());
+            assertEquals(first.getAssignments().get(i).getRefereeId(), second.getAssignments().get(i).getRefereeId());
+        }
+    }
+
+    private static List<LocalDateTime> slots(int days, int perDay) {
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (int d = 0; d < days; d++) {
+            for (int s = 0; s < perDay; s++) {
+                slots.add(DAY_ONE.plusDays(d).plus(MATCH.multipliedBy(s)));
+            }
+        }
+        return slots;
+    }
+}
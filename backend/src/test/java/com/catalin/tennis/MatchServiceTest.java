@@ -1,23 +1,38 @@
 package com.catalin.tennis;
 
+import com.catalin.tennis.dto.projection.MatchExportRow;
+import com.catalin.tennis.dto.projection.UsernameIdRow;
 import com.catalin.tennis.dto.request.CreateMatchDTO;
 import com.catalin.tennis.dto.request.UpdateScoreDTO;
 import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.dto.response.TournamentResponseDTO;
+import com.catalin.tennis.engine.MatchTally;
+import com.catalin.tennis.engine.StandingsDelta;
+import com.catalin.tennis.exception.InvalidMatchException;
 import com.catalin.tennis.exception.MatchAlreadyExistsException;
 import com.catalin.tennis.exception.MatchNotFoundException;
+import com.catalin.tennis.exception.TournamentNotFoundException;
 import com.catalin.tennis.exception.UserNotFoundException;
+import com.catalin.tennis.live.MatchScoreUpdatedEvent;
 import com.catalin.tennis.model.Match;
+import com.catalin.tennis.model.SetScore;
 import com.catalin.tennis.model.Tournament;
 import com.catalin.tennis.model.User;
 import com.catalin.tennis.repository.MatchRepository;
 import com.catalin.tennis.repository.TournamentRepository;
 import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.StandingsService;
+import com.catalin.tennis.service.TournamentService;
 import com.catalin.tennis.service.implementations.MatchServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,43 +48,74 @@ class MatchServiceTest {
     @Mock
     private TournamentRepository tournamentRepository;
 
+    @Mock
+    private TournamentService tournamentService;
+
+    @Mock
+    private StandingsService standingsService;
+
+    @Mock
+    private RatingService ratingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MatchServiceImpl matchService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(standingsService.newDelta()).thenAnswer(i -> new StandingsDelta(2));
     }
 
     @Test
     void createMatch_success() {
-        CreateMatchDTO dto = new CreateMatchDTO();
-        dto.setPlayer1Id(1L);
-        dto.setPlayer2Id(2L);
-        dto.setRefereeId(3L);
-        dto.setTournamentId(4L);
-        dto.setStartDate(LocalDateTime.now());
+        CreateMatchDTO dto = newMatchDTO();
 
         when(matchRepository.existsByPlayer1_IdAndPlayer2_IdAndReferee_IdAndTournament_IdAndStartDate(
                 anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(false);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(new User()));
-        when(userRepository.findById(2L)).thenReturn(Optional.of(new User()));
-        when(userRepository.findById(3L)).thenReturn(Optional.of(new User()));
-        when(tournamentRepository.findById(4L)).thenReturn(Optional.of(new Tournament()));
+        when(tournamentService.getTournamentById(4L)).thenReturn(tournamentDTO(4L, "Open"));
+        when(userRepository.getReferenceById(1L)).thenReturn(new User());
+        when(userRepository.getReferenceById(2L)).thenReturn(new User());
+        when(userRepository.getReferenceById(3L)).thenReturn(new User());
+        when(tournamentRepository.getReferenceById(4L)).thenReturn(new Tournament());
         when(matchRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
 
         MatchResponseDTO response = matchService.createMatch(dto);
-        assertNotNull(response);
+
+        assertEquals("john", response.getPlayer1Name());
+        assertEquals(2L, response.getPlayer2Id());
+        assertEquals("ref", response.getRefereeName());
+        assertEquals("Open", response.getTournamentName());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void createMatch_deletedUser_throwsUserNotFound() {
+        CreateMatchDTO dto = newMatchDTO();
+        // mike was deleted after another node cached his id
+        when(userRepository.findIdsByUsernameIn(any())).thenReturn(List.of(
+                new UsernameIdRow("john", 1L), new UsernameIdRow("ref", 3L)));
+
+        UserNotFoundException ex = assertThrows(UserNotFoundException.class, () -> matchService.createMatch(dto));
+        assertTrue(ex.getMessage().contains("mike"));
+        verify(matchRepository, never()).save(any());
+    }
+
+    @Test
+    void createMatch_unknownTournament_throwsException() {
+        CreateMatchDTO dto = newMatchDTO();
+
+        when(tournamentService.getTournamentById(4L)).thenThrow(new TournamentNotFoundException("Tournament not found"));
+
+        assertThrows(TournamentNotFoundException.class, () -> matchService.createMatch(dto));
+        verify(matchRepository, never()).save(any());
     }
 
     @Test
     void createMatch_alreadyExists_throwsException() {
-        CreateMatchDTO dto = new CreateMatchDTO();
-        dto.setPlayer1Id(1L);
-        dto.setPlayer2Id(2L);
-        dto.setRefereeId(3L);
-        dto.setTournamentId(4L);
-        dto.setStartDate(LocalDateTime.now());
+        CreateMatchDTO dto = newMatchDTO();
 
         when(matchRepository.existsByPlayer1_IdAndPlayer2_IdAndReferee_IdAndTournament_IdAndStartDate(
                 anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(true);
@@ -77,17 +123,105 @@ class MatchServiceTest {
         assertThrows(MatchAlreadyExistsException.class, () -> matchService.createMatch(dto));
     }
 
+    @Test
+    void createMatch_samePlayerOnBothSides_throwsInvalidMatch() {
+        CreateMatchDTO dto = newMatchDTO();
+        dto.setPlayer2Username("john");
+
+        assertFalse(dto.isPlayersDistinct());
+        assertThrows(InvalidMatchException.class, () -> matchService.createMatch(dto));
+        verify(userRepository, never()).findIdsByUsernameIn(any());
+        verify(matchRepository, never()).save(any());
+    }
+
+    @Test
+    void getMatchesByPlayer_matchOnBothSides_isReturnedOnce() {
+        User john = new User();
+        john.setId(1L);
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 10, 0);
+        when(userRepository.findByUsername("john")).thenReturn(Optional.of(john));
+        when(matchRepository.findMatchDTOsByPlayer1Id(1L)).thenReturn(List.of(
+                new MatchResponseDTO(5L, 1L, "john", 1L, "john", "ref", "Open", 1, start),
+                new MatchResponseDTO(6L, 1L, "john", 2L, "mike", "ref", "Open", 1, start)));
+        when(matchRepository.findMatchDTOsByPlayer2Id(1L)).thenReturn(List.of(
+                new MatchResponseDTO(5L, 1L, "john", 1L, "john", "ref", "Open", 1, start)));
+
+        List<MatchResponseDTO> matches = matchService.getMatchesByPlayer("john");
+
+        assertEquals(List.of(5L, 6L), matches.stream().map(MatchResponseDTO::getMatchId).toList());
+    }
+
+    private CreateMatchDTO newMatchDTO() {
+        CreateMatchDTO dto = new CreateMatchDTO();
+        dto.setTournamentId(4L);
+        dto.setPlayer1Username("john");
+        dto.setPlayer2Username("mike");
+        dto.setRefereeUsername("ref");
+        dto.setStartDate(LocalDateTime.now());
+        when(userRepository.findIdsByUsernameIn(any())).thenReturn(List.of(new UsernameIdRow("john", 1L),
+                new UsernameIdRow("mike", 2L), new UsernameIdRow("ref", 3L)));
+        return dto;
+    }
+
+
+    @Test
+    void updateScore_success_publishesOnlyTheChangedMatch() {
+        Tournament tournament = new Tournament();
+        tournament.setId(4L);
+        Match match = new Match();
+        match.setId(1L);
+        match.setTournament(tournament);
+        match.setPlayer1(userWithId(10L));
+        match.setPlayer2(userWithId(11L));
+        match.setReferee(userWithId(12L));
+
+        UpdateScoreDTO dto = new UpdateScoreDTO(1L, List.of(new SetScore(6, 3)));
+        when(matchRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(match));
+
+        matchService.updateScore(dto);
+
+        ArgumentCaptor<MatchScoreUpdatedEvent> event = ArgumentCaptor.forClass(MatchScoreUpdatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1L, event.getValue().getMatchId());
+        assertEquals(4L, event.getValue().getTournamentId());
+        assertEquals(1, event.getValue().getSets().size());
+    }
 
     @Test
     void updateScore_notFound_throwsException() {
         UpdateScoreDTO dto = new UpdateScoreDTO();
         dto.setMatchId(1L);
 
-        when(matchRepository.findById(1L)).thenReturn(Optional.empty());
+        when(matchRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
 
         assertThrows(MatchNotFoundException.class, () -> matchService.updateScore(dto));
     }
 
+    @Test
+    void updateScore_appliesOnlyTheChangeToStandings() {
+        Tournament tournament = new Tournament();
+        tournament.setId(4L);
+        Match match = new Match();
+        match.setId(1L);
+        match.setTournament(tournament);
+        match.setPlayer1(userWithId(10L));
+        match.setPlayer2(userWithId(11L));
+        match.setSets(new ArrayList<>(List.of(new SetScore(6, 4), new SetScore(3, 5))));
+        when(matchRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(match));
+
+        matchService.updateScore(new UpdateScoreDTO(1L, List.of(new SetScore(6, 4), new SetScore(3, 6), new SetScore(4, 6))));
+
+        ArgumentCaptor<StandingsDelta> delta = ArgumentCaptor.forClass(StandingsDelta.class);
+        verify(standingsService).apply(delta.capture());
+        List<StandingsDelta.Change> changes = delta.getValue().getChanges();
+        assertEquals(2, changes.size());
+        // the third set decides the match for player 2; the second set only gained a game
+        assertEquals(new MatchTally(1, 0, 1, 0, 1, 4, 7), changes.get(0).getTally());
+        assertEquals(10L, changes.get(0).getPlayerId());
+        assertEquals(new MatchTally(1, 1, 0, 1, 0, 7, 4), changes.get(1).getTally());
+        verify(ratingService).recordResult(eq(1L), eq(10L), eq(11L), anyList(), anyList());
+    }
+
     @Test
     void getMatchesByRefereeUsername_userNotFound_throwsException() {
         when(userRepository.findByUsername("ref")).thenReturn(Optional.empty());
@@ -99,4 +233,33 @@ class MatchServiceTest {
         when(userRepository.findByUsername("player")).thenReturn(Optional.empty());
         assertThrows(UserNotFoundException.class, () -> matchService.getMatchesByPlayer("player"));
     }
+
+    @Test
+    void exportMatchesToCsvByTournament_foldsSetRowsIntoOneLine() {
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 10, 0);
+        when(matchRepository.streamExportRowsByTournamentId(4L)).thenReturn(Stream.of(
+                new MatchExportRow(1L, "john", "mike", "ref", 2, start, 6, 4),
+                new MatchExportRow(1L, "john", "mike", "ref", 2, start, 3, 6),
+                new MatchExportRow(2L, "anna", "maria", "ref", 1, start, null, null)
+        ));
+
+        String csv = new String(matchService.exportMatchesToCsvByTournament(4L), StandardCharsets.UTF_8);
+
+        assertEquals("Match ID,Player 1,Player 2,Referee,Court,Start Date,Set Scores\n" +
+                "1,john,mike,ref,2,2030-06-01T10:00,6-4 | 3-6\n" +
+                "2,anna,maria,ref,1,2030-06-01T10:00,\n", csv);
+    }
+
+    private static User userWithId(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static TournamentResponseDTO tournamentDTO(Long id, String name) {
+        TournamentResponseDTO dto = new TournamentResponseDTO();
+        dto.setId(id);
+        dto.setName(name);
+        return dto;
+    }
 }
@@ -0,0 +1,68 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// metrics export is off in tests unless asked for
+@AutoConfigureObservability(tracing = false)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void prometheus_isAdminOnlyAndExposesEndpointQueryPoolHibernateAndCacheMeters() {
+        assertEquals(HttpStatus.FORBIDDEN, scrape(null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, scrape(token(UserRoles.TENNIS_PLAYER)).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health", String.class).getStatusCode());
+
+        userRepository.findByUsername("nobody");
+        String adminToken = token(UserRoles.ADMINISTRATOR);
+        scrape(adminToken);
+        ResponseEntity<String> response = scrape(adminToken);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String metrics = response.getBody();
+        assertNotNull(metrics);
+        assertTrue(metrics.contains("http_server_requests_seconds_bucket{application=\"Tennis Match\""));
+        assertTrue(metrics.contains("uri=\"/actuator/prometheus\""));
+        assertTrue(metrics.contains("spring_data_repository_invocations_seconds_bucket"));
+        assertTrue(metrics.contains("method=\"findByUsername\""));
+        assertTrue(metrics.contains("hikaricp_connections_pending"));
+        assertTrue(metrics.contains("hibernate_statements_total"));
+        assertTrue(metrics.contains("cache_gets_total{application=\"Tennis Match\",cache=\"jwt.verified-tokens\""));
+    }
+
+    private ResponseEntity<String> scrape(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return restTemplate.exchange("/actuator/prometheus", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private String token(UserRoles role) {
+        return jwtUtil.generateToken(User.builder().username("metrics").role(role).build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.model.Notification;
+import com.catalin.tennis.model.NotificationOutbox;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.notification.NotificationOutboxWriter;
+import com.catalin.tennis.repository.NotificationOutboxRepository;
+import com.catalin.tennis.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({NotificationOutboxWriter.class, NotificationCounters.class})
+@TestPropertySource(properties = "notifications.outbox.batch-size=3")
+class NotificationOutboxWriterTest {
+
+    @Autowired
+    private NotificationOutboxWriter writer;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void drain_writesEveryQueuedNotificationAcrossBatchesAndEmptiesOutbox() {
+        User john = persistUser("john");
+        LocalDateTime queuedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            entityManager.persist(new NotificationOutbox(john.getId(), "message " + i, queuedAt.plusMinutes(i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        writer.drain();
+
+        assertEquals(0, outboxRepository.count());
+        List<Notification> written = notificationRepository.findByUserUsernameOrderByTimestampDesc("john");
+        assertEquals(7, written.size());
+        assertEquals("message 6", written.get(0).getMessage());
+        assertEquals(queuedAt.plusMinutes(6), written.get(0).getTimestamp());
+        assertFalse(written.get(0).isRead());
+    }
+
+    @Test
+    void drain_dropsNotificationsForDeletedUsers() {
+        User john = persistUser("john");
+        entityManager.persist(new NotificationOutbox(john.getId(), "kept", LocalDateTime.now()));
+        entityManager.persist(new NotificationOutbox(john.getId() + 1000, "orphan", LocalDateTime.now()));
+        entityManager.flush();
+        entityManager.clear();
+
+        writer.drain();
+
+        assertEquals(0, outboxRepository.count());
+        assertEquals(1, notificationRepository.count());
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
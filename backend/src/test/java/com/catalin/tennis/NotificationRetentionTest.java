@@ -0,0 +1,97 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.model.Notification;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.notification.NotificationRetentionJob;
+import com.catalin.tennis.service.implementations.NotificationServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// a chunk size of 2 makes the job below run several chunks
+@DataJpaTest(properties = {"notifications.retention.days=30", "notifications.retention.chunk-size=2"})
+@Import({NotificationRetentionJob.class, NotificationServiceImpl.class, NotificationCounters.class})
+class NotificationRetentionTest {
+
+    @Autowired
+    private NotificationRetentionJob retentionJob;
+
+    @Autowired
+    private NotificationServiceImpl notificationService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void archive_movesOnlyOldReadNotificationsAndKeepsThemSearchable() {
+        User john = persistUser("john");
+        User mary = persistUser("mary");
+        LocalDateTime old = LocalDateTime.now().minusDays(60);
+        for (int i = 0; i < 5; i++) {
+            persistNotification(john, "match " + i + " scheduled", old.plusMinutes(i), true);
+        }
+        persistNotification(john, "registration approved", old.plusMinutes(10), true);
+        persistNotification(john, "old but unread", old, false);
+        persistNotification(john, "recent", LocalDateTime.now().minusDays(1), true);
+        persistNotification(mary, "match 9 scheduled", old, true);
+        entityManager.flush();
+
+        assertEquals(7, retentionJob.archiveReadNotifications());
+        entityManager.clear();
+        assertEquals(List.of("recent", "old but unread"), messages(notificationService.getUserNotifications("john")));
+        assertEquals(0, retentionJob.archiveReadNotifications());
+
+        List<String> found = new ArrayList<>();
+        String pageToken = null;
+        do {
+            KeysetPageDTO<NotificationResponseDTO> page =
+                    notificationService.searchArchivedNotifications("john", "MATCH", pageToken, 2);
+            assertTrue(page.getItems().stream().allMatch(NotificationResponseDTO::isRead));
+            found.addAll(messages(page.getItems()));
+            pageToken = page.getNextPageToken();
+        } while (pageToken != null);
+        assertEquals(List.of("match 4 scheduled", "match 3 scheduled", "match 2 scheduled",
+                "match 1 scheduled", "match 0 scheduled"), found);
+
+        assertEquals(List.of("registration approved"),
+                messages(notificationService.searchArchivedNotifications("john", "approved", null, 10).getItems()));
+        // LIKE wildcards in the query are matched literally
+        assertTrue(notificationService.searchArchivedNotifications("john", "%", null, 10).getItems().isEmpty());
+        assertEquals(6, notificationService.searchArchivedNotifications("john", null, null, 10).getItems().size());
+    }
+
+    private static List<String> messages(List<NotificationResponseDTO> notifications) {
+        return notifications.stream().map(NotificationResponseDTO::getMessage).toList();
+    }
+
+    private void persistNotification(User user, String message, LocalDateTime timestamp, boolean read) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setMessage(message);
+        notification.setTimestamp(timestamp);
+        notification.setRead(read);
+        entityManager.persist(notification);
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -3,7 +3,11 @@ package com.catalin.tennis;
 import com.catalin.tennis.dto.response.NotificationResponseDTO;
 import com.catalin.tennis.exception.UserNotFoundException;
 import com.catalin.tennis.model.Notification;
+import com.catalin.tennis.model.NotificationOutbox;
 import com.catalin.tennis.model.User;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.repository.NotificationCounterRepository;
+import com.catalin.tennis.repository.NotificationOutboxRepository;
 import com.catalin.tennis.repository.NotificationRepository;
 import com.catalin.tennis.repository.UserRepository;
 import com.catalin.tennis.service.implementations.NotificationServiceImpl;
@@ -26,6 +30,15 @@ class NotificationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationCounterRepository counterRepository;
+
+    @Mock
+    private NotificationCounters counters;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -53,15 +66,29 @@ class NotificationServiceTest {
         assertEquals("Welcome!", result.get(0).getMessage());
     }
 
+    @Test
+    void enqueueNotification_writesOutboxOnly() {
+        notificationService.enqueueNotification(7L, "Approved");
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(7L, captor.getValue().getUserId());
+        assertEquals("Approved", captor.getValue().getMessage());
+        assertNotNull(captor.getValue().getCreatedAt());
+        verifyNoInteractions(userRepository, notificationRepository);
+    }
+
     @Test
     void createNotification_success() {
         User user = new User();
+        user.setId(3L);
         user.setUsername("john");
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
         when(notificationRepository.save(any())).thenAnswer(i -> i.getArguments()[0]);
 
         assertDoesNotThrow(() -> notificationService.createNotification("john", "Test message"));
+        verify(counters).added(Map.of(3L, 1));
     }
 
     @Test
@@ -74,20 +101,16 @@ class NotificationServiceTest {
 
     @Test
     void markAsRead_success() {
-        Notification notification = new Notification();
-        notification.setId(5L);
-        notification.setRead(false);
-
-        when(notificationRepository.findById(5L)).thenReturn(Optional.of(notification));
-        when(notificationRepository.save(any())).thenReturn(notification);
+        when(notificationRepository.findUserIdById(5L)).thenReturn(Optional.of(3L));
+        when(notificationRepository.markReadByIds(3L, List.of(5L))).thenReturn(1);
 
         assertDoesNotThrow(() -> notificationService.markAsRead(5L));
-        assertTrue(notification.isRead());
+        verify(counters).read(3L, 1);
     }
 
     @Test
     void markAsRead_notFound_throwsException() {
-        when(notificationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(notificationRepository.findUserIdById(999L)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class,
                 () -> notificationService.markAsRead(999L));
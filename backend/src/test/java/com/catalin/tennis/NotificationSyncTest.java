@@ -0,0 +1,145 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.controller.NotificationController;
+import com.catalin.tennis.dto.request.MarkNotificationsReadDTO;
+import com.catalin.tennis.dto.response.NotificationReadResultDTO;
+import com.catalin.tennis.dto.response.NotificationResponseDTO;
+import com.catalin.tennis.dto.response.NotificationSyncDTO;
+import com.catalin.tennis.exception.UserNotFoundException;
+import com.catalin.tennis.model.NotificationOutbox;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.notification.NotificationOutboxWriter;
+import com.catalin.tennis.service.implementations.NotificationServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({NotificationServiceImpl.class, NotificationCounters.class, NotificationOutboxWriter.class})
+class NotificationSyncTest {
+
+    @Autowired
+    private NotificationServiceImpl notificationService;
+
+    @Autowired
+    private NotificationOutboxWriter outboxWriter;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void sync_returnsOnlyNewNotificationsAndCountersFollowEveryWrite() {
+        User john = persistUser("john");
+        persistUser("mary");
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(new NotificationOutbox(john.getId(), "message " + i, LocalDateTime.now().plusSeconds(i)));
+        }
+        entityManager.flush();
+        outboxWriter.drain();
+        nextRequest();
+
+        NotificationSyncDTO first = notificationService.getUserNotificationsSince("john", 0, 3);
+        assertEquals(List.of("message 0", "message 1", "message 2"), messages(first));
+        assertTrue(first.isHasMore());
+        assertEquals(5, first.getUnreadCount());
+        NotificationSyncDTO second = notificationService.getUserNotificationsSince("john", first.getCursor(), 3);
+        assertEquals(List.of("message 3", "message 4"), messages(second));
+        assertFalse(second.isHasMore());
+        nextRequest();
+
+        // nothing new: the poll reads the counter row and nothing else
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        NotificationSyncDTO idle = notificationService.getUserNotificationsSince("john", second.getCursor(), 3);
+        assertTrue(idle.getNotifications().isEmpty());
+        assertEquals(second.getCursor(), idle.getCursor());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        List<Long> ids = first.getNotifications().stream().map(NotificationResponseDTO::getId).toList();
+        assertEquals(new NotificationReadResultDTO(2, 3),
+                notificationService.markAsRead("john", new MarkNotificationsReadDTO(ids.subList(0, 2), null)));
+        // already read rows do not count twice
+        assertEquals(new NotificationReadResultDTO(1, 2),
+                notificationService.markAsRead("john", new MarkNotificationsReadDTO(ids, null)));
+        assertEquals(new NotificationReadResultDTO(1, 1),
+                notificationService.markAsRead("john", new MarkNotificationsReadDTO(null, second.getNotifications().get(0).getId())));
+
+        notificationService.createNotification("john", "late");
+        nextRequest();
+        NotificationSyncDTO late = notificationService.getUserNotificationsSince("john", second.getCursor(), 3);
+        assertEquals(List.of("late"), messages(late));
+        assertEquals(2, late.getUnreadCount());
+        notificationService.markAsRead(late.getCursor());
+        nextRequest();
+        assertEquals(1, notificationService.getUnreadCount("john"));
+
+        assertEquals(new NotificationReadResultDTO(1, 0),
+                notificationService.markAsRead("john", new MarkNotificationsReadDTO()));
+        assertEquals(0, notificationService.getUnreadCount("mary"));
+        assertThrows(UserNotFoundException.class, () -> notificationService.getUnreadCount("ghost"));
+    }
+
+    @Test
+    void userNotifications_afterWithSize_isRoutedToSyncAndSizeAloneToKeysetPage() throws Exception {
+        User john = persistUser("john");
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(new NotificationOutbox(john.getId(), "message " + i, LocalDateTime.now().plusSeconds(i)));
+        }
+        entityManager.flush();
+        outboxWriter.drain();
+        nextRequest();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new NotificationController(notificationService)).build();
+
+        mockMvc.perform(get("/api/notifications/user/john").param("after", "0").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true));
+        mockMvc.perform(get("/api/notifications/user/john").param("after", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications.length()").value(3));
+        mockMvc.perform(get("/api/notifications/user/john").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextPageToken").isNotEmpty());
+    }
+
+    // each call below stands for a separate request, so it must not see counter rows cached by an earlier one
+    private void nextRequest() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static List<String> messages(NotificationSyncDTO sync) {
+        return sync.getNotifications().stream().map(NotificationResponseDTO::getMessage).toList();
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,76 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.engine.EloRating;
+import com.catalin.tennis.engine.RatingReplay;
+import com.catalin.tennis.engine.RatingTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RatingEngineTest {
+
+    @Test
+    void change_isZeroSumAndRewardsAnUpsetMore() {
+        assertEquals(0.5, EloRating.expectedScore(1500, 1500), 1e-9);
+        assertEquals(16.0, EloRating.change(1500, 1500, true, 32), 1e-9);
+        assertEquals(-16.0, EloRating.change(1500, 1500, false, 32), 1e-9);
+        double favouriteWins = EloRating.change(1700, 1500, true, 32);
+        double underdogWins = -EloRating.change(1700, 1500, false, 32);
+        assertTrue(underdogWins > 3 * favouriteWins);
+        assertEquals(32.0, favouriteWins + underdogWins, 1e-9);
+    }
+
+    @Test
+    void ratingTable_ranksByWholeRatingPoint() {
+        RatingTable table = new RatingTable(1500, 4);
+        table.put(1L, 1612.4, 3);
+        table.put(2L, 1480.0, 2);
+        table.put(3L, 1612.9, 5);
+        table.add(4L, 20.0, 1);
+
+        assertEquals(1, table.rankOf(1L));
+        assertEquals(1, table.rankOf(3L));
+        assertEquals(3, table.rankOf(4L));
+        assertEquals(4, table.rankOf(2L));
+        assertEquals(0, table.rankOf(99L));
+        assertTrue(Double.isNaN(table.ratingOf(99L)));
+
+        table.add(2L, 200.0, 1);
+        assertEquals(1, table.rankOf(2L));
+        assertEquals(2, table.rankOf(1L));
+        assertEquals(3, table.ratedMatchesOf(2L));
+        assertEquals(4, table.size());
+    }
+
+    @Test
+    void replay_inParallelGroups_matchesASequentialReplay() {
+        Random random = new Random(42);
+        RatingReplay replay = new RatingReplay(1500, 32);
+        Map<Long, Double> expected = new HashMap<>();
+        for (long m = 1; m <= 5000; m++) {
+            // twenty clubs whose players only meet each other
+            long club = random.nextInt(20) * 1000L;
+            long p1 = club + random.nextInt(30);
+            long p2 = club + 30 + random.nextInt(30);
+            boolean player1Won = random.nextBoolean();
+            replay.addMatch(m, p1, p2, player1Won);
+            double change = EloRating.change(expected.getOrDefault(p1, 1500.0), expected.getOrDefault(p2, 1500.0), player1Won, 32);
+            expected.merge(p1, 1500.0 + change, (old, ignored) -> old + change);
+            expected.merge(p2, 1500.0 - change, (old, ignored) -> old - change);
+        }
+
+        RatingReplay.Result result = replay.run();
+
+        assertEquals(20, result.getGroups());
+        assertEquals(expected.size(), result.getPlayerIds().length);
+        for (int p = 0; p < result.getPlayerIds().length; p++) {
+            assertEquals(expected.get(result.getPlayerIds()[p]), result.getRatings()[p], 1e-9);
+        }
+        assertEquals(5000, result.getChanges().length);
+        assertEquals(1L, result.getMatchIds()[0]);
+    }
+}
@@ -0,0 +1,193 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.request.UpdateScoreDTO;
+import com.catalin.tennis.dto.response.PlayerRatingDTO;
+import com.catalin.tennis.dto.response.RatingRebuildResultDTO;
+import com.catalin.tennis.engine.EloRating;
+import com.catalin.tennis.model.Match;
+import com.catalin.tennis.model.SetScore;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.PlayerRatingRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.implementations.MatchServiceImpl;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.StandingsServiceImpl;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({MatchServiceImpl.class, StandingsServiceImpl.class, RatingServiceImpl.class, TournamentServiceImpl.class, CacheRegistry.class})
+class RatingTest {
+
+    @Autowired
+    private MatchServiceImpl matchService;
+
+    @Autowired
+    private RatingServiceImpl ratingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private PlayerRatingRepository playerRatingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateScore_ratesResultsTakesBackCorrectionsAndMatchesARebuild() {
+        try {
+            Tournament tournament = tournamentRepository.save(tournament());
+            User anna = userRepository.save(player("anna"));
+            User bob = userRepository.save(player("bob"));
+            User carl = userRepository.save(player("carl"));
+            Match first = matchRepository.save(match(tournament, anna, bob, LocalDateTime.of(2030, 6, 1, 10, 0)));
+            Match second = matchRepository.save(match(tournament, anna, carl, LocalDateTime.of(2030, 6, 2, 10, 0)));
+
+            matchService.updateScore(new UpdateScoreDTO(first.getId(), sets(6, 4, 6, 2)));
+            assertEquals(1516, ratingService.getRating(anna.getId()));
+            assertEquals(1484, ratingService.getRating(bob.getId()));
+            assertNull(ratingService.getRating(carl.getId()));
+
+            // a set that does not change the winner changes no rating
+            matchService.updateScore(new UpdateScoreDTO(second.getId(), sets(6, 4)));
+            matchService.updateScore(new UpdateScoreDTO(second.getId(), sets(6, 4, 6, 3)));
+            // the referee corrects the score: anna's win is taken back and carl's win is rated instead
+            matchService.updateScore(new UpdateScoreDTO(second.getId(), sets(4, 6, 3, 6)));
+
+            double change = EloRating.change(1516, 1500, false, 32);
+            assertEquals((int) Math.round(1516 + change), ratingService.getRating(anna.getId()));
+            assertEquals((int) Math.round(1500 - change), ratingService.getRating(carl.getId()));
+            PlayerRatingDTO annaRating = ratingService.getPlayerRating("anna");
+            assertEquals(2, annaRating.getRatedMatches());
+            assertEquals(1, ratingService.getRank(carl.getId()));
+            assertEquals(List.of("carl", "anna", "bob"),
+                    ratingService.getTopRated(10).stream().map(PlayerRatingDTO::getUsername).toList());
+            List<Double> incremental = storedRatings();
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "select count(*) from match_ratings where match_id = ?", Integer.class, second.getId()));
+
+            RatingRebuildResultDTO rebuild = ratingService.rebuild();
+
+            assertEquals(3, rebuild.getPlayers());
+            assertEquals(2, rebuild.getMatches());
+            assertEquals(1, rebuild.getIndependentGroups());
+            List<Double> rebuilt = storedRatings();
+            for (int i = 0; i < incremental.size(); i++) {
+                assertEquals(incremental.get(i), rebuilt.get(i), 1e-9);
+            }
+
+            matchService.deleteMatchById(first.getId());
+            assertEquals((int) Math.round(1500 + change), ratingService.getRating(anna.getId()));
+            assertEquals(1500, ratingService.getRating(bob.getId()));
+            assertEquals(0, ratingService.getPlayerRating("bob").getRatedMatches());
+        } finally {
+            for (String table : List.of("match_ratings", "player_ratings", "player_standings", "match_sets",
+                    "matches", "tournaments", "users")) {
+                jdbcTemplate.update("delete from " + table);
+            }
+            // forget the in-memory ratings of the deleted players
+            ratingService.rebuild();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void recordResult_takeBackOnColdTable_isAppliedOnce() {
+        try {
+            Tournament tournament = tournamentRepository.save(tournament());
+            User anna = userRepository.save(player("anna"));
+            User bob = userRepository.save(player("bob"));
+            Match match = matchRepository.save(match(tournament, anna, bob, LocalDateTime.of(2030, 6, 1, 10, 0)));
+            matchService.updateScore(new UpdateScoreDTO(match.getId(), sets(6, 4, 6, 2)));
+
+            // a node that has not loaded its ratings yet and whose first call takes a result back
+            RatingServiceImpl coldNode = new RatingServiceImpl(playerRatingRepository, userRepository, jdbcTemplate,
+                    transactionManager, 1500, 32, 2);
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> coldNode.recordResult(
+                    match.getId(), anna.getId(), bob.getId(), sets(6, 4, 6, 2), List.of()));
+
+            assertEquals(1500, coldNode.getRating(anna.getId()));
+            assertEquals(1500, coldNode.getRating(bob.getId()));
+            assertEquals(0, coldNode.getPlayerRating("anna").getRatedMatches());
+            assertEquals(List.of(1500.0, 1500.0), storedRatings());
+        } finally {
+            for (String table : List.of("match_ratings", "player_ratings", "player_standings", "match_sets",
+                    "matches", "tournaments", "users")) {
+                jdbcTemplate.update("delete from " + table);
+            }
+            ratingService.rebuild();
+        }
+    }
+
+    private List<Double> storedRatings() {
+        return jdbcTemplate.queryForList("select rating from player_ratings order by player_id", Double.class);
+    }
+
+    private static List<SetScore> sets(int... games) {
+        List<SetScore> sets = new ArrayList<>();
+        for (int i = 0; i < games.length; i += 2) {
+            sets.add(new SetScore(games[i], games[i + 1]));
+        }
+        return sets;
+    }
+
+    private static Match match(Tournament tournament, User player1, User player2, LocalDateTime start) {
+        return Match.builder()
+                .player1(player1)
+                .player2(player2)
+                .tournament(tournament)
+                .startDate(start)
+                .sets(new ArrayList<>())
+                .build();
+    }
+
+    private static Tournament tournament() {
+        return Tournament.builder()
+                .name("Open")
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(10))
+                .maxParticipants(16)
+                .build();
+    }
+
+    private static User player(String username) {
+        return User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
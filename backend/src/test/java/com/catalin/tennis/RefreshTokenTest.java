@@ -0,0 +1,127 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.dto.request.LoginDTO;
+import com.catalin.tennis.exception.InvalidRefreshTokenException;
+import com.catalin.tennis.model.RefreshToken;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.RefreshTokenRepository;
+import com.catalin.tennis.security.JwtKeyring;
+import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.RefreshTokenServiceImpl;
+import com.catalin.tennis.service.implementations.UserServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"jwt.refresh.idle-timeout-days=14", "jwt.refresh.max-session-days=30"})
+@Import({RefreshTokenServiceImpl.class, UserServiceImpl.class, RatingServiceImpl.class, JwtUtil.class, JwtKeyring.class})
+class RefreshTokenTest {
+
+    @Autowired
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void login_returnsRefreshTokenThatRotatesOnEachRefresh() {
+        persistUser("john", new BCryptPasswordEncoder().encode("secret"));
+
+        Map<String, String> login = userService.login(new LoginDTO("john", "secret"));
+        String first = login.get("refreshToken");
+        assertNotNull(first);
+
+        Map<String, String> refreshed = refreshTokenService.refresh(first);
+        assertEquals("john", jwtUtil.getUsernameFromToken(refreshed.get("token")));
+        assertEquals("TENNIS_PLAYER", refreshed.get("role"));
+        String second = refreshed.get("refreshToken");
+        assertNotEquals(first, second);
+
+        String third = refreshTokenService.refresh(second).get("refreshToken");
+        assertNotNull(third);
+        // only the digest is stored
+        assertTrue(refreshTokenRepository.findAll().stream().noneMatch(t -> t.getTokenHash().equals(first)));
+    }
+
+    @Test
+    void reusedToken_revokesTheWholeSession() {
+        User john = persistUser("john", "hash");
+        String first = refreshTokenService.issue(john);
+        String second = refreshTokenService.refresh(first).get("refreshToken");
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(first));
+        entityManager.clear();
+        // the legitimate holder's newer token is revoked along with the stolen one
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(second));
+        assertTrue(refreshTokenRepository.findAll().stream().allMatch(t -> t.getRevokedAt() != null));
+    }
+
+    @Test
+    void logout_revokesSessionAndLeavesOthersAlone() {
+        User john = persistUser("john", "hash");
+        String phone = refreshTokenService.issue(john);
+        String laptop = refreshTokenService.issue(john);
+
+        refreshTokenService.revoke(phone);
+        refreshTokenService.revoke("unknown");
+        entityManager.clear();
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.refresh(phone));
+        assertNotNull(refreshTokenService.refresh(laptop).get("token"));
+    }
+
+    @Test
+    void refresh_slidesExpiryButNotPastSessionEnd() {
+        User john = persistUser("john", "hash");
+        String token = refreshTokenService.issue(john);
+        RefreshToken issued = refreshTokenRepository.findAll().get(0);
+        assertTrue(issued.getExpiresAt().isBefore(issued.getSessionExpiresAt()));
+
+        // a session near its absolute end gets a token that expires with it
+        LocalDateTime sessionEnd = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.SECONDS);
+        issued.setSessionExpiresAt(sessionEnd);
+        entityManager.flush();
+        entityManager.clear();
+        refreshTokenService.refresh(token);
+        entityManager.clear();
+        RefreshToken next = refreshTokenRepository.findAll().stream()
+                .filter(t -> t.getUsedAt() == null)
+                .findFirst().orElseThrow();
+        assertEquals(sessionEnd, next.getExpiresAt());
+
+        next.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        entityManager.flush();
+        assertEquals(1, refreshTokenService.purgeExpired());
+        assertEquals(1, refreshTokenRepository.count());
+    }
+
+    private User persistUser(String username, String passwordHash) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash(passwordHash)
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,134 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.dto.request.BulkRegistrationDecisionDTO;
+import com.catalin.tennis.dto.response.BulkRegistrationResultDTO;
+import com.catalin.tennis.dto.response.RegistrationOutcomeDTO;
+import com.catalin.tennis.dto.response.RegistrationOutcomeDTO.Outcome;
+import com.catalin.tennis.exception.InvalidBulkRequestException;
+import com.catalin.tennis.model.NotificationOutbox;
+import com.catalin.tennis.model.Registration;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.NotificationOutboxRepository;
+import com.catalin.tennis.repository.RegistrationRepository;
+import com.catalin.tennis.notification.NotificationCounters;
+import com.catalin.tennis.service.implementations.NotificationServiceImpl;
+import com.catalin.tennis.service.implementations.RegistrationServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({RegistrationServiceImpl.class, NotificationServiceImpl.class, NotificationCounters.class})
+class RegistrationBulkDecisionTest {
+
+    @Autowired
+    private RegistrationServiceImpl registrationService;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void decideByIds_updatesPendingAndReportsEveryId() {
+        Tournament tournament = persistTournament("Wimbledon");
+        Registration pending1 = persistRegistration(persistUser("p1"), tournament, RegistrationStatus.PENDING);
+        Registration pending2 = persistRegistration(persistUser("p2"), tournament, RegistrationStatus.PENDING);
+        Registration denied = persistRegistration(persistUser("p3"), tournament, RegistrationStatus.DENIED);
+        entityManager.flush();
+        entityManager.clear();
+
+        BulkRegistrationDecisionDTO dto = new BulkRegistrationDecisionDTO(
+                List.of(pending1.getId(), denied.getId(), 9999L, pending2.getId(), pending1.getId()), null);
+        BulkRegistrationResultDTO result = registrationService.decideRegistrations(dto, RegistrationStatus.APPROVED);
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(
+                new RegistrationOutcomeDTO(pending1.getId(), Outcome.UPDATED),
+                new RegistrationOutcomeDTO(denied.getId(), Outcome.NOT_PENDING),
+                new RegistrationOutcomeDTO(9999L, Outcome.NOT_FOUND),
+                new RegistrationOutcomeDTO(pending2.getId(), Outcome.UPDATED)
+        ), result.getOutcomes());
+
+        assertEquals(RegistrationStatus.APPROVED, registrationRepository.findById(pending1.getId()).orElseThrow().getStatus());
+        assertEquals(RegistrationStatus.APPROVED, registrationRepository.findById(pending2.getId()).orElseThrow().getStatus());
+        assertEquals(RegistrationStatus.DENIED, registrationRepository.findById(denied.getId()).orElseThrow().getStatus());
+
+        List<NotificationOutbox> queued = outboxRepository.findAll();
+        assertEquals(2, queued.size());
+        assertTrue(queued.stream().allMatch(n -> n.getMessage().contains("Wimbledon has been approved")));
+    }
+
+    @Test
+    void decideByTournament_deniesOnlyThatTournamentsPendingRegistrations() {
+        Tournament wimbledon = persistTournament("Wimbledon");
+        Tournament open = persistTournament("US Open");
+        User player = persistUser("p1");
+        persistRegistration(player, wimbledon, RegistrationStatus.PENDING);
+        persistRegistration(persistUser("p2"), wimbledon, RegistrationStatus.PENDING);
+        persistRegistration(persistUser("p3"), wimbledon, RegistrationStatus.APPROVED);
+        Registration other = persistRegistration(player, open, RegistrationStatus.PENDING);
+        entityManager.flush();
+        entityManager.clear();
+
+        BulkRegistrationResultDTO result = registrationService.decideRegistrations(
+                new BulkRegistrationDecisionDTO(null, wimbledon.getId()), RegistrationStatus.DENIED);
+
+        assertEquals(2, result.getUpdated());
+        assertTrue(result.getOutcomes().stream().allMatch(o -> o.getOutcome() == Outcome.UPDATED));
+        assertEquals(RegistrationStatus.PENDING, registrationRepository.findById(other.getId()).orElseThrow().getStatus());
+        assertEquals(2, outboxRepository.count());
+    }
+
+    @Test
+    void decide_requiresExactlyOneTarget() {
+        assertThrows(InvalidBulkRequestException.class, () -> registrationService.decideRegistrations(
+                new BulkRegistrationDecisionDTO(null, null), RegistrationStatus.APPROVED));
+        assertThrows(InvalidBulkRequestException.class, () -> registrationService.decideRegistrations(
+                new BulkRegistrationDecisionDTO(List.of(1L), 1L), RegistrationStatus.APPROVED));
+    }
+
+    private Tournament persistTournament(String name) {
+        return entityManager.persist(Tournament.builder()
+                .name(name)
+                .startDate(LocalDate.of(2030, 6, 1))
+                .endDate(LocalDate.of(2030, 6, 14))
+                .registrationDeadline(LocalDate.of(2030, 5, 25))
+                .maxParticipants(64)
+                .build());
+    }
+
+    private User persistUser(String username) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private Registration persistRegistration(User player, Tournament tournament, RegistrationStatus status) {
+        return entityManager.persist(Registration.builder()
+                .player(player)
+                .tournament(tournament)
+                .registrationDate(LocalDateTime.now())
+                .status(status)
+                .build());
+    }
+}
@@ -75,6 +75,7 @@ class RegistrationServiceTest {
     @Test
     void approveRegistration_success() {
         User player = new User();
+        player.setId(7L);
         player.setUsername("john");
 
         Tournament tournament = new Tournament();
@@ -90,12 +91,13 @@ class RegistrationServiceTest {
 
         assertDoesNotThrow(() -> registrationService.approveRegistration(1L));
 
-        verify(notificationService).createNotification(eq("john"), contains("approved"));
+        verify(notificationService).enqueueNotification(eq(7L), contains("approved"));
     }
 
     @Test
     void denyRegistration_success() {
         User player = new User();
+        player.setId(7L);
         player.setUsername("john");
 
         Tournament tournament = new Tournament();
@@ -111,7 +113,7 @@ class RegistrationServiceTest {
 
         assertDoesNotThrow(() -> registrationService.denyRegistration(1L));
 
-        verify(notificationService).createNotification(eq("john"), contains("denied"));
+        verify(notificationService).enqueueNotification(eq(7L), contains("denied"));
     }
 
 
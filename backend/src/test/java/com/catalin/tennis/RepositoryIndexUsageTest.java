@@ -0,0 +1,172 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every query method declared in {@code com.catalin.tennis.repository} against the migrated schema,
+ * captures the SQL Hibernate sends and checks with EXPLAIN that no table is read with a full scan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.catalin.tennis.RepositoryIndexUsageTest$RecordingInspector")
+class RepositoryIndexUsageTest {
+
+    private static final String REPOSITORY_PACKAGE = "com.catalin.tennis.repository";
+
+    // Queries allowed to scan, with the reason; anything new has to use an index or be listed here.
+    private static final Map<String, String> ALLOWED_SCANS = Map.of();
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() throws Exception {
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> failures = new ArrayList<>();
+        int checked = 0;
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            Class<?> repositoryInterface = information.getRepositoryInterface();
+            if (!repositoryInterface.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                continue;
+            }
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            for (Method method : queryMethods(repositoryInterface)) {
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                List<String> statements = run(repository, method);
+                if (statements.isEmpty()) {
+                    failures.add(name + " ran no statement");
+                }
+                for (String sql : statements) {
+                    String plan = explain(sql);
+                    if (plan.toLowerCase(Locale.ROOT).contains(".tablescan") && !ALLOWED_SCANS.containsKey(name)) {
+                        failures.add(name + " scans a table:\n" + plan);
+                    }
+                }
+                checked++;
+            }
+        }
+        assertTrue(checked > 40, "only " + checked + " repository methods were found");
+        assertTrue(failures.isEmpty(), String.join("\n\n", failures));
+    }
+
+    /** Methods declared by the repository and by the custom fragments it extends from the same package. */
+    private static List<Method> queryMethods(Class<?> repositoryInterface) {
+        List<Method> methods = new ArrayList<>();
+        Deque<Class<?>> types = new ArrayDeque<>(List.of(repositoryInterface));
+        while (!types.isEmpty()) {
+            Class<?> type = types.pop();
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.isDefault() && !Modifier.isStatic(method.getModifiers()) && !method.isSynthetic()) {
+                    methods.add(method);
+                }
+            }
+            for (Class<?> parent : type.getInterfaces()) {
+                if (parent.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    types.push(parent);
+                }
+            }
+        }
+        methods.sort(Comparator.comparing(Method::getName));
+        return methods;
+    }
+
+    private List<String> run(Object repository, Method method) throws Exception {
+        Object[] args = new Object[method.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sampleArgument(method.getParameterTypes()[i], method.getGenericParameterTypes()[i]);
+        }
+        RecordingInspector.STATEMENTS.clear();
+        Object result = method.invoke(repository, args);
+        if (result instanceof Stream<?> stream) {
+            // a streamed query only runs once the first row is pulled
+            try (stream) {
+                stream.iterator().hasNext();
+            }
+        }
+        return RecordingInspector.STATEMENTS.stream()
+                .filter(sql -> !sql.trim().toLowerCase(Locale.ROOT).startsWith("insert"))
+                .toList();
+    }
+
+    private String explain(String sql) {
+        // the plan is fixed when the statement is prepared, so the parameter values do not matter
+        return jdbcTemplate.query("explain " + sql, ps -> {
+            for (int i = 1; i <= ps.getParameterMetaData().getParameterCount(); i++) {
+                ps.setObject(i, null);
+            }
+        }, rs -> {
+            StringBuilder plan = new StringBuilder();
+            while (rs.next()) {
+                plan.append(rs.getString(1));
+            }
+            return plan.toString();
+        });
+    }
+
+    private static Object sampleArgument(Class<?> type, Type genericType) throws Exception {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == String.class) {
+            return "sample";
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 10);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            Type element = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+            return List.of(sampleArgument((Class<?>) element, element), sampleArgument((Class<?>) element, element));
+        }
+        if (type == TournamentSearchDTO.class) {
+            return new TournamentSearchDTO(LocalDate.now(), LocalDate.now().plusYears(1), null, null, null, null, true, 1);
+        }
+        // an entity used as a query parameter only contributes its id
+        Object entity = type.getDeclaredConstructor().newInstance();
+        type.getMethod("setId", Long.class).invoke(entity, 1L);
+        return entity;
+    }
+
+    public static class RecordingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.dto.request.ScheduleRequestDTO;
+import com.catalin.tennis.dto.response.ScheduleResultDTO;
+import com.catalin.tennis.exception.InvalidScheduleException;
+import com.catalin.tennis.model.Match;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.service.implementations.SchedulingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(SchedulingServiceImpl.class)
+class SchedulingServiceTest {
+
+    @Autowired
+    private SchedulingServiceImpl schedulingService;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void scheduleTournament_fillsCourtTimeAndRefereeOfUnscheduledMatches() {
+        Tournament tournament = persistTournament();
+        User referee1 = persistUser("ref1", UserRoles.REFEREE);
+        User referee2 = persistUser("ref2", UserRoles.REFEREE);
+        User[] players = new User[8];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = persistUser("p" + i, UserRoles.TENNIS_PLAYER);
+        }
+        for (int i = 0; i < 8; i += 2) {
+            persistMatch(tournament, players[i], players[i + 1], null, null, null);
+        }
+        // an already scheduled match keeps its court, time and referee
+        LocalDateTime fixedStart = LocalDateTime.of(2030, 6, 1, 10, 0);
+        persistMatch(tournament, players[0], players[2], referee1, 1, fixedStart);
+        entityManager.flush();
+        entityManager.clear();
+
+        ScheduleRequestDTO request = new ScheduleRequestDTO();
+        request.setCourts(2);
+        ScheduleResultDTO result = schedulingService.scheduleTournament(tournament.getId(), request);
+        entityManager.clear();
+
+        assertEquals(4, result.getScheduled());
+        assertTrue(result.getUnscheduledMatchIds().isEmpty());
+        List<Match> matches = matchRepository.findByTournament_Id(tournament.getId());
+        Set<String> courtSlots = new HashSet<>();
+        Set<String> refereeSlots = new HashSet<>();
+        for (Match match : matches) {
+            assertNotNull(match.getStartDate());
+            assertNotNull(match.getCourtNumber());
+            assertNotNull(match.getReferee());
+            assertTrue(courtSlots.add(match.getCourtNumber() + "@" + match.getStartDate()));
+            assertTrue(refereeSlots.add(match.getReferee().getId() + "@" + match.getStartDate()));
+            boolean involvesFixedPlayers = match.getPlayer1().getId().equals(players[0].getId())
+                    || match.getPlayer1().getId().equals(players[2].getId());
+            if (involvesFixedPlayers && !match.getStartDate().equals(fixedStart)) {
+                assertFalse(match.getStartDate().isBefore(fixedStart.plusHours(3)));
+            }
+        }
+        assertTrue(refereeSlots.stream().anyMatch(s -> s.startsWith(referee2.getId() + "@")));
+    }
+
+    @Test
+    void scheduleTournament_requiresReferees() {
+        Tournament tournament = persistTournament();
+        persistMatch(tournament, persistUser("a", UserRoles.TENNIS_PLAYER), persistUser("b", UserRoles.TENNIS_PLAYER), null, null, null);
+        entityManager.flush();
+
+        assertThrows(InvalidScheduleException.class, () -> schedulingService.scheduleTournament(tournament.getId(), null));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void scheduleTournament_concurrentRuns_scheduleEachMatchOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Tournament tournament = new TransactionTemplate(transactionManager).execute(status -> {
+                Tournament created = persistTournament();
+                persistUser("ref", UserRoles.REFEREE);
+                for (int i = 0; i < 8; i += 2) {
+                    persistMatch(created, persistUser("p" + i, UserRoles.TENNIS_PLAYER),
+                            persistUser("p" + (i + 1), UserRoles.TENNIS_PLAYER), null, null, null);
+                }
+                return created;
+            });
+            CountDownLatch start = new CountDownLatch(1);
+            Callable<ScheduleResultDTO> schedule = () -> {
+                start.await();
+                return schedulingService.scheduleTournament(tournament.getId(), null);
+            };
+            List<Future<ScheduleResultDTO>> results = List.of(executor.submit(schedule), executor.submit(schedule));
+            start.countDown();
+
+            // the second run waits for the first and finds nothing left to schedule
+            int scheduled = 0;
+            for (Future<ScheduleResultDTO> result : results) {
+                scheduled += result.get().getScheduled();
+            }
+            assertEquals(4, scheduled);
+            assertEquals(0, jdbcTemplate.queryForObject(
+                    "select count(*) from matches where start_date is null", Integer.class));
+            assertEquals(4, jdbcTemplate.queryForObject(
+                    "select count(distinct concat(court_number, '@', start_date)) from matches", Integer.class));
+        } finally {
+            executor.shutdownNow();
+            for (String table : List.of("matches", "tournaments", "users")) {
+                jdbcTemplate.update("delete from " + table);
+            }
+        }
+    }
+
+    private void persistMatch(Tournament tournament, User player1, User player2, User referee, Integer court, LocalDateTime start) {
+        entityManager.persist(Match.builder()
+                .player1(player1)
+                .player2(player2)
+                .referee(referee)
+                .tournament(tournament)
+                .courtNumber(court)
+                .startDate(start)
+                .build());
+    }
+
+    private Tournament persistTournament() {
+        return entityManager.persist(Tournament.builder()
+                .name("Schedule Open")
+                .startDate(LocalDate.of(2030, 6, 1))
+                .endDate(LocalDate.of(2030, 6, 2))
+                .registrationDeadline(LocalDate.of(2030, 5, 25))
+                .maxParticipants(16)
+                .build());
+    }
+
+    private User persistUser(String username, UserRoles role) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,156 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.request.UpdateScoreDTO;
+import com.catalin.tennis.dto.response.PlayerStandingDTO;
+import com.catalin.tennis.dto.response.StandingsRebuildResultDTO;
+import com.catalin.tennis.model.Match;
+import com.catalin.tennis.model.SetScore;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.implementations.MatchServiceImpl;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.StandingsServiceImpl;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({MatchServiceImpl.class, StandingsServiceImpl.class, RatingServiceImpl.class, TournamentServiceImpl.class, CacheRegistry.class})
+class StandingsTest {
+
+    @Autowired
+    private MatchServiceImpl matchService;
+
+    @Autowired
+    private StandingsServiceImpl standingsService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void updateScore_appliesDeltasThatMatchAFullRebuild() {
+        Tournament tournament = entityManager.persist(tournament("Open"));
+        User anna = entityManager.persist(player("anna"));
+        User bob = entityManager.persist(player("bob"));
+        User carl = entityManager.persist(player("carl"));
+        Match first = entityManager.persist(match(tournament, anna, bob));
+        Match second = entityManager.persist(match(tournament, anna, carl));
+        entityManager.flush();
+
+        matchService.updateScore(new UpdateScoreDTO(first.getId(), sets(6, 4, 6, 2)));
+        // sending the same score again changes nothing
+        matchService.updateScore(new UpdateScoreDTO(first.getId(), sets(6, 4, 6, 2)));
+        matchService.updateScore(new UpdateScoreDTO(second.getId(), sets(4, 6, 6, 3)));
+        matchService.updateScore(new UpdateScoreDTO(second.getId(), sets(4, 6, 6, 3, 2, 6)));
+
+        List<PlayerStandingDTO> standings = standingsService.getTournamentStandings(tournament.getId());
+        assertEquals(List.of("anna", "carl", "bob"), standings.stream().map(PlayerStandingDTO::getUsername).toList());
+        assertEquals(new PlayerStandingDTO(tournament.getId(), "anna", 2, 1, 1, 3, 2, 24, 21), standings.get(0));
+        assertEquals(new PlayerStandingDTO(tournament.getId(), "bob", 1, 0, 1, 0, 2, 6, 12), standings.get(2));
+
+        StandingsRebuildResultDTO rebuild = standingsService.rebuildTournament(tournament.getId());
+        assertEquals(3, rebuild.getStandings());
+        assertEquals(standings, standingsService.getTournamentStandings(tournament.getId()));
+
+        matchService.deleteMatchById(first.getId());
+        assertEquals(new PlayerStandingDTO(tournament.getId(), "anna", 1, 0, 1, 1, 2, 12, 15),
+                standingsService.getPlayerStandings("anna").get(0));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void rebuildAll_recomputesEveryTournamentInParallel() {
+        try {
+            User anna = userRepository.save(player("anna"));
+            User bob = userRepository.save(player("bob"));
+            List<Long> tournamentIds = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                Tournament tournament = tournamentRepository.save(tournament("T" + i));
+                tournamentIds.add(tournament.getId());
+                Match match = match(tournament, anna, bob);
+                match.setSets(sets(6, i, 6, i));
+                matchRepository.save(match);
+            }
+            // simulate standings that drifted, or predate this table
+            jdbcTemplate.update("delete from player_standings");
+
+            StandingsRebuildResultDTO result = standingsService.rebuildAll();
+
+            assertEquals(6, result.getTournaments());
+            assertEquals(12, result.getStandings());
+            List<PlayerStandingDTO> annas = standingsService.getPlayerStandings("anna");
+            assertEquals(tournamentIds, annas.stream().map(PlayerStandingDTO::getTournamentId).toList());
+            assertTrue(annas.stream().allMatch(s -> s.getWins() == 1 && s.getGamesWon() == 12));
+        } finally {
+            for (String table : List.of("player_standings", "match_sets", "matches", "tournaments", "users")) {
+                jdbcTemplate.update("delete from " + table);
+            }
+        }
+    }
+
+    private static List<SetScore> sets(int... games) {
+        List<SetScore> sets = new ArrayList<>();
+        for (int i = 0; i < games.length; i += 2) {
+            sets.add(new SetScore(games[i], games[i + 1]));
+        }
+        return sets;
+    }
+
+    private static Match match(Tournament tournament, User player1, User player2) {
+        return Match.builder()
+                .player1(player1)
+                .player2(player2)
+                .tournament(tournament)
+                .sets(new ArrayList<>())
+                .build();
+    }
+
+    private static Tournament tournament(String name) {
+        return Tournament.builder()
+                .name(name)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(10))
+                .maxParticipants(16)
+                .build();
+    }
+
+    private static User player(String username) {
+        return User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.catalin.tennis;
+
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.request.TournamentSearchDTO;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
+import com.catalin.tennis.dto.response.TournamentResponseDTO;
+import com.catalin.tennis.exception.InvalidPageTokenException;
+import com.catalin.tennis.model.Registration;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.RegistrationStatus;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({TournamentServiceImpl.class, CacheRegistry.class})
+class TournamentSearchTest {
+
+    private static final LocalDate BASE = LocalDate.now().plusDays(30);
+
+    @Autowired
+    private TournamentServiceImpl tournamentService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void searchTournaments_appliesEachFilter() {
+        persistTournament("A", BASE, BASE.plusDays(6), BASE.minusDays(10), 4);
+        persistTournament("B", BASE.plusDays(10), BASE.plusDays(20), null, 0);
+        persistTournament("C", BASE.plusDays(20), BASE.plusDays(25), LocalDate.now().minusDays(1), 2);
+        Tournament full = persistTournament("D", BASE.plusDays(40), BASE.plusDays(45), BASE.plusDays(30), 2);
+        approve(full, "p1");
+        approve(full, "p2");
+        entityManager.flush();
+
+        assertEquals(List.of("B", "C", "D"), search(filters(f -> {
+            f.setStartFrom(BASE.plusDays(10));
+            f.setStartTo(BASE.plusDays(40));
+        })));
+        assertEquals(List.of("A"), search(filters(f -> f.setEndTo(BASE.plusDays(6)))));
+        assertEquals(List.of("A", "B"), search(filters(f -> {
+            f.setOverlapsFrom(BASE.plusDays(5));
+            f.setOverlapsTo(BASE.plusDays(12));
+        })));
+        assertEquals(List.of("A", "B", "D"), search(filters(f -> f.setOpenForRegistration(true))));
+        assertEquals(List.of("A", "B", "C"), search(filters(f -> f.setMinFreePlaces(1))));
+        assertEquals(List.of("B", "C"), search(filters(f -> {
+            f.setMinFreePlaces(2);
+            f.setStartFrom(BASE.plusDays(1));
+        })));
+    }
+
+    @Test
+    void searchTournaments_pagesByStartDateThenIdWithoutGapsOrRepeats() {
+        for (int i = 0; i < 7; i++) {
+            // three tournaments share each start date, so the cursor has to break ties on id
+            persistTournament("T" + i, BASE.plusDays(i / 3), BASE.plusDays(10), null, 8);
+        }
+        entityManager.flush();
+
+        List<String> names = new ArrayList<>();
+        String pageToken = null;
+        int pages = 0;
+        do {
+            KeysetPageDTO<TournamentResponseDTO> page = tournamentService.searchTournaments(new TournamentSearchDTO(), pageToken, 2);
+            page.getItems().forEach(t -> names.add(t.getName()));
+            pageToken = page.getNextPageToken();
+            pages++;
+        } while (pageToken != null);
+
+        assertEquals(List.of("T0", "T1", "T2", "T3", "T4", "T5", "T6"), names);
+        assertEquals(4, pages);
+    }
+
+    @Test
+    void searchTournaments_invalidPageToken_throwsException() {
+        assertThrows(InvalidPageTokenException.class,
+                () -> tournamentService.searchTournaments(new TournamentSearchDTO(), "bm90LWEtZGF0ZXw1", 10));
+    }
+
+    private List<String> search(TournamentSearchDTO filters) {
+        return tournamentService.searchTournaments(filters, null, 50).getItems().stream()
+                .map(TournamentResponseDTO::getName)
+                .toList();
+    }
+
+    private static TournamentSearchDTO filters(Consumer<TournamentSearchDTO> setter) {
+        TournamentSearchDTO filters = new TournamentSearchDTO();
+        setter.accept(filters);
+        return filters;
+    }
+
+    private Tournament persistTournament(String name, LocalDate start, LocalDate end, LocalDate deadline, int maxParticipants) {
+        return entityManager.persist(Tournament.builder()
+                .name(name)
+                .startDate(start)
+                .endDate(end)
+                .registrationDeadline(deadline)
+                .maxParticipants(maxParticipants)
+                .build());
+    }
+
+    private void approve(Tournament tournament, String username) {
+        User player = entityManager.persist(User.builder()
+                .username(username)
+                .name(username)
+                .passwordHash("hash")
+                .role(UserRoles.TENNIS_PLAYER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        entityManager.persist(Registration.builder()
+                .player(player)
+                .tournament(tournament)
+                .registrationDate(LocalDateTime.now())
+                .status(RegistrationStatus.APPROVED)
+                .build());
+    }
+}
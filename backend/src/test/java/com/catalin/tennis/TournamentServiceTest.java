@@ -1,5 +1,6 @@
 package com.catalin.tennis;
 
+import com.catalin.tennis.cache.CacheRegistry;
 import com.catalin.tennis.dto.request.CreateTournamentDTO;
 import com.catalin.tennis.dto.response.TournamentResponseDTO;
 import com.catalin.tennis.exception.TournamentNameTakenException;
@@ -22,12 +23,15 @@ class TournamentServiceTest {
     @Mock
     private TournamentRepository tournamentRepository;
 
-    @InjectMocks
+    private CacheRegistry cacheRegistry;
+
     private TournamentServiceImpl tournamentService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        cacheRegistry = new CacheRegistry();
+        tournamentService = new TournamentServiceImpl(tournamentRepository, cacheRegistry, 100, 300);
     }
 
     @Test
@@ -101,16 +105,16 @@ class TournamentServiceTest {
         t.setId(1L);
         t.setName("Open");
 
-        when(tournamentRepository.existsByName("Open")).thenReturn(true);
         when(tournamentRepository.findByName("Open")).thenReturn(Optional.of(t));
 
         TournamentResponseDTO result = tournamentService.getTournamentByName("Open");
         assertEquals("Open", result.getName());
+        verify(tournamentRepository, never()).existsByName(any());
     }
 
     @Test
     void getTournamentByName_notFound_throwsException() {
-        when(tournamentRepository.existsByName("Open")).thenReturn(false);
+        when(tournamentRepository.findByName("Open")).thenReturn(Optional.empty());
 
         assertThrows(TournamentNotFoundException.class,
                 () -> tournamentService.getTournamentByName("Open"));
@@ -123,7 +127,7 @@ class TournamentServiceTest {
         t.setName("Future Cup");
         t.setStartDate(LocalDate.now().plusDays(10));
 
-        when(tournamentRepository.findAll()).thenReturn(List.of(t));
+        when(tournamentRepository.findAllByStartDateAfterOrderByStartDateAscIdAsc(LocalDate.now())).thenReturn(List.of(t));
 
         List<TournamentResponseDTO> result = tournamentService.getTournamentsStartingAfter(LocalDate.now().toString());
         assertFalse(result.isEmpty());
@@ -131,12 +135,67 @@ class TournamentServiceTest {
 
     @Test
     void getTournamentsStartingAfter_empty_throwsException() {
-        Tournament t = new Tournament();
-        t.setStartDate(LocalDate.now());
-
-        when(tournamentRepository.findAll()).thenReturn(List.of(t));
+        when(tournamentRepository.findAllByStartDateAfterOrderByStartDateAscIdAsc(any())).thenReturn(List.of());
 
         assertThrows(TournamentNotFoundException.class,
                 () -> tournamentService.getTournamentsStartingAfter(LocalDate.now().plusDays(1).toString()));
     }
+
+    @Test
+    void getAllTournaments_servedFromCacheUntilCatalogChanges() {
+        Tournament t = new Tournament();
+        t.setId(1L);
+        t.setName("Open");
+        t.setStartDate(LocalDate.now().plusDays(10));
+        when(tournamentRepository.findAll()).thenReturn(List.of(t));
+        when(tournamentRepository.findByName("Open")).thenReturn(Optional.of(t));
+
+        tournamentService.getAllTournaments();
+        tournamentService.getAllTournaments();
+        tournamentService.getTournamentByName("Open");
+        tournamentService.getTournamentByName("Open");
+        verify(tournamentRepository, times(1)).findAll();
+        verify(tournamentRepository, times(1)).findByName("Open");
+
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(t));
+        tournamentService.deleteTournament(1L);
+        tournamentService.getAllTournaments();
+        tournamentService.getTournamentByName("Open");
+        verify(tournamentRepository, times(2)).findAll();
+        verify(tournamentRepository, times(2)).findByName("Open");
+    }
+
+    @Test
+    void createTournament_invalidatesCachedMisses() {
+        when(tournamentRepository.findByName("Open")).thenReturn(Optional.empty());
+        assertThrows(TournamentNotFoundException.class, () -> tournamentService.getTournamentByName("Open"));
+
+        CreateTournamentDTO dto = new CreateTournamentDTO("Open", LocalDate.now(), LocalDate.now().plusDays(5), LocalDate.now().minusDays(1), 16);
+        Tournament created = new Tournament();
+        created.setId(1L);
+        created.setName("Open");
+        when(tournamentRepository.save(any())).thenReturn(created);
+        tournamentService.createTournament(dto);
+        when(tournamentRepository.findByName("Open")).thenReturn(Optional.of(created));
+
+        assertEquals("Open", tournamentService.getTournamentByName("Open").getName());
+        assertTrue(cacheRegistry.snapshot().stream().anyMatch(c -> c.getName().equals("tournaments.by-name") && c.getMissCount() == 2));
+    }
+
+    @Test
+    void getTournamentById_bypassesCatalogAndReturnsCopies() {
+        when(tournamentRepository.findAll()).thenReturn(List.of());
+        assertThrows(TournamentNotFoundException.class, () -> tournamentService.getAllTournaments());
+
+        // created on another node after this node cached an empty catalog
+        Tournament t = new Tournament();
+        t.setId(1L);
+        t.setName("Open");
+        when(tournamentRepository.findById(1L)).thenReturn(Optional.of(t));
+        assertEquals("Open", tournamentService.getTournamentById(1L).getName());
+
+        when(tournamentRepository.findByName("Open")).thenReturn(Optional.of(t));
+        tournamentService.getTournamentByName("Open").setName("changed by a caller");
+        assertEquals("Open", tournamentService.getTournamentByName("Open").getName());
+    }
 }
@@ -2,12 +2,16 @@ package com.catalin.tennis;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import com.catalin.tennis.dto.request.*;
+import com.catalin.tennis.dto.response.KeysetPageDTO;
 import com.catalin.tennis.dto.response.UserResponseDTO;
+import com.catalin.tennis.exception.InvalidPageTokenException;
 import com.catalin.tennis.exception.InvalidPasswordException;
 import com.catalin.tennis.model.User;
 import com.catalin.tennis.model.enums.UserRoles;
 import com.catalin.tennis.repository.UserRepository;
 import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.RefreshTokenService;
 import com.catalin.tennis.service.implementations.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +31,12 @@ class UserServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
-    @InjectMocks
+    @Mock
+    private RatingService ratingService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     private UserServiceImpl userService;
 
     @Captor
@@ -36,6 +45,7 @@ class UserServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        userService = new UserServiceImpl(userRepository, jwtUtil, ratingService, refreshTokenService);
     }
 
     @Test
@@ -51,6 +61,34 @@ class UserServiceTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    void getUsersPage_moreRowsThanSize_returnsNextPageToken() {
+        List<User> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            User user = new User();
+            user.setId(id);
+            user.setUsername("user" + id);
+            rows.add(user);
+        }
+        when(userRepository.findPageAfter(eq(0L), any())).thenReturn(rows);
+
+        KeysetPageDTO<UserResponseDTO> page = userService.getUsersPage(null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextPageToken());
+
+        when(userRepository.findPageAfter(eq(2L), any())).thenReturn(List.of(rows.get(2)));
+        KeysetPageDTO<UserResponseDTO> next = userService.getUsersPage(page.getNextPageToken(), 2);
+
+        assertEquals("user3", next.getItems().get(0).getUsername());
+        assertNull(next.getNextPageToken());
+    }
+
+    @Test
+    void getUsersPage_invalidToken_throwsException() {
+        assertThrows(InvalidPageTokenException.class, () -> userService.getUsersPage("%%%", 10));
+    }
+
     @Test
     void updateUser_success() {
         User user = new User();
@@ -112,9 +150,11 @@ class UserServiceTest {
 
         when(userRepository.findByUsername("john")).thenReturn(Optional.of(user));
         when(jwtUtil.generateToken(user)).thenReturn("mock-token");
+        when(refreshTokenService.issue(user)).thenReturn("mock-refresh-token");
 
         Map<String, String> response = userService.login(new LoginDTO("john", "pass"));
         assertEquals("mock-token", response.get("token"));
+        assertEquals("mock-refresh-token", response.get("refreshToken"));
     }
 
     @Test
@@ -0,0 +1,39 @@
+package com.catalin.tennis.benchmarks;
+
+import com.catalin.tennis.engine.Bracket;
+import com.catalin.tennis.engine.BracketGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Seeded bracket layout for the draw endpoint, from a small club draw up to a 1024-player field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BracketGeneratorBenchmark {
+
+    @Param({"24", "1000", "1024"})
+    public int entrants;
+
+    private List<Long> seeded;
+    private List<Long> unseeded;
+
+    @Setup
+    public void setUp() {
+        int seeds = Math.min(32, entrants / 4);
+        seeded = LongStream.rangeClosed(1, seeds).boxed().toList();
+        unseeded = LongStream.rangeClosed(seeds + 1, entrants).boxed().toList();
+    }
+
+    @Benchmark
+    public Bracket generate() {
+        return BracketGenerator.generate(seeded, unseeded, 42L);
+    }
+}
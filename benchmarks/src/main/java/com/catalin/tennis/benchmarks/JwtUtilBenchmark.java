@@ -0,0 +1,56 @@
+package com.catalin.tennis.benchmarks;
+
+import com.catalin.tennis.benchmarks.fixtures.SyntheticData;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.security.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification as done by {@code JwtAuthenticationFilter} on every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        token = jwtUtil.generateToken(SyntheticData.user(1L, "player1", UserRoles.TENNIS_PLAYER, "x"));
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+
+    /** The full per-request sequence the authentication filter runs. */
+    @Benchmark
+    public void authenticationFilterPath(Blackhole blackhole) {
+        if (jwtUtil.validateToken(token)) {
+            blackhole.consume(jwtUtil.getUsernameFromToken(token));
+            blackhole.consume(jwtUtil.getRoleFromToken(token));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.catalin.tennis.benchmarks;
+
+import com.catalin.tennis.benchmarks.fixtures.StubRepositories;
+import com.catalin.tennis.dto.projection.UsernameIdRow;
+import com.catalin.tennis.dto.response.MatchImportResultDTO;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.PlayerRatingRepository;
+import com.catalin.tennis.repository.PlayerStandingRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.implementations.MatchImportServiceImpl;
+import com.catalin.tennis.service.implementations.RatingServiceImpl;
+import com.catalin.tennis.service.implementations.StandingsServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk CSV import into an in-memory H2 database, reported as rows per second. User and tournament
+ * lookups are stubbed; the match, set, standings and rating writes are real JDBC batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(MatchImportBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchImportBenchmark {
+
+    static final int ROWS = 10_000;
+    private static final int PLAYERS = 512;
+    private static final LocalDateTime FIRST_MATCH = LocalDateTime.of(2030, 6, 1, 10, 0);
+
+    @Param({"100", "1000"})
+    public int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RatingServiceImpl ratingService;
+    private MatchImportServiceImpl importService;
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:import;MODE=MySQL", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table matches (match_id bigint auto_increment primary key, player1_id bigint not null, "
+                + "player2_id bigint not null, referee_id bigint, tournament_id bigint not null, court_number int, start_date timestamp)");
+        jdbcTemplate.execute("create table match_sets (match_id bigint not null, player1games int, player2games int)");
+        jdbcTemplate.execute("create table player_standings (tournament_id bigint not null, player_id bigint not null, "
+                + "matches_played int not null, wins int not null, losses int not null, sets_won int not null, "
+                + "sets_lost int not null, games_won int not null, games_lost int not null, primary key (tournament_id, player_id))");
+        jdbcTemplate.execute("create table player_ratings (player_id bigint primary key, rating double not null, rated_matches int not null)");
+        jdbcTemplate.execute("create table match_ratings (match_id bigint primary key, player1_id bigint not null, "
+                + "player2_id bigint not null, rating_change double not null)");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        UserRepository userRepository = StubRepositories.stub(UserRepository.class)
+                .on("findIdsByUsernameIn", args -> {
+                    List<UsernameIdRow> rows = new ArrayList<>();
+                    for (Object username : (Collection<?>) args[0]) {
+                        rows.add(new UsernameIdRow((String) username, Long.parseLong(((String) username).substring(1))));
+                    }
+                    return rows;
+                })
+                .build();
+        TournamentRepository tournamentRepository = StubRepositories.stub(TournamentRepository.class)
+                .on("findIdsByIdIn", args -> List.copyOf((Collection<?>) args[0]))
+                .build();
+        StandingsServiceImpl standingsService = new StandingsServiceImpl(
+                StubRepositories.stub(PlayerStandingRepository.class).build(), StubRepositories.stub(MatchRepository.class).build(),
+                tournamentRepository, userRepository, jdbcTemplate, transactionManager, 2, 1);
+        ratingService = new RatingServiceImpl(StubRepositories.stub(PlayerRatingRepository.class).build(), userRepository,
+                jdbcTemplate, transactionManager, 1500, 32, 2);
+        importService = new MatchImportServiceImpl(userRepository, tournamentRepository, jdbcTemplate,
+                standingsService, ratingService, new ObjectMapper().findAndRegisterModules(), batchSize);
+
+        StringBuilder builder = new StringBuilder("player1,player2,referee,tournamentId,court,startDate,sets\n");
+        for (int i = 0; i < ROWS; i++) {
+            builder.append('p').append(i % PLAYERS).append(",p").append((i + 1) % PLAYERS)
+                    .append(",r").append(100_000 + i % 8).append(",1,").append(1 + i % 12).append(',')
+                    .append(FIRST_MATCH.plusMinutes(90L * (i / 12))).append(",6-4 | 3-6 | 7-5\n");
+        }
+        csv = builder.toString();
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyTables() {
+        jdbcTemplate.execute("truncate table match_sets");
+        jdbcTemplate.execute("truncate table matches");
+        jdbcTemplate.execute("truncate table player_standings");
+        jdbcTemplate.execute("truncate table match_ratings");
+        jdbcTemplate.execute("truncate table player_ratings");
+        // with no matches left this only resets the in-memory ratings
+        ratingService.rebuild();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public MatchImportResultDTO importCsv() {
+        // ratings are written when the transaction commits, as they are behind the service's @Transactional
+        return transactionTemplate.execute(status -> importService.importCsv(new StringReader(csv)));
+    }
+}
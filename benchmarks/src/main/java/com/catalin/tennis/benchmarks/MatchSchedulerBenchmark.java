@@ -0,0 +1,68 @@
+package com.catalin.tennis.benchmarks;
+
+import com.catalin.tennis.engine.MatchScheduler;
+import com.catalin.tennis.engine.Schedule;
+import com.catalin.tennis.engine.SchedulingProblem;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Court/time/referee assignment for a two-week tournament where every player has several matches,
+ * comparing a single greedy run against the parallel portfolio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchSchedulerBenchmark {
+
+    private static final LocalDateTime FIRST_DAY = LocalDateTime.of(2030, 6, 1, 10, 0);
+    private static final Duration MATCH = Duration.ofMinutes(120);
+
+    @Param({"512", "1024"})
+    public int matchCount;
+
+    @Param({"1", "16"})
+    public int variants;
+
+    private SchedulingProblem problem;
+    private MatchScheduler scheduler;
+
+    @Setup
+    public void setUp() {
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (int day = 0; day < 14; day++) {
+            for (int slot = 0; slot < 6; slot++) {
+                slots.add(FIRST_DAY.plusDays(day).plus(MATCH.multipliedBy(slot)));
+            }
+        }
+        List<Long> referees = new ArrayList<>();
+        for (long r = 0; r < 24; r++) {
+            referees.add(100_000 + r);
+        }
+        problem = new SchedulingProblem(slots, MATCH, Duration.ofMinutes(60), 16, referees);
+
+        // round-robin style groups: each player ends up with about four matches
+        int players = matchCount / 2;
+        SplittableRandom random = new SplittableRandom(42);
+        for (int m = 0; m < matchCount; m++) {
+            long player1 = m % players;
+            long player2 = (player1 + 1 + random.nextInt(players - 1)) % players;
+            problem.addMatch(m + 1, player1, player2);
+        }
+        scheduler = new MatchScheduler(variants);
+    }
+
+    @Benchmark
+    public Schedule solve() {
+        return scheduler.solve(problem);
+    }
+}
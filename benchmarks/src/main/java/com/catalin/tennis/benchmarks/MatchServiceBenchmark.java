@@ -0,0 +1,90 @@
+package com.catalin.tennis.benchmarks;
+
+import com.catalin.tennis.benchmarks.fixtures.StubRepositories;
+import com.catalin.tennis.benchmarks.fixtures.SyntheticData;
+import com.catalin.tennis.cache.CacheRegistry;
+import com.catalin.tennis.dto.projection.MatchExportRow;
+import com.catalin.tennis.dto.projection.MatchSetRow;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.engine.RatingTable;
+import com.catalin.tennis.model.Match;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.repository.MatchRepository;
+import com.catalin.tennis.repository.TournamentRepository;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.StandingsService;
+import com.catalin.tennis.service.implementations.MatchServiceImpl;
+import com.catalin.tennis.service.implementations.TournamentServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Match listing (projection rows plus batched sets) and CSV export over an in-memory
+ * tournament, with the repository layer stubbed out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchServiceBenchmark {
+
+    private static final long TOURNAMENT_ID = 1L;
+
+    @Param({"64", "1024"})
+    public int matchCount;
+
+    private MatchServiceImpl matchService;
+
+    @Setup
+    public void setUp() {
+        Tournament tournament = SyntheticData.tournament(TOURNAMENT_ID);
+        List<Match> matches = SyntheticData.matches(tournament, matchCount);
+        List<MatchExportRow> exportRows = SyntheticData.exportRows(matches);
+        List<MatchSetRow> setRows = SyntheticData.setRows(matches);
+
+        MatchRepository matchRepository = StubRepositories.stub(MatchRepository.class)
+                // projection queries return fresh rows on every call, like the database would
+                .on("findMatchDTOsByTournamentId", args -> SyntheticData.matchRows(matches))
+                .on("findSetRowsByTournamentId", args -> setRows)
+                .on("streamExportRowsByTournamentId", args -> exportRows.stream())
+                .build();
+        UserRepository userRepository = StubRepositories.stub(UserRepository.class).build();
+        TournamentRepository tournamentRepository = StubRepositories.stub(TournamentRepository.class).build();
+        // listings read ratings from the in-memory table, as the real service does
+        RatingTable ratings = new RatingTable(1500, matchCount);
+        for (Match m : matches) {
+            ratings.add(m.getPlayer1().getId(), 8, 1);
+            ratings.add(m.getPlayer2().getId(), -8, 1);
+        }
+        RatingService ratingService = StubRepositories.stub(RatingService.class)
+                .on("getRating", args -> (int) Math.round(ratings.ratingOf((Long) args[0])))
+                .build();
+
+        matchService = new MatchServiceImpl(matchRepository, userRepository, tournamentRepository,
+                new TournamentServiceImpl(tournamentRepository, new CacheRegistry(), 1, 300),
+                StubRepositories.stub(StandingsService.class).build(), ratingService, event -> { });
+    }
+
+    @Benchmark
+    public List<MatchResponseDTO> getMatchesByTournament() {
+        return matchService.getMatchesByTournament(TOURNAMENT_ID);
+    }
+
+    @Benchmark
+    public byte[] exportMatchesToCsvByTournament() {
+        return matchService.exportMatchesToCsvByTournament(TOURNAMENT_ID);
+    }
+
+    /** The streaming export as used by the controller, writing into a discarding stream. */
+    @Benchmark
+    public void exportMatchesToCsvStreaming() throws IOException {
+        matchService.exportMatchesToCsvByTournament(TOURNAMENT_ID, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,162 @@
+package com.catalin.tennis.benchmarks;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Blocking request handling with {@code clients} concurrent requests in flight. The requests are served either
+ * by a platform thread pool the size of Tomcat's default (200 threads) or by a virtual thread per request, as
+ * with {@code execution.virtual-threads}.
+ * <p>
+ * Each request borrows a pooled H2 connection and waits one simulated database round trip before its query.
+ * The wait happens inside {@code synchronized}, as Connector/J 8.0 does, so it pins a virtual thread's carrier.
+ * The request then waits on simulated client I/O with the connection returned. The {@code requests} counter
+ * reports requests per second. The latency percentiles of every request, queueing included, are printed at the
+ * end of each iteration. To see the effect of the carrier count, run with
+ * {@code -jvmArgsAppend -Djdk.virtualThreadScheduler.parallelism=N}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int PLAYERS = 1_000;
+    private static final String QUERY = "select match_id, start_date from matches where player1_id = ? order by start_date";
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"1000", "5000", "10000"})
+    public int clients;
+
+    @Param({"10"})
+    public int poolSize;
+
+    @Param({"2"})
+    public int databaseRoundTripMs;
+
+    // long enough that 200 platform threads, not the connection pool, limit the platform runs
+    @Param({"100"})
+    public int clientIoMs;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+    private final List<long[]> latencies = new ArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+        public long requests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            requests = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:threading;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        config.setConnectionTimeout(60_000);
+        dataSource = new HikariDataSource(config);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table matches (match_id bigint auto_increment primary key, "
+                    + "player1_id bigint not null, start_date timestamp)");
+            statement.execute("create index idx_matches_player1_start on matches (player1_id, start_date)");
+            statement.execute("insert into matches (player1_id, start_date) select mod(x, " + PLAYERS + "), "
+                    + "dateadd('MINUTE', x, timestamp '2030-06-01 10:00:00') from system_range(1, 20000)");
+        }
+        executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        latencies.clear();
+        failures.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportLatencies() {
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        if (all.length > 0) {
+            System.out.printf("%n  requests=%d  p50=%.1f ms  p99=%.1f ms  max=%.1f ms  failed=%d%n", all.length,
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6, failures.get());
+        }
+    }
+
+    /** One wave of {@code clients} simultaneous requests; completes when the last response is sent. */
+    @Benchmark
+    public void concurrentRequests(Requests requests) throws InterruptedException {
+        long[] wave = new long[clients];
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            int client = i;
+            long submitted = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    wave[client] = System.nanoTime() - submitted;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        latencies.add(wave);
+        requests.requests += clients;
+    }
+
+    private void handleRequest() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(QUERY)) {
+            statement.setLong(1, ThreadLocalRandom.current().nextInt(PLAYERS));
+            synchronized (connection) {
+                Thread.sleep(databaseRoundTripMs);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getLong(1);
+                    }
+                }
+            }
+        }
+        Thread.sleep(clientIoMs);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+}
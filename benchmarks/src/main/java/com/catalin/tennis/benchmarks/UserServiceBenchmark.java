@@ -0,0 +1,59 @@
+package com.catalin.tennis.benchmarks;
+
+import com.catalin.tennis.benchmarks.fixtures.StubRepositories;
+import com.catalin.tennis.benchmarks.fixtures.SyntheticData;
+import com.catalin.tennis.dto.request.LoginDTO;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+import com.catalin.tennis.repository.UserRepository;
+import com.catalin.tennis.security.JwtUtil;
+import com.catalin.tennis.service.RatingService;
+import com.catalin.tennis.service.RefreshTokenService;
+import com.catalin.tennis.service.implementations.UserServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code UserServiceImpl.login}: a bcrypt check plus token issuing, with the user lookup stubbed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private static final String PASSWORD = "benchmark-password";
+
+    private UserServiceImpl userService;
+    private LoginDTO loginDTO;
+
+    @Setup
+    public void setUp() {
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        User user = SyntheticData.user(1L, "player1", UserRoles.TENNIS_PLAYER, hash);
+
+        UserRepository userRepository = StubRepositories.stub(UserRepository.class)
+                .on("findByUsername", args -> Optional.of(user))
+                .build();
+
+        // issuing the refresh token is a database insert, which this benchmark leaves out
+        RefreshTokenService refreshTokenService = StubRepositories.stub(RefreshTokenService.class)
+                .on("issue", args -> "refresh-token")
+                .build();
+
+        userService = new UserServiceImpl(userRepository, new JwtUtil(),
+                StubRepositories.stub(RatingService.class).build(), refreshTokenService);
+        loginDTO = new LoginDTO(user.getUsername(), PASSWORD);
+    }
+
+    @Benchmark
+    public Map<String, String> login() {
+        return userService.login(loginDTO);
+    }
+}
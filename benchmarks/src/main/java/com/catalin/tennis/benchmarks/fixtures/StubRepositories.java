@@ -0,0 +1,55 @@
+package com.catalin.tennis.benchmarks.fixtures;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds in-memory stand-ins for the Spring Data repositories, so the services can be
+ * benchmarked without a database. Only the methods registered with {@link Builder#on}
+ * are answered; anything else fails loudly instead of silently returning null.
+ */
+public final class StubRepositories {
+
+    private StubRepositories() {
+    }
+
+    public static <R> Builder<R> stub(Class<R> repositoryType) {
+        return new Builder<>(repositoryType);
+    }
+
+    public static final class Builder<R> {
+        private final Class<R> repositoryType;
+        private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+        private Builder(Class<R> repositoryType) {
+            this.repositoryType = repositoryType;
+        }
+
+        public Builder<R> on(String methodName, Function<Object[], Object> answer) {
+            answers.put(methodName, answer);
+            return this;
+        }
+
+        public R build() {
+            Object proxy = Proxy.newProxyInstance(
+                    repositoryType.getClassLoader(),
+                    new Class<?>[]{repositoryType},
+                    (self, method, args) -> {
+                        Function<Object[], Object> answer = answers.get(method.getName());
+                        if (answer != null) {
+                            return answer.apply(args);
+                        }
+                        return switch (method.getName()) {
+                            case "toString" -> "Stub" + repositoryType.getSimpleName();
+                            case "hashCode" -> System.identityHashCode(self);
+                            case "equals" -> self == args[0];
+                            default -> throw new UnsupportedOperationException(
+                                    repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+                        };
+                    });
+            return repositoryType.cast(proxy);
+        }
+    }
+}
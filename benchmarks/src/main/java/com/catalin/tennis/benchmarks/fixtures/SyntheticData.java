@@ -0,0 +1,128 @@
+package com.catalin.tennis.benchmarks.fixtures;
+
+import com.catalin.tennis.dto.projection.MatchExportRow;
+import com.catalin.tennis.dto.projection.MatchSetRow;
+import com.catalin.tennis.dto.response.MatchResponseDTO;
+import com.catalin.tennis.model.Match;
+import com.catalin.tennis.model.SetScore;
+import com.catalin.tennis.model.Tournament;
+import com.catalin.tennis.model.User;
+import com.catalin.tennis.model.enums.UserRoles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic in-memory {@link Match}/{@link Tournament}/{@link User} graphs shaped like
+ * a real tournament day: a pool of players, a handful of referees and matches with 2-3 sets.
+ */
+public final class SyntheticData {
+
+    private static final LocalDateTime FIRST_MATCH = LocalDateTime.of(2030, 6, 1, 10, 0);
+
+    private SyntheticData() {
+    }
+
+    public static Tournament tournament(long id) {
+        Tournament tournament = Tournament.builder()
+                .name("Synthetic Open " + id)
+                .startDate(LocalDate.of(2030, 6, 1))
+                .endDate(LocalDate.of(2030, 6, 14))
+                .registrationDeadline(LocalDate.of(2030, 5, 25))
+                .maxParticipants(256)
+                .build();
+        tournament.setId(id);
+        return tournament;
+    }
+
+    public static User user(long id, String username, UserRoles role, String passwordHash) {
+        User user = User.builder()
+                .username(username)
+                .name("User " + id)
+                .role(role)
+                .passwordHash(passwordHash)
+                .createdAt(FIRST_MATCH.minusYears(1))
+                .build();
+        user.setId(id);
+        return user;
+    }
+
+    public static List<Match> matches(Tournament tournament, int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        int playerCount = Math.max(2, count);
+        List<User> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(user(i + 1, "player" + i, UserRoles.TENNIS_PLAYER, "x"));
+        }
+        List<User> referees = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            referees.add(user(100_000 + i, "referee" + i, UserRoles.REFEREE, "x"));
+        }
+
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User player1 = players.get(i % playerCount);
+            User player2 = players.get((i + 1) % playerCount);
+            Match match = Match.builder()
+                    .player1(player1)
+                    .player2(player2)
+                    .referee(referees.get(i % referees.size()))
+                    .tournament(tournament)
+                    .sets(sets(random))
+                    .courtNumber(1 + i % 12)
+                    .startDate(FIRST_MATCH.plusMinutes(90L * (i / 12)))
+                    .build();
+            match.setId((long) i + 1);
+            matches.add(match);
+        }
+        return matches;
+    }
+
+    /** The rows the CSV export query would return for {@code matches}: one per set. */
+    public static List<MatchExportRow> exportRows(List<Match> matches) {
+        List<MatchExportRow> rows = new ArrayList<>();
+        for (Match m : matches) {
+            for (SetScore set : m.getSets()) {
+                rows.add(new MatchExportRow(m.getId(), m.getPlayer1().getUsername(), m.getPlayer2().getUsername(),
+                        m.getReferee().getUsername(), m.getCourtNumber(), m.getStartDate(),
+                        set.getPlayer1Games(), set.getPlayer2Games()));
+            }
+        }
+        return rows;
+    }
+
+    /** The rows the listing projection query would return for {@code matches}, without sets. */
+    public static List<MatchResponseDTO> matchRows(List<Match> matches) {
+        List<MatchResponseDTO> rows = new ArrayList<>(matches.size());
+        for (Match m : matches) {
+            rows.add(new MatchResponseDTO(m.getId(), m.getPlayer1().getId(), m.getPlayer1().getUsername(),
+                    m.getPlayer2().getId(), m.getPlayer2().getUsername(), m.getReferee().getUsername(), m.getTournament().getName(), m.getCourtNumber(), m.getStartDate()));
+        }
+        return rows;
+    }
+
+    /** The rows the batched set query would return for {@code matches}. */
+    public static List<MatchSetRow> setRows(List<Match> matches) {
+        List<MatchSetRow> rows = new ArrayList<>();
+        for (Match m : matches) {
+            for (SetScore set : m.getSets()) {
+                rows.add(new MatchSetRow(m.getId(), set.getPlayer1Games(), set.getPlayer2Games()));
+            }
+        }
+        return rows;
+    }
+
+    private static List<SetScore> sets(SplittableRandom random) {
+        int setCount = 2 + random.nextInt(2);
+        List<SetScore> sets = new ArrayList<>(setCount);
+        for (int s = 0; s < setCount; s++) {
+            boolean player1Wins = random.nextBoolean();
+            int loserGames = random.nextInt(5);
+            sets.add(player1Wins ? new SetScore(6, loserGames) : new SetScore(loserGames, 6));
+        }
+        return sets;
+    }
+}
@@ -1,6 +1,7 @@
-import React from 'react';
+import React, { useEffect } from 'react';
 import { Routes, Route, Navigate } from 'react-router-dom';
-import { isAuthenticated, hasRole, ROLES } from './utils/auth';
+import { isAuthenticated, hasRole, ROLES, getCurrentUser, setUserData, clearUserData } from './utils/auth';
+import { refreshSession } from './services/api';
 
 // Auth components
 import Login from './components/Auth/Login';
@@ -51,7 +52,25 @@ const ProtectedRoute = ({ children, allowedRoles }) => {
     );
 };
 
+// Access tokens last an hour; renew them with the refresh token well before that instead of a new login
+const SESSION_REFRESH_MS = 45 * 60 * 1000;
+
 const App = () => {
+    useEffect(() => {
+        const timer = setInterval(async () => {
+            const { refreshToken } = getCurrentUser();
+            if (!refreshToken) {
+                return;
+            }
+            try {
+                setUserData(await refreshSession(refreshToken));
+            } catch (err) {
+                clearUserData();
+            }
+        }, SESSION_REFRESH_MS);
+        return () => clearInterval(timer);
+    }, []);
+
     return (
         <Routes>
             {/* Public routes */}
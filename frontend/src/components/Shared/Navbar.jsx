@@ -1,7 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { Link, useNavigate } from 'react-router-dom';
 import { ROLES, clearUserData, getCurrentUser } from '../../utils/auth';
-import { getUserNotifications } from '../../services/api';
+import { getUnreadNotificationCount, logout } from '../../services/api';
 import './Shared.css';
 
 const Navbar = () => {
@@ -20,15 +20,22 @@ const Navbar = () => {
 
     const fetchNotifications = async (username, token) => {
         try {
-            const notifications = await getUserNotifications(username, token);
-            const unread = notifications.filter(n => !n.read).length;
-            setUnreadCount(unread);
+            const { unreadCount } = await getUnreadNotificationCount(username, token);
+            setUnreadCount(unreadCount);
         } catch (err) {
             console.error('Failed to fetch notifications');
         }
     };
 
-    const handleLogout = () => {
+    const handleLogout = async () => {
+        const { refreshToken } = getCurrentUser();
+        if (refreshToken) {
+            try {
+                await logout(refreshToken);
+            } catch (err) {
+                console.error('Failed to end the session on the server');
+            }
+        }
         clearUserData();
         navigate('/login');
     };
@@ -39,6 +39,25 @@ export const login = async (credentials) => {
     return handleResponse(response);
 };
 
+// Trades the refresh token for a new access token and a new refresh token; the old one stops working
+export const refreshSession = async (refreshToken) => {
+    const response = await fetch(`${API_BASE_URL}/auth/refresh`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ refreshToken })
+    });
+    return handleResponse(response);
+};
+
+export const logout = async (refreshToken) => {
+    const response = await fetch(`${API_BASE_URL}/auth/logout`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ refreshToken })
+    });
+    return handleResponse(response);
+};
+
 export const register = async (userData) => {
     const response = await fetch(`${API_BASE_URL}/auth/register`, {
         method: 'POST',
@@ -252,6 +271,12 @@ export const getUserNotifications = async (username, token) => {
     });
     return handleResponse(response);
 };
+export const getUnreadNotificationCount = async (username, token) => {
+    const response = await fetch(`${API_BASE_URL}/notifications/user/${username}/unread-count`, {
+        headers: { 'Authorization': `Bearer ${token}` }
+    });
+    return handleResponse(response);
+};
 export const markNotificationAsRead = async (notificationId, token) => {
     const response = await fetch(`${API_BASE_URL}/notifications/mark-as-read/${notificationId}`, {
         method: 'POST',
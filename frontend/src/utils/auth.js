@@ -8,6 +8,7 @@ export const ROLES = {
 // Store user data in sessionStorage
 export const setUserData = (data) => {
     sessionStorage.setItem('token', data.token);
+    sessionStorage.setItem('refreshToken', data.refreshToken);
     sessionStorage.setItem('username', data.username);
     sessionStorage.setItem('role', data.role);
 };
@@ -15,6 +16,7 @@ export const setUserData = (data) => {
 // Clear user data from sessionStorage
 export const clearUserData = () => {
     sessionStorage.removeItem('token');
+    sessionStorage.removeItem('refreshToken');
     sessionStorage.removeItem('username');
     sessionStorage.removeItem('role');
 };
@@ -23,6 +25,7 @@ export const clearUserData = () => {
 export const getCurrentUser = () => {
     return {
         token: sessionStorage.getItem('token') || '',
+        refreshToken: sessionStorage.getItem('refreshToken') || '',
         role: sessionStorage.getItem('role') || '',
         username: sessionStorage.getItem('username') || ''
     };
@@ -0,0 +1,73 @@
+package com.catalin.tennis.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/** Blocking JSON calls against the API; safe to share between any number of virtual threads. */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final String baseUrl;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    record Response(int status, String body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    Response send(String method, String path, String body, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(body));
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    /** Sends {@code payload} as JSON and returns the parsed response; any non-2xx status is an error. */
+    JsonNode call(String method, String path, Object payload, String token) throws IOException, InterruptedException {
+        Response response = send(method, path, objectMapper.writeValueAsString(payload), token);
+        if (!response.ok()) {
+            throw new IOException(method + " " + path + " returned " + response.status() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    String login(String username, String password) throws IOException, InterruptedException {
+        return call("POST", "/api/auth/login", Map.of("username", username, "password", password), null)
+                .path("token").asText();
+    }
+
+    String tokenOf(Response response) throws IOException {
+        return objectMapper.readTree(response.body()).path("token").asText();
+    }
+}
@@ -0,0 +1,49 @@
+package com.catalin.tennis.loadtest;
+
+import com.catalin.tennis.TennisMatchApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The backend started in this JVM on a random port, with an in-memory H2 database in MySQL mode migrated by
+ * the same Flyway scripts as production. SQL and debug logging are off so they do not skew the latencies.
+ * Extra {@code --key=value} arguments are passed through as application properties, e.g.
+ * {@code --execution.virtual-threads=true}.
+ */
+final class EmbeddedBackend implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedBackend(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static EmbeddedBackend start(Map<String, String> overrides) {
+        // passed as command line arguments, which override the backend's own application.properties
+        Map<String, String> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.com.catalin.tennis", "INFO");
+        properties.putAll(overrides);
+
+        return new EmbeddedBackend(SpringApplication.run(TennisMatchApplication.class, properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new)));
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,71 @@
+package com.catalin.tennis.loadtest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The users, tournament and matches a run plays against, created through the public API so the same seeding
+ * works for the embedded backend and for a deployed one. Names carry a per-run prefix, so repeated runs against
+ * one database do not collide. Every user is logged in once here; the load then reuses those tokens.
+ */
+record Fixture(long tournamentId, List<Long> matchIds, List<VirtualUser> players, List<VirtualUser> referees) {
+
+    static final String PASSWORD = "loadtest-password";
+
+    record VirtualUser(String username, String token) {
+    }
+
+    VirtualUser randomUser(String role) {
+        List<VirtualUser> users = role.equals("referee") ? referees : players;
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    long randomMatchId() {
+        return matchIds.get(ThreadLocalRandom.current().nextInt(matchIds.size()));
+    }
+
+    static Fixture seed(ApiClient api, Scenario.Seed seed) throws IOException, InterruptedException {
+        if (seed.players() < 2 || seed.referees() < 1 || seed.matches() < 1) {
+            throw new IllegalArgumentException("A scenario needs at least 2 players, 1 referee and 1 match");
+        }
+        String prefix = "lt" + Long.toString(System.currentTimeMillis(), 36);
+        List<VirtualUser> players = new ArrayList<>(seed.players());
+        for (int i = 0; i < seed.players(); i++) {
+            String username = prefix + "p" + i;
+            api.call("POST", "/api/auth/register", Map.of("username", username, "password", PASSWORD, "name", "Player " + i), null);
+            players.add(new VirtualUser(username, api.login(username, PASSWORD)));
+        }
+        String adminToken = players.get(0).token();
+        List<VirtualUser> referees = new ArrayList<>(seed.referees());
+        for (int i = 0; i < seed.referees(); i++) {
+            String username = prefix + "r" + i;
+            api.call("POST", "/api/users", Map.of("username", username, "password", PASSWORD, "name", "Referee " + i,
+                    "role", "REFEREE"), adminToken);
+            referees.add(new VirtualUser(username, api.login(username, PASSWORD)));
+        }
+
+        LocalDate today = LocalDate.now();
+        long tournamentId = api.call("POST", "/api/tournaments", Map.of("name", prefix + " Open",
+                "startDate", today.toString(), "endDate", today.plusDays(7).toString(),
+                "registrationDeadline", today.toString(), "maxParticipants", seed.players()), adminToken)
+                .path("id").asLong();
+        List<Long> matchIds = new ArrayList<>(seed.matches());
+        LocalDateTime firstStart = LocalDateTime.now().plusDays(1).withNano(0);
+        for (int i = 0; i < seed.matches(); i++) {
+            matchIds.add(api.call("POST", "/api/matches", Map.of(
+                    "player1Username", players.get((2 * i) % players.size()).username(),
+                    "player2Username", players.get((2 * i + 1) % players.size()).username(),
+                    "refereeUsername", referees.get(i % referees.size()).username(),
+                    "tournamentId", tournamentId,
+                    "courtNumber", 1 + i % 8,
+                    "startDate", firstStart.plusMinutes(90L * (i / 8)).toString()), adminToken)
+                    .path("matchId").asLong());
+        }
+        return new Fixture(tournamentId, List.copyOf(matchIds), List.copyOf(players), List.copyOf(referees));
+    }
+}
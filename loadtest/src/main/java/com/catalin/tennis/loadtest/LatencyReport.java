@@ -0,0 +1,130 @@
+package com.catalin.tennis.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies per flow step in HdrHistograms, in microseconds with three significant digits. The first step of an
+ * arrival is timed from its scheduled start, not from when a thread got to send it, so a server that falls
+ * behind shows up as latency instead of silently lowering the offered load (coordinated omission).
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = 120_000_000L;
+
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private final Map<String, LongAdder> dropped = new LinkedHashMap<>();
+
+    static final class StepStats {
+        final Scenario.Step step;
+        final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        volatile String lastError;
+
+        StepStats(Scenario.Step step) {
+            this.step = step;
+        }
+
+        void record(long micros, boolean ok, String error) {
+            histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (!ok) {
+                errors.increment();
+                lastError = error;
+            }
+        }
+    }
+
+    LatencyReport(Scenario scenario) {
+        for (Scenario.Flow flow : scenario.flows()) {
+            dropped.put(flow.name(), new LongAdder());
+            for (int i = 0; i < flow.steps().size(); i++) {
+                steps.put(key(flow, i), new StepStats(flow.steps().get(i)));
+            }
+        }
+    }
+
+    static String key(Scenario.Flow flow, int stepIndex) {
+        return flow.name() + " " + flow.steps().get(stepIndex).label();
+    }
+
+    StepStats step(Scenario.Flow flow, int stepIndex) {
+        return steps.get(key(flow, stepIndex));
+    }
+
+    /** An arrival that was not started because {@code maxInFlight} requests were already outstanding. */
+    void dropped(Scenario.Flow flow) {
+        dropped.get(flow.name()).increment();
+    }
+
+    void print(PrintStream out, int durationSeconds) {
+        out.printf("%-60s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        steps.forEach((name, stats) -> {
+            Histogram h = stats.histogram;
+            out.printf("%-60s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name, h.getTotalCount(),
+                    stats.errors.sum(), h.getTotalCount() / (double) durationSeconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+        });
+        dropped.forEach((flow, count) -> {
+            if (count.sum() > 0) {
+                out.printf("%s: %d arrivals dropped, too many requests in flight%n", flow, count.sum());
+            }
+        });
+        steps.forEach((name, stats) -> {
+            if (stats.lastError != null) {
+                out.printf("%s: last error: %s%n", name, stats.lastError);
+            }
+        });
+    }
+
+    /** Writes each step's full percentile distribution as an {@code .hgrm} file (values in milliseconds). */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, StepStats> entry : steps.entrySet()) {
+            Path file = directory.resolve(entry.getKey().replaceAll("[^A-Za-z0-9.-]+", "_") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    /** The limits of the scenario that this run broke; empty when it passed. */
+    List<String> violations(Scenario scenario) {
+        List<String> violations = new ArrayList<>();
+        long requests = 0;
+        long failed = 0;
+        for (Map.Entry<String, StepStats> entry : steps.entrySet()) {
+            StepStats stats = entry.getValue();
+            requests += stats.histogram.getTotalCount();
+            failed += stats.errors.sum();
+            double p99 = millis(stats.histogram.getValueAtPercentile(99));
+            if (stats.step.p99Millis() > 0 && p99 > stats.step.p99Millis()) {
+                violations.add(String.format("%s: p99 %.2f ms is above %.2f ms", entry.getKey(), p99, stats.step.p99Millis()));
+            }
+        }
+        for (LongAdder count : dropped.values()) {
+            requests += count.sum();
+            failed += count.sum();
+        }
+        double errorRate = requests == 0 ? 0 : failed / (double) requests;
+        if (errorRate > scenario.maxErrorRate()) {
+            violations.add(String.format("error rate %.4f is above %.4f", errorRate, scenario.maxErrorRate()));
+        }
+        return violations;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.catalin.tennis.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: one scheduler thread per flow starts arrivals at the flow's rate, each on its own virtual
+ * thread, without waiting for earlier arrivals to finish. Arrivals during the warm-up run but are not recorded.
+ */
+final class LoadGenerator {
+
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(35);
+
+    private final ApiClient api;
+    private final Fixture fixture;
+    private final LatencyReport report;
+    private final double rateScale;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    LoadGenerator(ApiClient api, Fixture fixture, LatencyReport report, double rateScale, int maxInFlight) {
+        this.api = api;
+        this.fixture = fixture;
+        this.report = report;
+        this.rateScale = rateScale;
+        this.maxInFlight = maxInFlight;
+    }
+
+    void run(Scenario scenario, int durationSeconds) throws InterruptedException {
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(scenario.warmupSeconds());
+        long end = recordFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<Thread> schedulers = new ArrayList<>();
+        for (Scenario.Flow flow : scenario.flows()) {
+            double rate = flow.arrivalsPerSecond() * rateScale;
+            if (rate <= 0) {
+                continue;
+            }
+            schedulers.add(Thread.ofPlatform().name("arrivals-" + flow.name())
+                    .start(() -> schedule(flow, rate, start, recordFrom, end)));
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void schedule(Scenario.Flow flow, double rate, long start, long recordFrom, long end) {
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            long scheduledAt = next;
+            boolean recorded = scheduledAt >= recordFrom;
+            if (inFlight.get() >= maxInFlight) {
+                if (recorded) {
+                    report.dropped(flow);
+                }
+            } else {
+                inFlight.incrementAndGet();
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        arrive(flow, scheduledAt, recorded);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            double gap = flow.poisson()
+                    ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos
+                    : meanGapNanos;
+            next += (long) gap;
+        }
+    }
+
+    private void arrive(Scenario.Flow flow, long scheduledAt, boolean recorded) {
+        Fixture.VirtualUser user = fixture.randomUser(flow.role());
+        String token = user.token();
+        for (int i = 0; i < flow.steps().size(); i++) {
+            Scenario.Step step = flow.steps().get(i);
+            long stepStart = i == 0 ? scheduledAt : System.nanoTime();
+            boolean ok;
+            String error = null;
+            try {
+                ApiClient.Response response = api.send(step.method(), resolve(step.path(), user),
+                        step.body() == null ? null : resolve(step.body(), user), token);
+                ok = response.ok();
+                if (!ok) {
+                    error = response.status() + " " + response.body();
+                } else if (step.login()) {
+                    token = api.tokenOf(response);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                ok = false;
+                error = e.toString();
+            }
+            if (recorded) {
+                report.step(flow, i).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - stepStart), ok, error);
+            }
+            if (!ok) {
+                // the later steps of a flow depend on the earlier ones
+                return;
+            }
+        }
+    }
+
+    private String resolve(String template, Fixture.VirtualUser user) {
+        return template
+                .replace("{tournamentId}", Long.toString(fixture.tournamentId()))
+                .replace("{matchId}", Long.toString(fixture.randomMatchId()))
+                .replace("{username}", user.username())
+                .replace("{password}", Fixture.PASSWORD)
+                .replace("{games}", Integer.toString(ThreadLocalRandom.current().nextInt(8)));
+    }
+}
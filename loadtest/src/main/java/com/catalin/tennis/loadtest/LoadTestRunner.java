@@ -0,0 +1,71 @@
+package com.catalin.tennis.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Entry point of {@code loadtest.jar}:
+ * <pre>
+ * java -jar target/loadtest.jar scenarios/tournament-day.json [--base-url=http://host:9090] [--duration=seconds]
+ *      [--rate-scale=factor] [--max-in-flight=requests] [--out=directory] [--backend.property=value ...]
+ * </pre>
+ * Without {@code --base-url} the backend is started in this JVM on an in-memory database; any other
+ * {@code --key=value} is passed to it as an application property. The run seeds its data through the API, applies
+ * the scenario's load, prints the latency table and writes one {@code .hgrm} file per step. It exits with status 1
+ * when a step's p99 or the error rate is over the scenario's limits, so a capacity regression fails a build.
+ */
+public final class LoadTestRunner {
+
+    private static final Set<String> OPTIONS = Set.of("base-url", "duration", "rate-scale", "max-in-flight", "out");
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.err.println("usage: loadtest <scenario.json> [--base-url=URL] [--duration=S] [--rate-scale=X] "
+                    + "[--max-in-flight=N] [--out=DIR] [--backend.property=value ...]");
+            System.exit(2);
+        }
+        Scenario scenario = Scenario.read(Path.of(args[0]));
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> backendProperties = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            String[] option = args[i].replaceFirst("^--", "").split("=", 2);
+            String value = option.length == 2 ? option[1] : "true";
+            (OPTIONS.contains(option[0]) ? options : backendProperties).put(option[0], value);
+        }
+        int duration = Integer.parseInt(options.getOrDefault("duration", Integer.toString(scenario.durationSeconds())));
+        double rateScale = Double.parseDouble(options.getOrDefault("rate-scale", "1"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "20000"));
+        Path out = Path.of(options.getOrDefault("out", "target/loadtest-report"));
+
+        EmbeddedBackend backend = options.containsKey("base-url") ? null : EmbeddedBackend.start(backendProperties);
+        List<String> violations;
+        try {
+            String baseUrl = backend == null ? options.get("base-url") : backend.baseUrl();
+            ApiClient api = new ApiClient(baseUrl);
+            System.out.printf("Seeding %s for scenario '%s'%n", baseUrl, scenario.name());
+            Fixture fixture = Fixture.seed(api, scenario.seed());
+
+            System.out.printf("Running %ds of warm-up and %ds of load at %.2fx the scenario's rates%n",
+                    scenario.warmupSeconds(), duration, rateScale);
+            LatencyReport report = new LatencyReport(scenario);
+            new LoadGenerator(api, fixture, report, rateScale, maxInFlight).run(scenario, duration);
+
+            report.print(System.out, duration);
+            report.writeHistograms(out);
+            System.out.println("Percentile distributions written to " + out.toAbsolutePath());
+            violations = report.violations(scenario);
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+        }
+        violations.forEach(violation -> System.out.println("FAILED: " + violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.catalin.tennis.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A load scenario as read from a JSON file in {@code scenarios/}. Every flow is an open workload: arrivals start
+ * at {@code arrivalsPerSecond} whether or not earlier ones have finished, and each arrival runs the flow's steps
+ * in order as one seeded user of the flow's role.
+ * <p>
+ * Paths and bodies may use these placeholders: {@code {tournamentId}}, {@code {matchId}} (a random seeded
+ * match), {@code {username}} and {@code {password}} (the arrival's user) and {@code {games}} (a random set
+ * score from 0 to 7).
+ */
+public record Scenario(String name, int warmupSeconds, int durationSeconds, Seed seed, List<Flow> flows,
+                       double maxErrorRate) {
+
+    /** What the run creates through the API before the load starts. */
+    public record Seed(int players, int referees, int matches) {
+    }
+
+    /**
+     * @param role    {@code player} or {@code referee}; the arrival runs as one of the seeded users of that role
+     * @param arrival {@code poisson} (exponential gaps, the default) or {@code constant}
+     */
+    public record Flow(String name, String role, double arrivalsPerSecond, String arrival, List<Step> steps) {
+
+        boolean poisson() {
+            return arrival == null || arrival.equals("poisson");
+        }
+    }
+
+    /**
+     * @param login     the step is a login; the token it returns replaces the user's token for the following steps
+     * @param p99Millis the run fails if the step's p99 latency exceeds this; 0 for no limit
+     */
+    public record Step(String method, String path, String body, boolean login, double p99Millis) {
+
+        String label() {
+            return method + " " + path;
+        }
+    }
+
+    static Scenario read(Path file) throws IOException {
+        return new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true)
+                .readValue(file.toFile(), Scenario.class);
+    }
+}